@@ -0,0 +1,47 @@
+package com.example.restea.oauth2.jwt;
+
+import com.example.restea.oauth2.dto.JwtClaims;
+import com.example.restea.oauth2.dto.OAuth2JwtMemberDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+// 같은 AccessToken으로 여러 스레드가 반복해서 요청하는 상황에서 캐시 조회와 매번 서명을 검증하는 parseClaims를 비교한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class VerifiedTokenCacheBenchmark {
+
+    private static final String SECRET = "testSecretKeyForJwtUtilMustBeLongEnoughForHs256";
+
+    private JWTUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JWTUtil(SECRET, false);
+        accessToken = jwtUtil.createAccessToken(1, "nickname", "picture", "ROLE_USER");
+        JwtClaims claims = jwtUtil.parseClaims(accessToken);
+        verifiedTokenCache = new VerifiedTokenCache(10_000, new SimpleMeterRegistry());
+        verifiedTokenCache.put(accessToken, claims.toMemberDTO(), claims.getExpiredAt());
+    }
+
+    @Benchmark
+    public JwtClaims parseClaims() {
+        return jwtUtil.parseClaims(accessToken);
+    }
+
+    @Benchmark
+    public OAuth2JwtMemberDTO cachedGet() {
+        return verifiedTokenCache.get(accessToken);
+    }
+}
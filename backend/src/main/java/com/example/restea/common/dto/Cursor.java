@@ -0,0 +1,89 @@
+package com.example.restea.common.dto;
+
+import static com.example.restea.common.enums.PaginationMessage.PAGINATION_INVALID_CURSOR;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 커서 기반 페이지네이션에서 마지막으로 조회한 항목의 (정렬 기준 시각, id)를 담는 클래스. 클라이언트에는 Base64로 인코딩한 문자열로만 전달해서 내부 구조에 의존하지 않도록
+ * 한다.
+ */
+@Getter
+public class Cursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime dateTime;
+    private final Integer id;
+
+    private Cursor(LocalDateTime dateTime, Integer id) {
+        this.dateTime = dateTime;
+        this.id = id;
+    }
+
+    public static Cursor of(LocalDateTime dateTime, Integer id) {
+        return new Cursor(dateTime, id);
+    }
+
+    /**
+     * 클라이언트가 보낸 커서를 해석한다.
+     *
+     * @param cursor 인코딩된 커서
+     * @return 비어 있으면 첫 페이지를 뜻하는 null, 아니면 해석한 Cursor
+     */
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new IllegalArgumentException(decoded);
+            }
+            return new Cursor(LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                    Integer.parseInt(decoded.substring(delimiterIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, PAGINATION_INVALID_CURSOR.getMessage());
+        }
+    }
+
+    /**
+     * perPage + 1개를 조회한 결과로 다음 페이지의 커서를 만든다.
+     *
+     * @param fetched  perPage + 1개까지 조회한 결과
+     * @param perPage  페이지 당 항목 수
+     * @param cursorOf 항목에서 커서를 꺼내는 함수
+     * @return 다음 페이지가 없으면 null
+     */
+    public static <T> String next(List<T> fetched, int perPage, Function<T, Cursor> cursorOf) {
+        if (fetched.size() <= perPage) {
+            return null;
+        }
+        return cursorOf.apply(fetched.get(perPage - 1)).encode();
+    }
+
+    /**
+     * perPage + 1개를 조회한 결과에서 응답할 항목만 남긴다.
+     */
+    public static <T> List<T> content(List<T> fetched, int perPage) {
+        if (fetched.size() <= perPage) {
+            return fetched;
+        }
+        return fetched.subList(0, perPage);
+    }
+
+    public String encode() {
+        String raw = dateTime + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,16 +1,38 @@
 package com.example.restea.common.dto;
 
+import com.example.restea.search.dto.BoardSearchCondition;
+import java.time.LocalDate;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 
 @Getter
 @Setter
 @NoArgsConstructor
 public class PaginationAndSearchDto extends PaginationAndSortingDto {
 
-    private String searchBy; // 검색 기준 (제목: title, 작성자: writer, 내용: content)
+    private String searchBy; // 검색 기준 (제목+내용: all, 제목: title, 작성자: writer, 내용: content)
 
     private String keyword;  // 검색 내용
 
+    @DateTimeFormat(iso = ISO.DATE)
+    private LocalDate from; // 작성일 시작 (yyyy-MM-dd, 포함)
+
+    @DateTimeFormat(iso = ISO.DATE)
+    private LocalDate to; // 작성일 끝 (yyyy-MM-dd, 포함)
+
+    private boolean openOnly; // 마감되지 않은 글만 조회
+
+    public BoardSearchCondition toSearchCondition() {
+        return BoardSearchCondition.builder()
+                .sort(getSort())
+                .searchBy(searchBy)
+                .keyword(keyword)
+                .from(from)
+                .to(to)
+                .openOnly(openOnly)
+                .build();
+    }
 }
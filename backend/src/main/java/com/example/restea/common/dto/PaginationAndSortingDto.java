@@ -23,4 +23,6 @@ public class PaginationAndSortingDto {
     @Positive
     private Integer perPage; // 페이지 당 항목 수
 
+    private String cursor; // 커서 방식 조회 시 이전 응답의 nextCursor (빈 값이면 첫 페이지, 있으면 page는 무시)
+
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.example.restea.common.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -15,6 +16,10 @@ public class PaginationDTO {
     private int page;
     private int perPage;
 
+    // 커서 방식으로 조회했을 때만 내려가는 다음 페이지 커서 (마지막 페이지면 생략)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
     public static PaginationDTO of(int total, int page, int perPage) {
         return PaginationDTO.builder()
                 .total((total - 1) / perPage + 1)
@@ -23,11 +28,20 @@ public class PaginationDTO {
                 .build();
     }
 
+    // 커서 방식은 전체 개수를 세지 않으므로 total, page는 0으로 둔다.
+    public static PaginationDTO ofCursor(int perPage, String nextCursor) {
+        return PaginationDTO.builder()
+                .perPage(perPage)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     @Builder
-    public PaginationDTO(int total, int page, int perPage) {
+    public PaginationDTO(int total, int page, int perPage, String nextCursor) {
         this.total = total;
         this.page = page;
         this.perPage = perPage;
+        this.nextCursor = nextCursor;
     }
 
 }
@@ -0,0 +1,13 @@
+package com.example.restea.common.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum PaginationMessage {
+
+    PAGINATION_INVALID_CURSOR("올바르지 않은 커서입니다.");
+
+    private final String message;
+}
@@ -0,0 +1,37 @@
+package com.example.restea.common.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 서버 하나로 동시에 보내는 요청 수를 제한한다. 느려진 서버 하나가 요청 스레드를 전부 붙잡지 않도록, 자리가 나지 않으면 maxWaitMs 후에 실패한다.
+ */
+public class Bulkhead {
+
+    private final String target;
+    private final Semaphore permits;
+    private final long maxWaitMs;
+
+    public Bulkhead(String target, int maxConcurrent, long maxWaitMs) {
+        this.target = target;
+        this.permits = new Semaphore(maxConcurrent);
+        this.maxWaitMs = maxWaitMs;
+    }
+
+    public void acquire() throws IOException {
+        try {
+            if (!permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+                throw new IOException(target + " 요청이 너무 많습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(target + " 요청 대기 중 인터럽트");
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.restea.common.http;
+
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.handlers.HandlerContextKey;
+import com.amazonaws.handlers.RequestHandler2;
+
+// AWS SDK(S3) 요청의 지연 시간을 기록한다. 동시 요청 수는 ClientConfiguration의 maxConnections로 제한한다.
+public class OutboundAwsRequestHandler extends RequestHandler2 {
+
+    private static final HandlerContextKey<Long> START_NANOS = new HandlerContextKey<>("OutboundStartNanos");
+
+    private final String target;
+    private final OutboundHttpMetrics outboundHttpMetrics;
+
+    public OutboundAwsRequestHandler(String target, OutboundHttpMetrics outboundHttpMetrics) {
+        this.target = target;
+        this.outboundHttpMetrics = outboundHttpMetrics;
+    }
+
+    @Override
+    public void beforeRequest(Request<?> request) {
+        request.addHandlerContext(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterResponse(Request<?> request, Response<?> response) {
+        Long start = request.getHandlerContext(START_NANOS);
+        if (start != null) {
+            outboundHttpMetrics.record(target, response.getHttpResponse().getStatusCode(), start);
+        }
+    }
+
+    @Override
+    public void afterError(Request<?> request, Response<?> response, Exception e) {
+        Long start = request.getHandlerContext(START_NANOS);
+        if (start != null) {
+            outboundHttpMetrics.recordError(target, start);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.restea.common.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 HTTP 호출의 지연 시간을 대상(google, livekit, s3)별 히스토그램으로 기록한다. (outbound.http.requests)
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboundHttpMetrics {
+
+    public static final String METRIC_NAME = "outbound.http.requests";
+
+    private final MeterRegistry meterRegistry;
+
+    public void record(String target, int status, long startNanos) {
+        record(target, outcome(status), startNanos);
+    }
+
+    public void recordError(String target, long startNanos) {
+        record(target, "ERROR", startNanos);
+    }
+
+    private void record(String target, String outcome, long startNanos) {
+        Timer.builder(METRIC_NAME)
+                .tag("target", target)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private String outcome(int status) {
+        if (status >= 500) {
+            return "SERVER_ERROR";
+        }
+        if (status >= 400) {
+            return "CLIENT_ERROR";
+        }
+        return "SUCCESS";
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.restea.common.http;
+
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+// OkHttp(LiveKit SDK) 요청에 Bulkhead와 지연 시간 기록을 적용한다. 동기 호출(execute)은 Dispatcher의 제한을 받지 않으므로 여기서 제한한다.
+@RequiredArgsConstructor
+public class OutboundOkHttpInterceptor implements Interceptor {
+
+    private final String target;
+    private final Bulkhead bulkhead;
+    private final OutboundHttpMetrics outboundHttpMetrics;
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        bulkhead.acquire();
+        long start = System.nanoTime();
+        try {
+            Response response = chain.proceed(chain.request());
+            outboundHttpMetrics.record(target, response.code(), start);
+            return response;
+        } catch (IOException e) {
+            outboundHttpMetrics.recordError(target, start);
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.restea.common.http;
+
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+// RestTemplate 요청에 Bulkhead와 지연 시간 기록을 적용한다.
+@RequiredArgsConstructor
+public class OutboundRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private final String target;
+    private final Bulkhead bulkhead;
+    private final OutboundHttpMetrics outboundHttpMetrics;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        bulkhead.acquire();
+        long start = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            outboundHttpMetrics.record(target, response.getStatusCode().value(), start);
+            return response;
+        } catch (IOException e) {
+            outboundHttpMetrics.recordError(target, start);
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+}
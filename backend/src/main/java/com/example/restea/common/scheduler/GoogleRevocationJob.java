@@ -0,0 +1,81 @@
+package com.example.restea.common.scheduler;
+
+import com.example.restea.oauth2.entity.GoogleRevocation;
+import com.example.restea.oauth2.service.GoogleRevocationClient;
+import com.example.restea.oauth2.service.GoogleRevocationService;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * google_revocation outbox에 쌓인 구글 토큰 revoke 요청을 주기적으로 전달하는 작업. 요청 스레드 대신 크기가 제한된 전용 스레드 풀에서 구글을 호출한다. 배치가 끝날 때까지
+ * 기다리는 동안 스케줄러 스레드 하나를 점유하므로 SchedulingConfig의 스케줄러 풀에서 실행된다.
+ */
+@Slf4j
+@Component
+public class GoogleRevocationJob {
+
+    private final GoogleRevocationService googleRevocationService;
+    private final GoogleRevocationClient googleRevocationClient;
+    private final int batchSize;
+    private final ExecutorService executor;
+
+    public GoogleRevocationJob(GoogleRevocationService googleRevocationService,
+                               GoogleRevocationClient googleRevocationClient,
+                               @Value("${google-revocation.batch-size:50}") int batchSize,
+                               @Value("${google-revocation.pool-size:4}") int poolSize,
+                               @Value("${google-revocation.lease-ms:120000}") long leaseMs,
+                               @Value("${http.connect-timeout-ms:2000}") long connectTimeoutMs,
+                               @Value("${http.google.read-timeout-ms:3000}") long readTimeoutMs,
+                               @Value("${http.bulkhead-wait-ms:500}") long bulkheadWaitMs) {
+        // 배치가 lease 안에 끝나지 않으면 다른 서버가 같은 요청을 다시 가져가 중복 전달하므로 시작할 때 막는다.
+        int rounds = (batchSize + poolSize - 1) / poolSize;
+        long worstCaseBatchMs = rounds * (connectTimeoutMs + readTimeoutMs + bulkheadWaitMs);
+        if (leaseMs <= worstCaseBatchMs) {
+            throw new IllegalStateException("google-revocation.lease-ms must be longer than the worst-case batch : "
+                    + worstCaseBatchMs + "ms");
+        }
+        this.googleRevocationService = googleRevocationService;
+        this.googleRevocationClient = googleRevocationClient;
+        this.batchSize = batchSize;
+        // 한 번에 batchSize개까지만 넣으므로 큐가 넘치지 않는다.
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(batchSize), new CustomizableThreadFactory("google-revocation-"));
+    }
+
+    @Scheduled(fixedDelayString = "${google-revocation.poll-interval-ms:5000}")
+    public void deliverDue() {
+        List<GoogleRevocation> due = googleRevocationService.claimDue(batchSize);
+        if (due.isEmpty()) {
+            return;
+        }
+
+        CompletableFuture.allOf(due.stream()
+                        .map(revocation -> CompletableFuture.runAsync(() -> deliver(revocation), executor))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+        log.info("google token revoke attempted : {}", due.size());
+    }
+
+    private void deliver(GoogleRevocation revocation) {
+        if (googleRevocationClient.revoke(revocation.getToken())) {
+            googleRevocationService.complete(revocation.getId());
+            return;
+        }
+        googleRevocationService.fail(revocation.getId());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
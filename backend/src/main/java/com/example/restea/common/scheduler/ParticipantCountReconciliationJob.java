@@ -0,0 +1,34 @@
+package com.example.restea.common.scheduler;
+
+import com.example.restea.share.repository.ShareBoardRepository;
+import com.example.restea.teatime.repository.TeatimeBoardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글의 participant_count 컬럼을 참여자 테이블 기준으로 다시 맞추는 작업. 서버 기동 시 기존 데이터를 backfill 하고, 이후에는 주기적으로 어긋난 값을 보정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipantCountReconciliationJob {
+
+    private final TeatimeBoardRepository teatimeBoardRepository;
+    private final ShareBoardRepository shareBoardRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        reconcile();
+    }
+
+    @Scheduled(cron = "${participant-count.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        int teatimeBoards = teatimeBoardRepository.reconcileParticipantCount();
+        int shareBoards = shareBoardRepository.reconcileParticipantCount();
+        log.info("participant_count reconciled : teatime_board {}, share_board {}", teatimeBoards, shareBoards);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.restea.common.scheduler;
+
+import com.example.restea.oauth2.repository.RefreshTokenRepository;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 refresh_token 행을 주기적으로 지우는 작업. 서버 기동 시에도 한 번 지운다. revoke 된 행은 만료될 때까지 남겨서 재발급 요청을 거르는 근거로 쓴다.
+ * 한 번에 지우는 행 수를 제한해서 테이블 잠금이 길어지지 않도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPurgeJob {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${refresh-token.purge-batch-size:5000}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${refresh-token.purge-cron:0 30 4 * * *}")
+    public void purge() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenRepository.deleteUnusedTokens(now, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+        log.info("refresh_token purged : {}", total);
+    }
+}
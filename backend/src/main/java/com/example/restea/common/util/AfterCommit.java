@@ -0,0 +1,21 @@
+package com.example.restea.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class AfterCommit {
+    // 트랜잭션 안이라면 커밋된 뒤에, 아니라면 바로 실행한다. 캐시를 커밋 전의 값으로 다시 채우지 않도록 무효화할 때 쓴다.
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.restea.common.viewcount;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조회수를 모아두는 게시판 종류. tag는 메트릭의 board 태그 값으로 쓴다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BoardType {
+    SHARE("share"),
+    TEATIME("teatime");
+
+    private final String tag;
+}
@@ -0,0 +1,108 @@
+package com.example.restea.common.viewcount;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 조회수를 DB에 바로 쓰지 않고 메모리에 모아두는 버퍼. 게시글 id 별 증가량을 ConcurrentHashMap의 merge로 원자적으로 더하고, 주기적으로 drain 하여 한 번에 DB에 반영한다.
+ * drain 할 때 항목을 remove 하기 때문에 조회가 끊긴 게시글의 키가 버퍼에 계속 남지 않는다.
+ */
+@Slf4j
+public class ViewCountBuffer {
+
+    private final Map<Integer, Long> counters = new ConcurrentHashMap<>();
+    private volatile Instant lastFlushedAt = Instant.now();
+
+    /**
+     * 조회수를 1 증가시키는 메소드
+     *
+     * @param boardId 게시글 id
+     * @return 아직 DB에 반영되지 않은 조회수 (이번 조회 포함)
+     */
+    public long increase(Integer boardId) {
+        return counters.merge(boardId, 1L, Long::sum);
+    }
+
+    /**
+     * 반영 대기 중인 조회수를 DB에 반영하는 메소드. 같은 증가량을 가진 게시글끼리 묶어서 UPDATE ... WHERE id IN (...) 한 번으로 처리하고, 실패한 묶음은 버퍼에 되돌려 다음
+     * flush에서 다시 시도한다.
+     *
+     * @param writer 증가량과 게시글 id 목록을 받아 UPDATE 하는 함수
+     */
+    public void flush(ViewCountWriter writer) {
+        Map<Long, List<Integer>> boardIdsByDelta = new HashMap<>();
+        drain().forEach((boardId, delta) ->
+                boardIdsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(boardId));
+
+        boolean failed = false;
+        for (Map.Entry<Long, List<Integer>> entry : boardIdsByDelta.entrySet()) {
+            try {
+                writer.write(entry.getKey().intValue(), entry.getValue());
+            } catch (RuntimeException e) {
+                log.error("조회수 반영 실패 : " + e.getMessage());
+                entry.getValue().forEach(boardId -> restore(Map.of(boardId, entry.getKey())));
+                failed = true;
+            }
+        }
+
+        if (!failed) {
+            markFlushed();
+        }
+    }
+
+    /**
+     * 반영 대기 중인 조회수를 모두 꺼내는 메소드. 키 단위로 remove 하기 때문에 drain 도중 들어온 조회수는 새 항목으로 쌓여 다음 flush로 넘어간다.
+     *
+     * @return 게시글 id 별 반영할 조회수
+     */
+    private Map<Integer, Long> drain() {
+        Map<Integer, Long> deltas = new HashMap<>();
+        for (Integer boardId : counters.keySet()) {
+            Long delta = counters.remove(boardId);
+            if (delta != null && delta > 0) {
+                deltas.put(boardId, delta);
+            }
+        }
+        return deltas;
+    }
+
+    @FunctionalInterface
+    public interface ViewCountWriter {
+        void write(int delta, List<Integer> boardIds);
+    }
+
+    /**
+     * DB 반영에 실패한 조회수를 버퍼에 되돌리는 메소드
+     *
+     * @param deltas drain으로 꺼냈던 조회수
+     */
+    private void restore(Map<Integer, Long> deltas) {
+        deltas.forEach((boardId, delta) -> counters.merge(boardId, delta, Long::sum));
+    }
+
+    private void markFlushed() {
+        lastFlushedAt = Instant.now();
+    }
+
+    public long pendingDelta() {
+        return counters.values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    /**
+     * 반영 대기 중인 조회수가 있을 때 마지막 flush 이후 지난 시간(초)
+     */
+    public double flushLagSeconds() {
+        if (pendingDelta() == 0) {
+            return 0;
+        }
+        return Duration.between(lastFlushedAt, Instant.now()).toMillis() / 1000.0;
+    }
+}
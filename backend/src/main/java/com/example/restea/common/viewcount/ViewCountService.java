@@ -0,0 +1,62 @@
+package com.example.restea.common.viewcount;
+
+import com.example.restea.share.repository.ShareBoardRepository;
+import com.example.restea.teatime.repository.TeatimeBoardRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게시글 조회수를 게시판 종류별로 메모리에 모았다가 주기적으로 DB에 반영하는 write-behind 서비스
+ */
+@Service
+public class ViewCountService {
+
+    private final Map<BoardType, ViewCountBuffer> buffers = new EnumMap<>(BoardType.class);
+    private final Map<BoardType, ViewCountBuffer.ViewCountWriter> writers = new EnumMap<>(BoardType.class);
+
+    public ViewCountService(ShareBoardRepository shareBoardRepository, TeatimeBoardRepository teatimeBoardRepository,
+                            MeterRegistry meterRegistry) {
+        writers.put(BoardType.SHARE, shareBoardRepository::addViewCount);
+        writers.put(BoardType.TEATIME, teatimeBoardRepository::addViewCount);
+
+        for (BoardType boardType : BoardType.values()) {
+            ViewCountBuffer viewCountBuffer = new ViewCountBuffer();
+            buffers.put(boardType, viewCountBuffer);
+
+            Gauge.builder("board.view_count.pending", viewCountBuffer, ViewCountBuffer::pendingDelta)
+                    .tag("board", boardType.getTag())
+                    .register(meterRegistry);
+            Gauge.builder("board.view_count.flush_lag", viewCountBuffer, ViewCountBuffer::flushLagSeconds)
+                    .tag("board", boardType.getTag())
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 조회수를 1 증가시키는 메소드
+     *
+     * @param boardType 게시판 종류
+     * @param boardId   게시글 id
+     * @return 아직 DB에 반영되지 않은 조회수
+     */
+    public long increase(BoardType boardType, Integer boardId) {
+        return buffers.get(boardType).increase(boardId);
+    }
+
+    @Scheduled(fixedDelayString = "${view-count.flush-interval-ms:5000}")
+    public void flush() {
+        buffers.forEach((boardType, viewCountBuffer) -> viewCountBuffer.flush(writers.get(boardType)));
+    }
+
+    // 서버 종료 시 남은 조회수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
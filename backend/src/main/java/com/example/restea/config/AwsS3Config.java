@@ -1,9 +1,12 @@
 package com.example.restea.config;
 
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.example.restea.common.http.OutboundAwsRequestHandler;
+import com.example.restea.common.http.OutboundHttpMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,13 +22,29 @@ public class AwsS3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    @Value("${http.connect-timeout-ms:2000}")
+    private int connectTimeoutMs;
+
+    @Value("${http.s3.socket-timeout-ms:10000}")
+    private int socketTimeoutMs;
+
+    // 연결 풀 크기가 곧 S3로 동시에 보내는 요청 수의 상한(Bulkhead)
+    @Value("${http.s3.max-connections:32}")
+    private int maxConnections;
+
     @Bean
-    public AmazonS3 amazonS3Client() {
+    public AmazonS3 amazonS3Client(OutboundHttpMetrics outboundHttpMetrics) {
         BasicAWSCredentials awsCredentials = new BasicAWSCredentials(accessKey, secretKey);
+        ClientConfiguration clientConfiguration = new ClientConfiguration()
+                .withConnectionTimeout(connectTimeoutMs)
+                .withSocketTimeout(socketTimeoutMs)
+                .withMaxConnections(maxConnections);
         return AmazonS3ClientBuilder
                 .standard()
                 .withRegion(region)
                 .withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
+                .withClientConfiguration(clientConfiguration)
+                .withRequestHandlers(new OutboundAwsRequestHandler("s3", outboundHttpMetrics))
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,68 @@
+package com.example.restea.config;
+
+import com.example.restea.common.http.Bulkhead;
+import com.example.restea.common.http.OutboundHttpMetrics;
+import com.example.restea.common.http.OutboundOkHttpInterceptor;
+import com.example.restea.common.http.OutboundRequestInterceptor;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 외부 HTTP 호출 설정을 한곳에 모은다. 대상(google, livekit)마다 읽기 timeout과 동시 요청 수(Bulkhead)를 따로 두고, 연결은 클라이언트 라이브러리마다 하나의 풀을
+ * 재사용한다. S3는 AwsS3Config에서 같은 방식으로 설정한다.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Value("${http.connect-timeout-ms:2000}")
+    private long connectTimeoutMs;
+
+    @Value("${http.bulkhead-wait-ms:500}")
+    private long bulkheadWaitMs;
+
+    // RestTemplate 요청이 함께 쓰는 연결 풀. JDK HttpClient는 keep-alive 연결을 재사용한다.
+    @Bean
+    public HttpClient outboundHttpClient() {
+        return HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate googleRestTemplate(RestTemplateBuilder restTemplateBuilder, HttpClient outboundHttpClient,
+                                           OutboundHttpMetrics outboundHttpMetrics,
+                                           @Value("${http.google.read-timeout-ms:3000}") long readTimeoutMs,
+                                           @Value("${http.google.max-concurrent:8}") int maxConcurrent) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(outboundHttpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
+        return restTemplateBuilder
+                .requestFactory(() -> requestFactory)
+                .additionalInterceptors(new OutboundRequestInterceptor("google",
+                        new Bulkhead("google", maxConcurrent, bulkheadWaitMs), outboundHttpMetrics))
+                .build();
+    }
+
+    // LiveKit SDK는 Retrofit(OkHttp)을 쓰므로 OkHttp 연결 풀을 따로 둔다.
+    @Bean
+    public OkHttpClient liveKitHttpClient(OutboundHttpMetrics outboundHttpMetrics,
+                                          @Value("${http.livekit.read-timeout-ms:5000}") long readTimeoutMs,
+                                          @Value("${http.livekit.max-concurrent:16}") int maxConcurrent) {
+        return new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(maxConcurrent, 5, TimeUnit.MINUTES))
+                .connectTimeout(connectTimeoutMs, TimeUnit.MILLISECONDS)
+                .readTimeout(readTimeoutMs, TimeUnit.MILLISECONDS)
+                .addInterceptor(new OutboundOkHttpInterceptor("livekit",
+                        new Bulkhead("livekit", maxConcurrent, bulkheadWaitMs), outboundHttpMetrics))
+                .build();
+    }
+}
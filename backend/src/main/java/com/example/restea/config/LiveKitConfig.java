@@ -0,0 +1,33 @@
+package com.example.restea.config;
+
+import io.livekit.server.RoomServiceClient;
+import io.livekit.server.WebhookReceiver;
+import okhttp3.OkHttpClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LiveKitConfig {
+
+    @Value("${livekit.api.key}")
+    private String liveKitApiKey;
+
+    @Value("${livekit.api.secret}")
+    private String liveKitApiSecret;
+
+    @Value("${host.url}")
+    private String hostUrl;
+
+    // timeout, Bulkhead, 연결 풀은 HttpClientConfig의 liveKitHttpClient 설정을 따른다.
+    @Bean
+    public RoomServiceClient roomServiceClient(OkHttpClient liveKitHttpClient) {
+        return RoomServiceClient.createClient(hostUrl, liveKitApiKey, liveKitApiSecret, () -> liveKitHttpClient);
+    }
+
+    // 웹훅 요청마다 새로 만들지 않고 서명 검증기를 공유한다.
+    @Bean
+    public WebhookReceiver webhookReceiver() {
+        return new WebhookReceiver(liveKitApiKey, liveKitApiSecret);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.restea.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // 기본 스케줄러는 스레드가 하나라서 오래 걸리는 작업(GoogleRevocationJob 등)이 다른 @Scheduled 작업을 막지 않도록 풀을 둔다.
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(poolSize);
+        taskScheduler.setThreadNamePrefix("scheduling-");
+        taskScheduler.setWaitForTasksToCompleteOnShutdown(true);
+        return taskScheduler;
+    }
+}
@@ -4,10 +4,14 @@ import com.example.restea.oauth2.handler.CustomSuccessHandler;
 import com.example.restea.oauth2.jwt.CustomLogoutFilter;
 import com.example.restea.oauth2.jwt.JWTFilter;
 import com.example.restea.oauth2.jwt.JWTUtil;
-import com.example.restea.oauth2.repository.RefreshTokenRepository;
+import com.example.restea.oauth2.jwt.VerifiedTokenCache;
 import com.example.restea.oauth2.service.CustomOAuth2UserService;
+import com.example.restea.oauth2.service.RefreshTokenService;
 import com.example.restea.oauth2.util.CookieMethods;
+import com.example.restea.oauth2.util.RequestPathTable;
 import com.example.restea.user.repository.UserRepository;
+import com.example.restea.user.service.UserProfileCache;
+import jakarta.servlet.DispatcherType;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -27,29 +31,43 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
 import org.springframework.security.web.firewall.HttpFirewall;
 import org.springframework.security.web.firewall.StrictHttpFirewall;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.DispatcherTypeRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
+    private static final String LOGOUT_URL = "/api/v1/logout";
+    private static final String LIVEKIT_WEBHOOK_URL = "/api/v1/livekit/webhook";
+    private static final String LIVE_NOTIFICATION_URL = "/api/v1/teatimes/*/lives/events";
+
     private final JWTUtil jwtUtil;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final CustomSuccessHandler customSuccessHandler;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
     private final UserRepository userRepository;
     private final CookieMethods cookieMethods;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final UserProfileCache userProfileCache;
 
     String[] whitelist_post = {
             "/api/v1/reissue",
-            "/api/v1/livekit/webhook"
+            LIVEKIT_WEBHOOK_URL
     };
     String[] whitelist_get = {
             "/",
             "/login/**",
             "/api/v1/login/oauth2/code/google",
             "/api/v1/shares/**",
-            "/api/v1/teatimes/**"
+            "/api/v1/teatimes/**",
+            "/api/v1/search/**"
+    };
+    // JWTFilter가 토큰을 검증하지 않는 경로 (LiveKit 웹훅은 LiveKit이 서명한 토큰을 Authorization 헤더로 보낸다)
+    String[] jwt_exempted = {
+            LIVEKIT_WEBHOOK_URL + "/**"
     };
 
     @Value("${cors.url}")
@@ -111,7 +129,9 @@ public class SecurityConfig {
 
         //JWTFilter 추가
         http
-                .addFilterBefore(new JWTFilter(jwtUtil), OAuth2LoginAuthenticationFilter.class);
+                .addFilterBefore(new JWTFilter(jwtUtil, verifiedTokenCache, userProfileCache,
+                                RequestPathTable.builder().add(null, jwt_exempted).build()),
+                        OAuth2LoginAuthenticationFilter.class);
 
         http
                 .oauth2Login(oauth2 -> oauth2
@@ -127,19 +147,24 @@ public class SecurityConfig {
           SpringSecurity의 LogoutFilter가 작동하기 전에 RefreshToken을 제거하는 필터를 추가하는 것
          */
         http
-                .addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshTokenRepository, userRepository, cookieMethods),
+                .addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshTokenService, userRepository, cookieMethods,
+                                RequestPathTable.builder().add(HttpMethod.POST, LOGOUT_URL).build()),
                         LogoutFilter.class);
 
         // 로그아웃 설정
         http
                 .logout((oauth2) -> oauth2
-                        .logoutUrl("/api/v1/logout")
+                        .logoutUrl(LOGOUT_URL)
                         .logoutSuccessUrl("/")
                         .permitAll());
 
         //경로별 인가 작업
         http
                 .authorizeHttpRequests((auth) -> auth
+                        // 방송 알림 SSE 연결이 끝날 때의 비동기 디스패치에는 JWTFilter가 돌지 않는다. 인증은 연결할 때 이미 했다.
+                        .requestMatchers(new AndRequestMatcher(
+                                new DispatcherTypeRequestMatcher(DispatcherType.ASYNC, HttpMethod.GET),
+                                new AntPathRequestMatcher(LIVE_NOTIFICATION_URL, HttpMethod.GET.name()))).permitAll()
                         .requestMatchers(HttpMethod.POST, whitelist_post).permitAll()
                         .requestMatchers(HttpMethod.GET, whitelist_get).permitAll()
                         .anyRequest().authenticated());
@@ -2,15 +2,22 @@ package com.example.restea.live.controller;
 
 import com.example.restea.common.dto.ResponseDTO;
 import com.example.restea.live.dto.LiveIsOpenResponseDTO;
+import com.example.restea.live.dto.LiveKickAllRequestDTO;
 import com.example.restea.live.dto.LiveKickResponseDTO;
+import com.example.restea.live.dto.LiveModerationResultDTO;
+import com.example.restea.live.dto.LiveMuteAllRequestDTO;
 import com.example.restea.live.dto.LiveMuteRequestDTO;
 import com.example.restea.live.dto.LiveMuteResponseDTO;
+import com.example.restea.live.dto.LiveParticipantCountResponseDTO;
+import com.example.restea.live.dto.LiveParticipantResponseDTO;
 import com.example.restea.live.dto.LiveRoomResponseDTO;
 import com.example.restea.live.service.LiveService;
 import com.example.restea.oauth2.dto.CustomOAuth2User;
 import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,6 +26,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/teatimes/{teatimeBoardId}/lives")
@@ -45,6 +53,21 @@ public class LiveController {
         return ResponseEntity.status(HttpStatus.OK).body(ResponseDTO.from(result));
     }
 
+    /**
+     * 주어진 티타임 게시글의 방송 알림 구독. 방송 생성 여부를 반복해서 조회하는 대신 연결 하나로 live-opened, live-closed, kicked, muted 이벤트를 받는다.
+     *
+     * @param teatimeBoardId   티타임게시판 ID.
+     * @param customOAuth2User 현재 인증된 사용자. 방송 참가자 또는 작성자여야 한다.
+     * @return text/event-stream 연결. 방송이 이미 열려 있다면 연결하자마자 live-opened를 받는다. 연결이 너무 많으면 503을 반환합니다.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeLiveNotification(
+            @PathVariable("teatimeBoardId") int teatimeBoardId,
+            @AuthenticationPrincipal CustomOAuth2User customOAuth2User) {
+
+        return liveService.subscribeLiveNotification(teatimeBoardId, customOAuth2User.getUserId());
+    }
+
     /**
      * 주어진 티타임 게시글 방송 생성
      *
@@ -83,6 +106,42 @@ public class LiveController {
         return ResponseEntity.status(HttpStatus.OK).body(ResponseDTO.from(result));
     }
 
+    /**
+     * 방송에 참가 중인 참가자 목록 조회. LiveKit을 호출하지 않고 서버 메모리에서 읽는다.
+     *
+     * @param teatimeBoardId   티타임게시판 ID.
+     * @param customOAuth2User 현재 인증된 사용자. 방송 참가자 또는 작성자여야 한다.
+     * @return 참가자 목록을 포함하는 ResponseEntity 객체를 반환합니다. 열린 방송이 없으면 에러 메시지를 담은 ResponseEntity를 반환합니다.
+     */
+    @GetMapping("/participants")
+    public ResponseEntity<ResponseDTO<List<LiveParticipantResponseDTO>>> getLiveParticipants(
+            @PathVariable("teatimeBoardId") int teatimeBoardId,
+            @AuthenticationPrincipal CustomOAuth2User customOAuth2User) {
+
+        List<LiveParticipantResponseDTO> result = LiveParticipantResponseDTO.from(
+                liveService.getLiveParticipants(teatimeBoardId, customOAuth2User.getUserId()));
+
+        return ResponseEntity.status(HttpStatus.OK).body(ResponseDTO.from(result));
+    }
+
+    /**
+     * 방송에 참가 중인 참가자 수 조회. LiveKit을 호출하지 않고 서버 메모리에서 읽는다.
+     *
+     * @param teatimeBoardId   티타임게시판 ID.
+     * @param customOAuth2User 현재 인증된 사용자. 방송 참가자 또는 작성자여야 한다.
+     * @return 참가자 수를 포함하는 ResponseEntity 객체를 반환합니다. 열린 방송이 없으면 에러 메시지를 담은 ResponseEntity를 반환합니다.
+     */
+    @GetMapping("/participants/count")
+    public ResponseEntity<ResponseDTO<LiveParticipantCountResponseDTO>> getLiveParticipantCount(
+            @PathVariable("teatimeBoardId") int teatimeBoardId,
+            @AuthenticationPrincipal CustomOAuth2User customOAuth2User) {
+
+        LiveParticipantCountResponseDTO result = LiveParticipantCountResponseDTO.from(
+                liveService.getLiveParticipantCount(teatimeBoardId, customOAuth2User.getUserId()));
+
+        return ResponseEntity.status(HttpStatus.OK).body(ResponseDTO.from(result));
+    }
+
     /**
      * 주어진 참가자에 방송에서 강퇴
      *
@@ -121,4 +180,42 @@ public class LiveController {
 
         return ResponseEntity.status(HttpStatus.OK).body(ResponseDTO.from(result));
     }
+
+    /**
+     * 주어진 참가자들을 한 번에 방송에서 강퇴. 일부가 실패해도 나머지는 강퇴한다.
+     *
+     * @param teatimeBoardId   티타임게시판 ID.
+     * @param request          userIds 강퇴될 사용자들. 최대 50명, 중복되면 400.
+     * @param customOAuth2User 현재 인증된 사용자. 티타임 게시글 작성자여야 한다.
+     * @return 요청한 순서대로 사용자마다 강퇴 성공 여부와 실패 사유를 담은 ResponseEntity 객체를 반환합니다.
+     */
+    @PostMapping("/kick/batch")
+    public ResponseEntity<ResponseDTO<List<LiveModerationResultDTO>>> liveKickAll(
+            @PathVariable("teatimeBoardId") int teatimeBoardId, @Valid @RequestBody LiveKickAllRequestDTO request,
+            @AuthenticationPrincipal CustomOAuth2User customOAuth2User) {
+
+        List<LiveModerationResultDTO> result = liveService.liveKickAll(teatimeBoardId, request.getUserIds(),
+                customOAuth2User.getUserId());
+
+        return ResponseEntity.status(HttpStatus.OK).body(ResponseDTO.from(result));
+    }
+
+    /**
+     * 주어진 track들을 한 번에 방송에서 음소거. 일부가 실패해도 나머지는 음소거한다.
+     *
+     * @param teatimeBoardId   티타임게시판 ID.
+     * @param request          tracks 음소거될 사용자, trackSid, 음소거여부 목록. 최대 50개, 같은 사용자의 같은 track이 중복되면 400.
+     * @param customOAuth2User 현재 인증된 사용자. 티타임 게시글 작성자여야 한다.
+     * @return 요청한 순서대로 track마다 음소거 성공 여부와 실패 사유를 담은 ResponseEntity 객체를 반환합니다.
+     */
+    @PostMapping("/mute/batch")
+    public ResponseEntity<ResponseDTO<List<LiveModerationResultDTO>>> liveMuteAll(
+            @PathVariable("teatimeBoardId") int teatimeBoardId, @Valid @RequestBody LiveMuteAllRequestDTO request,
+            @AuthenticationPrincipal CustomOAuth2User customOAuth2User) {
+
+        List<LiveModerationResultDTO> result = liveService.liveMuteAll(teatimeBoardId, request.getTracks(),
+                customOAuth2User.getUserId());
+
+        return ResponseEntity.status(HttpStatus.OK).body(ResponseDTO.from(result));
+    }
 }
@@ -15,7 +15,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class LivekitController {
     private final LiveService liveService;
 
-    // LiveKit 웹훅 이벤트를 수신 -> LiveKit Server로 부터 받음, 항상 ok를 반환해 줘야함.
+    // LiveKit 웹훅 이벤트를 수신 -> LiveKit Server로 부터 받음, 처리 큐가 가득 찬 경우에만 503을 반환해 다시 받는다.
     @PostMapping(value = "/livekit/webhook", consumes = "application/webhook+json")
     public ResponseEntity<String> receiveWebhook(@RequestHeader("Authorization") String authHeader,
                                                  @RequestBody String body) {
@@ -0,0 +1,19 @@
+package com.example.restea.live.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+@Getter
+public class LiveKickAllRequestDTO {
+    @NotEmpty(message = "empty userIds.")
+    @Size(max = 50, message = "too many userIds.")
+    private List<@NotNull(message = "empty userId.") Integer> userIds;
+}
@@ -0,0 +1,31 @@
+package com.example.restea.live.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 여러 참가자를 한 번에 강퇴, 음소거할 때 항목마다의 결과를 정의하는 클래스
+@Getter
+@Builder
+public class LiveModerationResultDTO {
+    private Integer userId;
+    private String trackSid;
+    private boolean success;
+    private String message;
+
+    public static LiveModerationResultDTO success(Integer userId, String trackSid) {
+        return LiveModerationResultDTO.builder()
+                .userId(userId)
+                .trackSid(trackSid)
+                .success(true)
+                .build();
+    }
+
+    public static LiveModerationResultDTO failure(Integer userId, String trackSid, String message) {
+        return LiveModerationResultDTO.builder()
+                .userId(userId)
+                .trackSid(trackSid)
+                .success(false)
+                .message(message)
+                .build();
+    }
+}
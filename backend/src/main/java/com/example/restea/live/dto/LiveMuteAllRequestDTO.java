@@ -0,0 +1,19 @@
+package com.example.restea.live.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+@Getter
+public class LiveMuteAllRequestDTO {
+    @NotEmpty(message = "empty tracks.")
+    @Size(max = 50, message = "too many tracks.")
+    private List<@Valid LiveMuteRequestDTO> tracks;
+}
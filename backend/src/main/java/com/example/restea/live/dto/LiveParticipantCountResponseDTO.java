@@ -0,0 +1,17 @@
+package com.example.restea.live.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 방송 참가자 수 응답 정의하는 클래스
+@Getter
+@Builder
+public class LiveParticipantCountResponseDTO {
+    private int count;
+
+    public static LiveParticipantCountResponseDTO from(int count) {
+        return LiveParticipantCountResponseDTO.builder()
+                .count(count)
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.restea.live.dto;
+
+import com.example.restea.live.presence.LiveParticipant;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+// 방송 참가자 목록의 한 항목을 정의하는 클래스
+@Getter
+@Builder
+public class LiveParticipantResponseDTO {
+    private Integer userId;
+    private String name;
+    private Long joinedAt;
+    private List<String> trackSids;
+
+    public static LiveParticipantResponseDTO from(LiveParticipant participant) {
+        return LiveParticipantResponseDTO.builder()
+                .userId(Integer.parseInt(participant.identity()))
+                .name(participant.name())
+                .joinedAt(participant.joinedAt())
+                .trackSids(List.copyOf(participant.trackSids()))
+                .build();
+    }
+
+    public static List<LiveParticipantResponseDTO> from(List<LiveParticipant> participants) {
+        return participants.stream()
+                .map(LiveParticipantResponseDTO::from)
+                .toList();
+    }
+}
@@ -7,7 +7,12 @@ import lombok.Getter;
 @AllArgsConstructor
 public enum LiveMessage {
     LIVE_NOT_FOUND("Live not found."),
-    LIVEKIT_BAD_REQUEST("Livekit error.");
+    LIVE_MODERATION_DUPLICATED("Duplicated moderation target."),
+    LIVE_MODERATION_BUSY("Too many live moderation requests."),
+    LIVE_MODERATION_TIMEOUT("Live moderation timed out."),
+    LIVEKIT_BAD_REQUEST("Livekit error."),
+    LIVE_NOTIFICATION_FULL("Too many live notification connections."),
+    LIVEKIT_WEBHOOK_FULL("Too many livekit webhook events.");
 
     private final String message;
 }
@@ -0,0 +1,30 @@
+package com.example.restea.live.notification;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * 티타임 게시글의 방송을 기다리거나 보고 있는 클라이언트에게 보내는 알림
+ *
+ * @param userId   강퇴되거나 음소거된 유저의 id
+ * @param trackSid 음소거된 트랙
+ * @param muted    음소거 여부
+ */
+public record LiveNotification(@JsonIgnore LiveNotificationType type, Integer teatimeBoardId, Integer userId,
+                               String trackSid, Boolean muted) {
+
+    public static LiveNotification opened(Integer teatimeBoardId) {
+        return new LiveNotification(LiveNotificationType.LIVE_OPENED, teatimeBoardId, null, null, null);
+    }
+
+    public static LiveNotification closed(Integer teatimeBoardId) {
+        return new LiveNotification(LiveNotificationType.LIVE_CLOSED, teatimeBoardId, null, null, null);
+    }
+
+    public static LiveNotification kicked(Integer teatimeBoardId, Integer userId) {
+        return new LiveNotification(LiveNotificationType.KICKED, teatimeBoardId, userId, null, null);
+    }
+
+    public static LiveNotification muted(Integer teatimeBoardId, Integer userId, String trackSid, boolean muted) {
+        return new LiveNotification(LiveNotificationType.MUTED, teatimeBoardId, userId, trackSid, muted);
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.restea.live.notification;
+
+import static com.example.restea.live.enums.LiveMessage.LIVE_NOTIFICATION_FULL;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 티타임 게시글마다 SSE 연결을 들고 있다가 방송 알림을 보낸다. 연결은 서블릿 비동기 요청이라 연결마다 스레드를 잡고 있지 않고, 알림은 크기가 제한된 전용 스레드 풀에서 보낸다.
+ * <p>
+ * 연결마다 크기가 제한된 버퍼를 두고, 버퍼가 가득 찰 만큼 느린 연결은 끊는다. 클라이언트(EventSource)는 다시 연결하면서 현재 방송 상태를 새로 받는다. 끊긴 연결은 주기적으로 보내는
+ * heartbeat가 실패할 때 정리한다.
+ */
+@Slf4j
+@Component
+public class LiveNotificationHub {
+
+    private static final Message HEARTBEAT = new Message(null);
+
+    private final Map<Integer, Set<Connection>> boards = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ExecutorService sender;
+    private final int maxConnections;
+    private final int bufferSize;
+    private final long timeoutMs;
+    private final Counter droppedCounter;
+
+    @Autowired
+    public LiveNotificationHub(MeterRegistry meterRegistry,
+                               @Value("${live.notification.sender-threads:4}") int senderThreads,
+                               @Value("${live.notification.max-connections:10000}") int maxConnections,
+                               @Value("${live.notification.buffer-size:16}") int bufferSize,
+                               @Value("${live.notification.timeout-ms:1800000}") long timeoutMs) {
+        // 연결마다 큐에 최대 한 번만 들어가므로 큐가 넘치지 않는다.
+        this(meterRegistry, new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(maxConnections), new CustomizableThreadFactory("live-notification-")),
+                maxConnections, bufferSize, timeoutMs);
+    }
+
+    LiveNotificationHub(MeterRegistry meterRegistry, ExecutorService sender, int maxConnections, int bufferSize,
+                        long timeoutMs) {
+        this.sender = sender;
+        this.maxConnections = maxConnections;
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+        this.droppedCounter = meterRegistry.counter("live.notification.dropped");
+        meterRegistry.gauge("live.notification.connections", connectionCount);
+    }
+
+    /**
+     * @param teatimeBoardId 티타임 게시글 id
+     * @param userId         연결한 유저 id
+     * @param liveOpen       연결을 등록한 뒤에 확인하는 현재 방송 여부. 열려 있다면 바로 live-opened를 보낸다.
+     * @return 컨트롤러가 반환할 SseEmitter
+     */
+    public SseEmitter subscribe(Integer teatimeBoardId, Integer userId, BooleanSupplier liveOpen) {
+        if (connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, LIVE_NOTIFICATION_FULL.getMessage());
+        }
+
+        Connection connection = new Connection(teatimeBoardId, userId, new SseEmitter(timeoutMs),
+                new ArrayBlockingQueue<>(bufferSize));
+        connection.emitter.onCompletion(() -> remove(connection));
+        connection.emitter.onTimeout(() -> remove(connection));
+        connection.emitter.onError(e -> remove(connection));
+        boards.compute(teatimeBoardId, (id, connections) -> {
+            Set<Connection> result = connections == null ? ConcurrentHashMap.newKeySet() : connections;
+            result.add(connection);
+            return result;
+        });
+
+        // 등록한 뒤에 확인해야 그 사이에 열린 방송을 놓치지 않는다. 중복으로 받아도 클라이언트는 같은 상태가 된다.
+        if (liveOpen.getAsBoolean()) {
+            enqueue(connection, new Message(LiveNotification.opened(teatimeBoardId)));
+        }
+        return connection.emitter;
+    }
+
+    public void publish(LiveNotification notification) {
+        Set<Connection> connections = boards.get(notification.teatimeBoardId());
+        if (connections == null) {
+            return;
+        }
+
+        Message message = new Message(notification);
+        for (Connection connection : connections) {
+            enqueue(connection, message);
+        }
+    }
+
+    public int connectionCount() {
+        return connectionCount.get();
+    }
+
+    // 보낼 알림이 밀려 있는 연결은 알림을 보내면서 살아 있는지 확인되므로 heartbeat를 넣지 않는다.
+    @Scheduled(fixedDelayString = "${live.notification.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (Set<Connection> connections : boards.values()) {
+            for (Connection connection : connections) {
+                if (connection.buffer.isEmpty() && connection.buffer.offer(HEARTBEAT)) {
+                    scheduleDrain(connection);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        boards.values().forEach(connections -> connections.forEach(this::close));
+        sender.shutdown();
+    }
+
+    private void enqueue(Connection connection, Message message) {
+        if (!connection.buffer.offer(message)) {
+            droppedCounter.increment();
+            log.warn("live notification connection too slow : board {} user {}", connection.teatimeBoardId,
+                    connection.userId);
+            close(connection);
+            return;
+        }
+        scheduleDrain(connection);
+    }
+
+    // 한 연결의 알림은 한 스레드가 순서대로 보낸다.
+    private void scheduleDrain(Connection connection) {
+        if (!connection.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(() -> drain(connection));
+        } catch (RejectedExecutionException e) {
+            connection.draining.set(false);
+            close(connection);
+        }
+    }
+
+    private void drain(Connection connection) {
+        try {
+            Message message;
+            while ((message = connection.buffer.poll()) != null) {
+                connection.emitter.send(message.toEvent());
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 완료된 연결
+            close(connection);
+            return;
+        } finally {
+            connection.draining.set(false);
+        }
+
+        // 마지막 poll과 draining 해제 사이에 들어온 알림
+        if (!connection.buffer.isEmpty()) {
+            scheduleDrain(connection);
+        }
+    }
+
+    private void close(Connection connection) {
+        remove(connection);
+        try {
+            connection.emitter.complete();
+        } catch (IllegalStateException e) {
+            // 이미 완료된 연결
+        }
+    }
+
+    private void remove(Connection connection) {
+        if (!connection.closed.compareAndSet(false, true)) {
+            return;
+        }
+        boards.computeIfPresent(connection.teatimeBoardId, (id, connections) -> {
+            connections.remove(connection);
+            return connections.isEmpty() ? null : connections;
+        });
+        connection.buffer.clear();
+        connectionCount.decrementAndGet();
+    }
+
+    private record Message(LiveNotification notification) {
+        SseEmitter.SseEventBuilder toEvent() {
+            if (notification == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event()
+                    .name(notification.type().getEventName())
+                    .data(notification, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private static final class Connection {
+        private final Integer teatimeBoardId;
+        private final Integer userId;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Message> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Connection(Integer teatimeBoardId, Integer userId, SseEmitter emitter,
+                           ArrayBlockingQueue<Message> buffer) {
+            this.teatimeBoardId = teatimeBoardId;
+            this.userId = userId;
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+    }
+}
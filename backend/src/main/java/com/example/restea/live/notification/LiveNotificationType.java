@@ -0,0 +1,16 @@
+package com.example.restea.live.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// SSE 이벤트 이름
+@Getter
+@AllArgsConstructor
+public enum LiveNotificationType {
+    LIVE_OPENED("live-opened"),
+    LIVE_CLOSED("live-closed"),
+    KICKED("kicked"),
+    MUTED("muted");
+
+    private final String eventName;
+}
@@ -0,0 +1,36 @@
+package com.example.restea.live.presence;
+
+import java.util.HashSet;
+import java.util.Set;
+import livekit.LivekitModels.ParticipantInfo;
+import livekit.LivekitModels.TrackInfo;
+
+/**
+ * 방송에 참가 중인 참가자. identity는 유저 id
+ *
+ * @param joinedAt  참가 시각 (epoch seconds)
+ * @param trackSids 송출 중인 트랙
+ */
+public record LiveParticipant(String identity, String name, long joinedAt, Set<String> trackSids) {
+
+    public static LiveParticipant from(ParticipantInfo participant) {
+        Set<String> trackSids = new HashSet<>();
+        for (TrackInfo track : participant.getTracksList()) {
+            trackSids.add(track.getSid());
+        }
+        return new LiveParticipant(participant.getIdentity(), participant.getName(), participant.getJoinedAt(),
+                Set.copyOf(trackSids));
+    }
+
+    public LiveParticipant withTrack(String trackSid) {
+        Set<String> tracks = new HashSet<>(trackSids);
+        tracks.add(trackSid);
+        return new LiveParticipant(identity, name, joinedAt, Set.copyOf(tracks));
+    }
+
+    public LiveParticipant withoutTrack(String trackSid) {
+        Set<String> tracks = new HashSet<>(trackSids);
+        tracks.remove(trackSid);
+        return new LiveParticipant(identity, name, joinedAt, Set.copyOf(tracks));
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.restea.live.presence;
+
+import com.example.restea.live.entity.Live;
+import com.example.restea.live.repository.LiveRepository;
+import com.example.restea.live.webhook.LiveWebhookListener;
+import io.livekit.server.RoomServiceClient;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import livekit.LivekitModels.ParticipantInfo;
+import livekit.LivekitWebhook.WebhookEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import retrofit2.Response;
+
+/**
+ * 방송(Live id)마다 참가 중인 참가자를 서버 메모리에 들고 있는다. LiveKit 웹훅 이벤트로 갱신하고, 서버 기동 시에는 LiveKit에서 한 번 다시 받아온다.
+ * <p>
+ * 방마다 별도의 ConcurrentHashMap을 두어 서로 다른 방의 갱신은 경합하지 않는다. 같은 방의 웹훅 이벤트는 LiveWebhookDispatcher가 순서대로 하나씩 전달한다.
+ */
+@Slf4j
+@Component
+public class LivePresenceRegistry implements LiveWebhookListener {
+
+    private final Map<String, Map<String, LiveParticipant>> rooms = new ConcurrentHashMap<>();
+    private final LiveRepository liveRepository;
+    private final RoomServiceClient roomServiceClient;
+    private final DistributionSummary roomSizeSummary;
+
+    public LivePresenceRegistry(LiveRepository liveRepository, RoomServiceClient roomServiceClient,
+                                MeterRegistry meterRegistry) {
+        this.liveRepository = liveRepository;
+        this.roomServiceClient = roomServiceClient;
+        this.roomSizeSummary = DistributionSummary.builder("live.presence.room.size")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        meterRegistry.gauge("live.presence.rooms", rooms, Map::size);
+        meterRegistry.gauge("live.presence.participants", rooms,
+                map -> map.values().stream().mapToInt(Map::size).sum());
+    }
+
+    @Override
+    public void onEvent(WebhookEvent event) {
+        String liveId = event.getRoom().getName();
+        switch (event.getEvent()) {
+            case "room_finished" -> rooms.remove(liveId);
+            case "participant_joined" -> { // 방은 참가자가 들어올 때만 만든다.
+                Map<String, LiveParticipant> room = rooms.computeIfAbsent(liveId, id -> new ConcurrentHashMap<>());
+                room.put(event.getParticipant().getIdentity(), LiveParticipant.from(event.getParticipant()));
+                roomSizeSummary.record(room.size());
+            }
+            case "participant_left" -> {
+                Map<String, LiveParticipant> room = rooms.get(liveId);
+                if (room != null) {
+                    room.remove(event.getParticipant().getIdentity());
+                    roomSizeSummary.record(room.size());
+                }
+            }
+            case "track_published" -> updateParticipant(liveId, event.getParticipant().getIdentity(),
+                    participant -> participant.withTrack(event.getTrack().getSid()));
+            case "track_unpublished" -> updateParticipant(liveId, event.getParticipant().getIdentity(),
+                    participant -> participant.withoutTrack(event.getTrack().getSid()));
+            default -> {
+            }
+        }
+    }
+
+    public int count(String liveId) {
+        Map<String, LiveParticipant> room = rooms.get(liveId);
+        return room == null ? 0 : room.size();
+    }
+
+    public List<LiveParticipant> roster(String liveId) {
+        Map<String, LiveParticipant> room = rooms.get(liveId);
+        return room == null ? List.of() : List.copyOf(room.values());
+    }
+
+    // 서버가 꺼져 있던 동안의 웹훅은 받지 못했으므로 열려 있는 방송의 참가자를 LiveKit에서 다시 받아온다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void resync() {
+        for (Live live : liveRepository.findAll()) {
+            resync(live.getId());
+        }
+        log.info("live presence resynced : {} rooms", rooms.size());
+    }
+
+    public void resync(String liveId) {
+        try {
+            Response<List<ParticipantInfo>> response = roomServiceClient.listParticipants(liveId).execute();
+            if (!response.isSuccessful() || response.body() == null) {
+                rooms.remove(liveId);
+                return;
+            }
+
+            Map<String, LiveParticipant> room = new ConcurrentHashMap<>();
+            response.body().forEach(participant ->
+                    room.put(participant.getIdentity(), LiveParticipant.from(participant)));
+            rooms.put(liveId, room);
+        } catch (IOException e) {
+            log.warn("live presence resync failed : {} {}", liveId, e.getMessage());
+        }
+    }
+
+    // 끝난 방이나 모르는 참가자의 트랙 이벤트로 빈 방이 생기지 않도록 이미 있는 참가자만 갱신한다.
+    private void updateParticipant(String liveId, String identity, UnaryOperator<LiveParticipant> update) {
+        Map<String, LiveParticipant> room = rooms.get(liveId);
+        if (room != null) {
+            room.computeIfPresent(identity, (key, participant) -> update.apply(participant));
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.example.restea.live.entity.Live;
 import com.example.restea.teatime.entity.TeatimeBoard;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -11,4 +13,15 @@ public interface LiveRepository extends JpaRepository<Live, String> {
     Optional<Live> findByTeatimeBoard(TeatimeBoard teatimeBoard);
 
     boolean existsByTeatimeBoard(TeatimeBoard teatimeBoard);
+
+    // 게시글을 조회하지 않고 열린 방송의 id만 조회
+    @Query("SELECT l.id FROM Live l WHERE l.teatimeBoard.id = :teatimeBoardId")
+    Optional<String> findIdByTeatimeBoardId(@Param("teatimeBoardId") Integer teatimeBoardId);
+
+    // 지연 로딩 없이 방송 호스트(티타임 게시글 작성자)의 id만 조회
+    @Query("SELECT b.user.id FROM Live l JOIN l.teatimeBoard b WHERE l.id = :liveId")
+    Optional<Integer> findHostUserIdById(@Param("liveId") String liveId);
+
+    @Query("SELECT l.teatimeBoard.id FROM Live l WHERE l.id = :liveId")
+    Optional<Integer> findTeatimeBoardIdById(@Param("liveId") String liveId);
 }
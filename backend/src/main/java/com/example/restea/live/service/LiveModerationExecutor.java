@@ -0,0 +1,72 @@
+package com.example.restea.live.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 참가자를 한 번에 강퇴, 음소거할 때 LiveKit 호출을 나눠 보내는 크기가 제한된 스레드 풀. 큐가 가득 찼거나 종료 중이라 받지 못한 항목과 timeout 안에 끝나지 않은
+ * 항목은 그 항목의 실패로 반환한다. 동시에 나가는 LiveKit 요청 수는 liveKitHttpClient의 Bulkhead가 한 번 더 제한한다.
+ */
+@Component
+public class LiveModerationExecutor {
+
+    private final ExecutorService executor;
+    private final long timeoutMs;
+
+    public LiveModerationExecutor(@Value("${live.moderation.threads:8}") int threads,
+                                  @Value("${live.moderation.queue-capacity:100}") int queueCapacity,
+                                  @Value("${live.moderation.timeout-ms:10000}") long timeoutMs) {
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("live-moderation-"),
+                new AbortPolicy());
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * @param items     강퇴, 음소거할 항목
+     * @param action    항목 하나를 처리하는 LiveKit 호출. 실패는 예외 대신 결과로 반환해야 한다.
+     * @param onFailure 풀이 받지 못했거나(RejectedExecutionException) timeout(TimeoutException)된 항목의 결과
+     * @return 요청한 순서대로의 결과
+     */
+    public <T, R> List<R> runAll(List<T> items, Function<T, R> action, BiFunction<T, Throwable, R> onFailure) {
+        List<CompletableFuture<R>> results = items.stream()
+                .map(item -> submit(item, action, onFailure))
+                .toList();
+
+        return results.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    private <T, R> CompletableFuture<R> submit(T item, Function<T, R> action, BiFunction<T, Throwable, R> onFailure) {
+        try {
+            return CompletableFuture.supplyAsync(() -> action.apply(item), executor)
+                    .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                    .exceptionally(e -> onFailure.apply(item, unwrap(e)));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(onFailure.apply(item, e));
+        }
+    }
+
+    private Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
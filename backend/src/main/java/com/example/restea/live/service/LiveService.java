@@ -1,6 +1,10 @@
 package com.example.restea.live.service;
 
 import static com.example.restea.live.enums.LiveMessage.LIVEKIT_BAD_REQUEST;
+import static com.example.restea.live.enums.LiveMessage.LIVEKIT_WEBHOOK_FULL;
+import static com.example.restea.live.enums.LiveMessage.LIVE_MODERATION_BUSY;
+import static com.example.restea.live.enums.LiveMessage.LIVE_MODERATION_DUPLICATED;
+import static com.example.restea.live.enums.LiveMessage.LIVE_MODERATION_TIMEOUT;
 import static com.example.restea.live.enums.LiveMessage.LIVE_NOT_FOUND;
 import static com.example.restea.teatime.enums.TeatimeBoardMessage.TEATIME_BOARD_AFTER_BROADCAST_DATE;
 import static com.example.restea.teatime.enums.TeatimeBoardMessage.TEATIME_BOARD_BEFORE_BROADCAST_DATE;
@@ -10,26 +14,37 @@ import static com.example.restea.teatime.enums.TeatimeBoardMessage.TEATIME_BOARD
 import static com.example.restea.teatime.enums.TeatimeBoardMessage.TEATIME_BOARD_NOT_WRITER;
 import static com.example.restea.teatime.enums.TeatimeParticipantMessage.TEATIME_PARTICIPANT_NOT_FOUND;
 import static com.example.restea.user.enums.UserMessage.USER_NOT_ACTIVATED;
-import static com.example.restea.user.enums.UserMessage.USER_NOT_FOUND;
 
+import com.example.restea.common.util.AfterCommit;
+import com.example.restea.live.dto.LiveModerationResultDTO;
 import com.example.restea.live.dto.LiveMuteRequestDTO;
 import com.example.restea.live.entity.Live;
+import com.example.restea.live.enums.LiveMessage;
+import com.example.restea.live.notification.LiveNotification;
+import com.example.restea.live.notification.LiveNotificationHub;
+import com.example.restea.live.presence.LiveParticipant;
+import com.example.restea.live.presence.LivePresenceRegistry;
 import com.example.restea.live.repository.LiveRepository;
+import com.example.restea.live.service.LiveStatusCache.LiveMembers;
+import com.example.restea.live.webhook.LiveWebhookDispatcher;
 import com.example.restea.teatime.entity.TeatimeBoard;
 import com.example.restea.teatime.repository.TeatimeBoardRepository;
 import com.example.restea.teatime.repository.TeatimeParticipantRepository;
 import com.example.restea.user.entity.User;
-import com.example.restea.user.repository.UserRepository;
+import com.example.restea.user.service.ActivatedUserResolver;
 import io.livekit.server.AccessToken;
 import io.livekit.server.RoomJoin;
 import io.livekit.server.RoomName;
 import io.livekit.server.RoomServiceClient;
 import io.livekit.server.WebhookReceiver;
-import jakarta.annotation.PostConstruct;
 import jakarta.transaction.Transactional;
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
 import livekit.LivekitModels;
 import livekit.LivekitWebhook.WebhookEvent;
 import lombok.RequiredArgsConstructor;
@@ -38,6 +53,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import retrofit2.Call;
 import retrofit2.Response;
 
@@ -46,10 +62,17 @@ import retrofit2.Response;
 @RequiredArgsConstructor
 public class LiveService {
 
-    private final UserRepository userRepository;
+    private final ActivatedUserResolver activatedUserResolver;
     private final LiveRepository liveRepository;
     private final TeatimeBoardRepository teatimeBoardRepository;
     private final TeatimeParticipantRepository teatimeParticipantRepository;
+    private final RoomServiceClient roomServiceClient;
+    private final WebhookReceiver webhookReceiver;
+    private final LiveWebhookDispatcher liveWebhookDispatcher;
+    private final LivePresenceRegistry livePresenceRegistry;
+    private final LiveStatusCache liveStatusCache;
+    private final LiveNotificationHub liveNotificationHub;
+    private final LiveModerationExecutor liveModerationExecutor;
 
     @Value("${livekit.api.key}")
     private String LIVEKIT_API_KEY;
@@ -57,24 +80,14 @@ public class LiveService {
     @Value("${livekit.api.secret}")
     private String LIVEKIT_API_SECRET;
 
-    @Value("${host.url}")
-    private String HOST_URL;
-
-    private RoomServiceClient client;
-
-    @PostConstruct
-    public void init() {
-        this.client = RoomServiceClient.create(HOST_URL, LIVEKIT_API_KEY, LIVEKIT_API_SECRET);
-    }
-
+    // 방송 시작을 기다리는 참가자들이 반복해서 호출하므로 게시글, 참가자, 방송은 LiveStatusCache에서 읽는다.
     public boolean isLiveOpen(Integer teatimeBoardId, Integer userId) {
 
         User activatedUser = getActivatedUser(userId);
-        TeatimeBoard teatimeBoard = getActivatedTeatimeBoardAndWriter(teatimeBoardId);
 
-        checkParticipant(teatimeBoard, activatedUser);
+        checkParticipant(teatimeBoardId, activatedUser);
 
-        return liveRepository.existsByTeatimeBoard(teatimeBoard);
+        return getLiveId(teatimeBoardId).isPresent();
     }
 
     @Transactional
@@ -91,6 +104,8 @@ public class LiveService {
                 .build();
 
         liveRepository.save(live);
+        liveStatusCache.evictLive(teatimeBoardId);
+        AfterCommit.run(() -> liveNotificationHub.publish(LiveNotification.opened(teatimeBoardId)));
 
         return createToken(live.getId(), activatedUser);
     }
@@ -98,66 +113,132 @@ public class LiveService {
     public AccessToken liveJoin(Integer teatimeBoardId, Integer userId) {
 
         User activatedUser = getActivatedUser(userId);
-        TeatimeBoard teatimeBoard = getActivatedTeatimeBoardAndWriter(teatimeBoardId);
 
-        checkParticipant(teatimeBoard, activatedUser);
+        return createToken(getJoinableLiveId(teatimeBoardId, activatedUser), activatedUser);
+    }
 
-        Live live = liveRepository.findByTeatimeBoard(teatimeBoard)
-                .orElseThrow(
-                        () -> new ResponseStatusException(HttpStatus.NOT_FOUND, LIVE_NOT_FOUND.getMessage()));
+    // 방송 알림을 받을 SSE 연결. 방송이 이미 열려 있다면 연결하자마자 live-opened를 받는다.
+    public SseEmitter subscribeLiveNotification(Integer teatimeBoardId, Integer userId) {
 
-        return createToken(live.getId(), activatedUser);
+        User activatedUser = getActivatedUser(userId);
+
+        checkParticipant(teatimeBoardId, activatedUser);
+
+        return liveNotificationHub.subscribe(teatimeBoardId, activatedUser.getId(),
+                () -> getLiveId(teatimeBoardId).isPresent());
+    }
+
+    // 참가자 목록은 LiveKit을 호출하지 않고 LivePresenceRegistry에서 읽는다.
+    public List<LiveParticipant> getLiveParticipants(Integer teatimeBoardId, Integer userId) {
+        return livePresenceRegistry.roster(getJoinableLiveId(teatimeBoardId, getActivatedUser(userId)));
     }
 
+    public int getLiveParticipantCount(Integer teatimeBoardId, Integer userId) {
+        return livePresenceRegistry.count(getJoinableLiveId(teatimeBoardId, getActivatedUser(userId)));
+    }
+
+    // 서명만 검증하고 바로 반환한다. 이벤트는 LiveWebhookDispatcher가 방마다 순서대로 비동기 처리한다.
+    // 큐가 가득 차서 이벤트를 버렸다면 503으로 응답해서 LiveKit이 다시 보내게 한다.
     public void webHook(String authHeader, String body) {
-        WebhookReceiver webhookReceiver = new WebhookReceiver(LIVEKIT_API_KEY, LIVEKIT_API_SECRET);
+        WebhookEvent event;
         try {
-            WebhookEvent event = webhookReceiver.receive(body, authHeader);
+            event = webhookReceiver.receive(body, authHeader);
+        } catch (Exception e) {
+            log.error("Error validating webhook event: " + e.getMessage());
+            return;
+        }
 
-            if (event.getEvent().equals("participant_left")) {
-                String liveId = event.getRoom().getName();
-                Integer userId = Integer.parseInt(event.getParticipant().getIdentity());
+        if (!liveWebhookDispatcher.dispatch(event)) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, LIVEKIT_WEBHOOK_FULL.getMessage());
+        }
+    }
 
-                Optional<Live> liveOptional = liveRepository.findById(liveId);
-                if (liveOptional.isEmpty()) {
-                    return;
-                }
-                Live live = liveOptional.get();
+    public void liveKick(Integer teatimeBoardId, Integer kickUserId, Integer userId) {
 
-                TeatimeBoard teatimeBoard = live.getTeatimeBoard();
+        String liveId = getModeratedLiveId(teatimeBoardId, userId);
 
-                if (teatimeBoard.getUser().getId() != userId) {
-                    return;
-                }
+        removeParticipant(teatimeBoardId, liveId, kickUserId);
+    }
 
-                Call<Void> deleteCall = client.deleteRoom(liveId);
-                Response<Void> deleteResponse = deleteCall.execute();
+    public void liveMute(Integer teatimeBoardId, LiveMuteRequestDTO request, Integer userId) {
 
-                if (deleteResponse.isSuccessful()) {
-                    liveRepository.deleteById(liveId);
-                }
-            }
+        String liveId = getModeratedLiveId(teatimeBoardId, userId);
 
-        } catch (Exception e) {
-            log.error("Error validating webhook event: " + e.getMessage());
+        mutePublishedTrack(teatimeBoardId, liveId, request);
+    }
+
+    // 유저, 게시글, 작성자, 방송은 한 번만 확인하고 LiveKit 호출은 LiveModerationExecutor에서 동시에 보낸다.
+    // 같은 대상이 두 번 들어오면 결과가 요청과 어긋나므로 400으로 거절한다.
+    public List<LiveModerationResultDTO> liveKickAll(Integer teatimeBoardId, List<Integer> kickUserIds,
+                                                     Integer userId) {
+
+        checkDuplicated(kickUserIds);
+        String liveId = getModeratedLiveId(teatimeBoardId, userId);
+
+        return liveModerationExecutor.runAll(kickUserIds, kickUserId -> moderate(kickUserId, null,
+                        () -> removeParticipant(teatimeBoardId, liveId, kickUserId)),
+                (kickUserId, e) -> moderationFailure(kickUserId, null, e));
+    }
+
+    public List<LiveModerationResultDTO> liveMuteAll(Integer teatimeBoardId, List<LiveMuteRequestDTO> requests,
+                                                     Integer userId) {
+
+        checkDuplicated(requests.stream()
+                .map(request -> request.getUserId() + ":" + request.getTrackSid())
+                .toList());
+        String liveId = getModeratedLiveId(teatimeBoardId, userId);
+
+        return liveModerationExecutor.runAll(requests, request -> moderate(request.getUserId(), request.getTrackSid(),
+                        () -> mutePublishedTrack(teatimeBoardId, liveId, request)),
+                (request, e) -> moderationFailure(request.getUserId(), request.getTrackSid(), e));
+    }
+
+    private void checkDuplicated(List<?> targets) {
+        if (new HashSet<>(targets).size() != targets.size()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, LIVE_MODERATION_DUPLICATED.getMessage());
         }
     }
 
-    public void liveKick(Integer teatimeBoardId, Integer kickUserId, Integer userId) {
+    // 항목 하나의 실패가 나머지 결과를 잃게 하지 않도록, 어떤 예외든 그 항목의 실패로 바꾼다.
+    private LiveModerationResultDTO moderate(Integer targetUserId, String trackSid, Runnable action) {
+        try {
+            action.run();
+            return LiveModerationResultDTO.success(targetUserId, trackSid);
+        } catch (ResponseStatusException e) {
+            return LiveModerationResultDTO.failure(targetUserId, trackSid, e.getReason());
+        } catch (RuntimeException e) {
+            log.error("live moderation failed : {} {} {}", targetUserId, trackSid, e.getMessage());
+            return LiveModerationResultDTO.failure(targetUserId, trackSid, LIVEKIT_BAD_REQUEST.getMessage());
+        }
+    }
+
+    // 풀이 받지 못했거나 timeout 안에 끝나지 않은 항목의 실패
+    private LiveModerationResultDTO moderationFailure(Integer targetUserId, String trackSid, Throwable e) {
+        LiveMessage message = e instanceof TimeoutException ? LIVE_MODERATION_TIMEOUT : LIVE_MODERATION_BUSY;
+        log.warn("live moderation not completed : {} {} {}", targetUserId, trackSid, e.toString());
+        return LiveModerationResultDTO.failure(targetUserId, trackSid, message.getMessage());
+    }
 
+    // 작성자가 관리하는 열린 방송의 id를 찾는 메소드
+    private String getModeratedLiveId(Integer teatimeBoardId, Integer userId) {
         User activatedUser = getActivatedUser(userId);
-        TeatimeBoard teatimeBoard = getActivatedTeatimeBoardAndWriter(teatimeBoardId);
+        LiveMembers members = liveStatusCache.getMembers(teatimeBoardId, () -> loadMembers(teatimeBoardId));
 
-        checkWriter(teatimeBoard, activatedUser);
+        if (!members.isWriter(activatedUser.getId())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, TEATIME_BOARD_NOT_WRITER.getMessage());
+        }
 
-        Live live = liveRepository.findByTeatimeBoard(teatimeBoard)
+        return getLiveId(teatimeBoardId)
                 .orElseThrow(
                         () -> new ResponseStatusException(HttpStatus.NOT_FOUND, LIVE_NOT_FOUND.getMessage()));
+    }
 
+    private void removeParticipant(Integer teatimeBoardId, String liveId, Integer kickUserId) {
         try {
-            Call<Void> deleteCall = client.removeParticipant(live.getId(), kickUserId.toString());
+            Call<Void> deleteCall = roomServiceClient.removeParticipant(liveId, kickUserId.toString());
             Response<Void> deleteResponse = deleteCall.execute();
             if (deleteResponse.isSuccessful()) {
+                liveNotificationHub.publish(LiveNotification.kicked(teatimeBoardId, kickUserId));
                 return;
             }
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, deleteResponse.errorBody().string());
@@ -166,24 +247,16 @@ public class LiveService {
         }
     }
 
-    public void liveMute(Integer teatimeBoardId, LiveMuteRequestDTO request, Integer userId) {
-
-        User activatedUser = getActivatedUser(userId);
-        TeatimeBoard teatimeBoard = getActivatedTeatimeBoardAndWriter(teatimeBoardId);
-
-        checkWriter(teatimeBoard, activatedUser);
-
-        Live live = liveRepository.findByTeatimeBoard(teatimeBoard)
-                .orElseThrow(
-                        () -> new ResponseStatusException(HttpStatus.NOT_FOUND, LIVE_NOT_FOUND.getMessage()));
-
+    private void mutePublishedTrack(Integer teatimeBoardId, String liveId, LiveMuteRequestDTO request) {
         try {
-            Call<LivekitModels.TrackInfo> muteCall = client.mutePublishedTrack(live.getId(),
+            Call<LivekitModels.TrackInfo> muteCall = roomServiceClient.mutePublishedTrack(liveId,
                     request.getUserId().toString(),
                     request.getTrackSid(),
                     request.getIsMute());
             Response<LivekitModels.TrackInfo> muteResponse = muteCall.execute();
             if (muteResponse.isSuccessful()) {
+                liveNotificationHub.publish(LiveNotification.muted(teatimeBoardId, request.getUserId(),
+                        request.getTrackSid(), request.getIsMute()));
                 return;
             }
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, muteResponse.errorBody().string());
@@ -192,6 +265,19 @@ public class LiveService {
         }
     }
 
+    // 참가자(또는 작성자)가 들어갈 수 있는 열린 방송의 id를 찾는 메소드
+    private String getJoinableLiveId(Integer teatimeBoardId, User user) {
+        checkParticipant(teatimeBoardId, user);
+
+        return getLiveId(teatimeBoardId)
+                .orElseThrow(
+                        () -> new ResponseStatusException(HttpStatus.NOT_FOUND, LIVE_NOT_FOUND.getMessage()));
+    }
+
+    private Optional<String> getLiveId(Integer teatimeBoardId) {
+        return liveStatusCache.getLiveId(teatimeBoardId, () -> liveRepository.findIdByTeatimeBoardId(teatimeBoardId));
+    }
+
     // 티타임 게시글 작성자인지 확인하는 메소드
     private void checkWriter(TeatimeBoard teatimeBoard, User user) {
         if (!teatimeBoard.getUser().equals(user)) {
@@ -199,17 +285,22 @@ public class LiveService {
         }
     }
 
-    // 티타임 방송 참가자인지 확인하는 메소드
-    private void checkParticipant(TeatimeBoard teatimeBoard, User user) {
-        if (teatimeBoard.getUser().equals(user)) {
-            return;
-        }
+    // 티타임 방송 참가자(또는 작성자)인지 확인하는 메소드. 게시글과 참가자 목록은 캐싱된 값을 쓴다.
+    private void checkParticipant(Integer teatimeBoardId, User user) {
+        LiveMembers members = liveStatusCache.getMembers(teatimeBoardId, () -> loadMembers(teatimeBoardId));
 
-        if (!teatimeParticipantRepository.existsByTeatimeBoardAndUser(teatimeBoard, user)) {
+        if (!members.canJoin(user.getId())) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, TEATIME_PARTICIPANT_NOT_FOUND.getMessage());
         }
     }
 
+    private LiveMembers loadMembers(Integer teatimeBoardId) {
+        TeatimeBoard teatimeBoard = getActivatedTeatimeBoardAndWriter(teatimeBoardId);
+
+        return new LiveMembers(teatimeBoard.getUser().getId(),
+                Set.copyOf(teatimeParticipantRepository.findUserIdsByTeatimeBoardId(teatimeBoardId)));
+    }
+
     // 방송 예정일인지 확인하는 메소드
     private void checkBroadCastDate(TeatimeBoard teatimeBoard) {
         LocalDateTime broadcastDate = teatimeBoard.getBroadcastDate();
@@ -256,11 +347,6 @@ public class LiveService {
     }
 
     public User getActivatedUser(Integer userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, USER_NOT_FOUND.getMessage()));
-        if (!user.getActivated()) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, USER_NOT_ACTIVATED.getMessage());
-        }
-        return user;
+        return activatedUserResolver.getActivatedUser(userId, HttpStatus.UNAUTHORIZED, USER_NOT_ACTIVATED);
     }
 }
@@ -0,0 +1,206 @@
+package com.example.restea.live.service;
+
+import com.example.restea.common.util.AfterCommit;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 티타임 게시글마다 열린 방송의 id와 방송에 들어올 수 있는 유저(작성자, 참가자)를 TTL 동안 서버 메모리에 캐싱하는 클래스. 방송 시작을 기다리며 방송 생성 여부를 반복해서
+ * 조회하는 참가자들이 매번 게시글, 참가자, 방송 테이블을 조회하지 않도록 한다.
+ * <p>
+ * 방송이 생성되거나 삭제되면, 참가자가 바뀌거나 게시글이 삭제되면 커밋된 뒤에 무효화한다. 같은 게시글의 캐시가 비어 있으면 동시에 들어온 요청 중 하나만 DB를 조회하고
+ * 나머지는 그 결과를 기다린다. DB 조회는 맵의 잠금 밖에서 하므로 다른 게시글의 조회와 무효화를 막지 않는다. ttl이 0이면 캐싱하지 않는다.
+ */
+@Component
+public class LiveStatusCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final long ttlSeconds;
+    private final Map<Integer, CachedLive> lives = new ConcurrentHashMap<>();
+    private final Map<String, Integer> teatimeBoardIdByLiveId = new ConcurrentHashMap<>();
+    private final Map<Integer, CachedMembers> members = new ConcurrentHashMap<>();
+    // 게시글마다 진행 중인 DB 조회. 무효화되면 지워서 조회가 끝나도 캐싱하지 않게 한다.
+    private final Map<Integer, CompletableFuture<CachedLive>> liveLoads = new ConcurrentHashMap<>();
+    private final Map<Integer, CompletableFuture<CachedMembers>> memberLoads = new ConcurrentHashMap<>();
+
+    public LiveStatusCache(@Value("${live.status-cache.ttl-seconds:10}") long ttlSeconds) {
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * @param teatimeBoardId 티타임 게시글 id
+     * @param loader         캐시가 없을 때 열린 방송의 id를 조회하는 쿼리
+     * @return 열린 방송의 id, 방송이 없다면 Optional.empty()
+     */
+    public Optional<String> getLiveId(Integer teatimeBoardId, Supplier<Optional<String>> loader) {
+        if (ttlSeconds <= 0) {
+            return loader.get();
+        }
+
+        CachedLive cached = lives.get(teatimeBoardId);
+        if (cached == null || !cached.isFresh()) {
+            if (lives.size() >= MAX_ENTRIES) {
+                lives.clear();
+                teatimeBoardIdByLiveId.clear();
+            }
+            cached = load(lives, liveLoads, teatimeBoardId, () -> loadLive(teatimeBoardId, loader));
+        }
+        return Optional.ofNullable(cached.liveId());
+    }
+
+    /**
+     * @param teatimeBoardId 티타임 게시글 id
+     * @param loader         캐시가 없을 때 작성자와 참가자를 조회하는 쿼리. 게시글이 없거나 삭제되었다면 예외를 던지며, 이 결과는 캐싱하지 않는다.
+     * @return 방송에 들어올 수 있는 유저
+     */
+    public LiveMembers getMembers(Integer teatimeBoardId, Supplier<LiveMembers> loader) {
+        if (ttlSeconds <= 0) {
+            return loader.get();
+        }
+
+        CachedMembers cached = members.get(teatimeBoardId);
+        if (cached == null || !cached.isFresh()) {
+            if (members.size() >= MAX_ENTRIES) {
+                members.clear();
+            }
+            cached = load(members, memberLoads, teatimeBoardId, () -> new CachedMembers(loader.get(), expiresAt()));
+        }
+        return cached.members();
+    }
+
+    // 방송이 생성되었거나 게시글이 삭제되었을 때
+    public void evictLive(Integer teatimeBoardId) {
+        AfterCommit.run(() -> {
+            liveLoads.remove(teatimeBoardId);
+            CachedLive removed = lives.remove(teatimeBoardId);
+            if (removed != null && removed.liveId() != null) {
+                teatimeBoardIdByLiveId.remove(removed.liveId());
+            }
+        });
+    }
+
+    // 방송(LiveKit 방)이 삭제되었을 때. 웹훅에는 방송 id만 있으므로 게시글 id를 역으로 찾는다.
+    public void evictLiveById(String liveId) {
+        AfterCommit.run(() -> {
+            Integer teatimeBoardId = teatimeBoardIdByLiveId.remove(liveId);
+            if (teatimeBoardId != null) {
+                liveLoads.remove(teatimeBoardId);
+                lives.remove(teatimeBoardId);
+            }
+        });
+    }
+
+    // 참가자가 바뀌거나 게시글이 삭제되었을 때
+    public void evictMembers(Integer teatimeBoardId) {
+        AfterCommit.run(() -> {
+            memberLoads.remove(teatimeBoardId);
+            members.remove(teatimeBoardId);
+        });
+    }
+
+    /**
+     * 같은 게시글을 이미 조회 중이라면 그 결과를 기다리고, 아니라면 직접 조회해서 캐싱한다. 조회하는 동안 무효화되었다면 결과를 돌려주기만 하고 캐싱하지 않는다.
+     */
+    private <T extends Expiring> T load(Map<Integer, T> cache, Map<Integer, CompletableFuture<T>> loads,
+                                        Integer teatimeBoardId, Supplier<T> loader) {
+        CompletableFuture<T> mine = new CompletableFuture<>();
+        CompletableFuture<T> inFlight = loads.putIfAbsent(teatimeBoardId, mine);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        try {
+            // 앞선 조회가 방금 끝났다면 그 결과를 쓴다.
+            T cached = cache.get(teatimeBoardId);
+            if (cached == null || !cached.isFresh()) {
+                T loaded = loader.get();
+                // 무효화와 같은 키의 잠금을 잡아서, 무효화된 뒤에는 캐싱하지 않는다.
+                loads.computeIfPresent(teatimeBoardId, (id, current) -> {
+                    if (current == mine) {
+                        cache.put(id, loaded);
+                    }
+                    return current;
+                });
+                cached = loaded;
+            }
+            mine.complete(cached);
+            return cached;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(teatimeBoardId, mine);
+        }
+    }
+
+    // 조회한 요청이 던진 예외를 그대로 던진다.
+    private <T> T await(CompletableFuture<T> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private CachedLive loadLive(Integer teatimeBoardId, Supplier<Optional<String>> loader) {
+        String liveId = loader.get().orElse(null);
+        if (liveId != null) {
+            teatimeBoardIdByLiveId.put(liveId, teatimeBoardId);
+        }
+        return new CachedLive(liveId, expiresAt());
+    }
+
+    private Instant expiresAt() {
+        return Instant.now().plusSeconds(ttlSeconds);
+    }
+
+    /**
+     * 방송에 들어올 수 있는 유저
+     *
+     * @param writerId       티타임 게시글 작성자 id
+     * @param participantIds 티타임 참가자 id
+     */
+    public record LiveMembers(Integer writerId, Set<Integer> participantIds) {
+
+        public boolean isWriter(Integer userId) {
+            return writerId.equals(userId);
+        }
+
+        public boolean canJoin(Integer userId) {
+            return isWriter(userId) || participantIds.contains(userId);
+        }
+    }
+
+    private interface Expiring {
+        boolean isFresh();
+    }
+
+    private record CachedLive(String liveId, Instant expiresAt) implements Expiring {
+        @Override
+        public boolean isFresh() {
+            return Instant.now().isBefore(expiresAt);
+        }
+    }
+
+    private record CachedMembers(LiveMembers members, Instant expiresAt) implements Expiring {
+        @Override
+        public boolean isFresh() {
+            return Instant.now().isBefore(expiresAt);
+        }
+    }
+}
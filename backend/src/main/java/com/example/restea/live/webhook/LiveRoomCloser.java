@@ -0,0 +1,55 @@
+package com.example.restea.live.webhook;
+
+import com.example.restea.live.notification.LiveNotification;
+import com.example.restea.live.notification.LiveNotificationHub;
+import com.example.restea.live.repository.LiveRepository;
+import com.example.restea.live.service.LiveStatusCache;
+import io.livekit.server.RoomServiceClient;
+import java.io.IOException;
+import java.util.Optional;
+import livekit.LivekitWebhook.WebhookEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import retrofit2.Response;
+
+// 방송의 호스트(티타임 게시글 작성자)가 나가면 LiveKit 방과 Live를 삭제하고, 게시글의 SSE 연결에 live-closed를 보낸다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveRoomCloser implements LiveWebhookListener {
+
+    private final LiveRepository liveRepository;
+    private final RoomServiceClient roomServiceClient;
+    private final LiveStatusCache liveStatusCache;
+    private final LiveNotificationHub liveNotificationHub;
+
+    @Override
+    public void onEvent(WebhookEvent event) {
+        if (!event.getEvent().equals("participant_left")) {
+            return;
+        }
+
+        String liveId = event.getRoom().getName();
+        Integer userId = Integer.parseInt(event.getParticipant().getIdentity());
+
+        boolean isHost = liveRepository.findHostUserIdById(liveId)
+                .map(userId::equals)
+                .orElse(false);
+        if (!isHost) {
+            return;
+        }
+
+        try {
+            Response<Void> deleteResponse = roomServiceClient.deleteRoom(liveId).execute();
+            if (deleteResponse.isSuccessful()) {
+                Optional<Integer> teatimeBoardId = liveRepository.findTeatimeBoardIdById(liveId);
+                liveRepository.deleteById(liveId);
+                liveStatusCache.evictLiveById(liveId);
+                teatimeBoardId.ifPresent(id -> liveNotificationHub.publish(LiveNotification.closed(id)));
+            }
+        } catch (IOException e) {
+            log.error("livekit room delete failed : {} {}", liveId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.restea.live.webhook;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import livekit.LivekitWebhook.WebhookEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증된 LiveKit 웹훅 이벤트를 요청 스레드 밖에서 처리한다.
+ * <ul>
+ *     <li>이벤트 id로 중복 전달된 이벤트를 한 번만 처리한다.</li>
+ *     <li>방 이름으로 스트라이프를 고르고 스트라이프마다 스레드 하나로 처리해서, 같은 방의 이벤트는 받은 순서대로 처리된다.</li>
+ *     <li>스트라이프의 큐가 가득 차면 이벤트를 버리고 livekit.webhook.dropped를 올린다. 웹훅 요청은 503으로 응답해서 LiveKit이 다시 보내게 한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class LiveWebhookDispatcher {
+
+    private final List<LiveWebhookListener> listeners;
+    private final ExecutorService[] stripes;
+    private final Map<String, Boolean> recentEventIds;
+    private final Counter receivedCounter;
+    private final Counter duplicateCounter;
+    private final Counter droppedCounter;
+
+    public LiveWebhookDispatcher(List<LiveWebhookListener> listeners, MeterRegistry meterRegistry,
+                                 @Value("${livekit.webhook.stripes:4}") int stripeCount,
+                                 @Value("${livekit.webhook.queue-capacity:1000}") int queueCapacity,
+                                 @Value("${livekit.webhook.dedupe-size:10000}") int dedupeSize) {
+        this.listeners = listeners;
+        this.stripes = new ExecutorService[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                    new CustomizableThreadFactory("livekit-webhook-" + i + "-"));
+        }
+        // 최근 이벤트 id만 기억하는 LRU
+        this.recentEventIds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > dedupeSize;
+            }
+        };
+        this.receivedCounter = meterRegistry.counter("livekit.webhook.received");
+        this.duplicateCounter = meterRegistry.counter("livekit.webhook.duplicate");
+        this.droppedCounter = meterRegistry.counter("livekit.webhook.dropped");
+    }
+
+    /**
+     * @return 처리하도록 넘겼거나 이미 받은 이벤트라면 true, 큐가 가득 차서 버렸다면 false
+     */
+    public boolean dispatch(WebhookEvent event) {
+        receivedCounter.increment();
+        String eventId = event.getId();
+        if (!markSeen(eventId)) {
+            duplicateCounter.increment();
+            return true;
+        }
+
+        try {
+            stripeOf(event.getRoom().getName()).execute(() -> notifyListeners(event));
+            return true;
+        } catch (RejectedExecutionException e) {
+            forget(eventId); // LiveKit이 다시 보내면 처리할 수 있도록
+            droppedCounter.increment();
+            log.warn("livekit webhook dropped : {} {}", event.getEvent(), eventId);
+            return false;
+        }
+    }
+
+    private void notifyListeners(WebhookEvent event) {
+        for (LiveWebhookListener listener : listeners) {
+            try {
+                listener.onEvent(event);
+            } catch (Exception e) {
+                log.error("livekit webhook listener failed : {} {}", event.getEvent(), e.getMessage());
+            }
+        }
+    }
+
+    private ExecutorService stripeOf(String roomName) {
+        return stripes[Math.floorMod(roomName.hashCode(), stripes.length)];
+    }
+
+    // id가 없는 이벤트는 중복을 판단할 수 없으므로 그대로 처리한다.
+    private boolean markSeen(String eventId) {
+        if (eventId.isEmpty()) {
+            return true;
+        }
+        synchronized (recentEventIds) {
+            return recentEventIds.putIfAbsent(eventId, Boolean.TRUE) == null;
+        }
+    }
+
+    private void forget(String eventId) {
+        synchronized (recentEventIds) {
+            recentEventIds.remove(eventId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService stripe : stripes) {
+            stripe.shutdown();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.restea.live.webhook;
+
+import livekit.LivekitWebhook.WebhookEvent;
+
+/**
+ * LiveWebhookDispatcher가 검증을 마친 LiveKit 웹훅 이벤트를 전달하는 대상. 같은 방의 이벤트는 받은 순서대로, 한 번에 하나씩 전달된다.
+ */
+public interface LiveWebhookListener {
+
+    void onEvent(WebhookEvent event);
+}
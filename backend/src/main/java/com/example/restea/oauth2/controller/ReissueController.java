@@ -2,6 +2,7 @@ package com.example.restea.oauth2.controller;
 
 import static com.example.restea.oauth2.enums.TokenType.ACCESS;
 
+import com.example.restea.oauth2.dto.JwtClaims;
 import com.example.restea.oauth2.service.ReissueService;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -23,13 +24,13 @@ public class ReissueController {
     public ResponseEntity<?> reissue(@CookieValue(value = "refresh", required = false) String refreshToken
             , HttpServletResponse response) {
         // 올바른 토큰인지 검증
-        reissueService.validateToken(refreshToken, response);
+        JwtClaims claims = reissueService.validateToken(refreshToken, response);
 
-        // DB에 RefreshToken이 존재하는지 확인 -> LoginFilter에서 이미 저장을 했을 것이기 때문이다.
-        reissueService.checkRefresh(refreshToken);
+        // RefreshToken이 revoke 되지 않았는지 확인 -> revoke 저장소에 있으면 바로 거르고, 없으면 DB를 확인한다.
+        reissueService.checkRefresh(claims);
 
-        // RefreshToken이 DB에 존재하므로 최종적으로 AccesToken 발급 절차 진행
-        String newAccessToken = reissueService.createNewAccessToken(refreshToken);
+        // 유효한 RefreshToken이므로 최종적으로 AccesToken 발급 절차 진행
+        String newAccessToken = reissueService.createNewAccessToken(claims);
 
         response.setHeader(ACCESS.getType(), newAccessToken);
         return new ResponseEntity<>(HttpStatus.OK);
@@ -0,0 +1,34 @@
+package com.example.restea.oauth2.dto;
+
+import com.example.restea.oauth2.enums.TokenType;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+// 서명 검증을 한 번만 하고 꺼낸 토큰의 claim. 요청 처리 중에 다시 파싱하지 않도록 이 객체를 넘겨서 쓴다.
+@Getter
+@Builder
+public class JwtClaims {
+
+    private final String category;
+    private final Integer userId;
+    private final String nickname;
+    private final String picture;
+    private final String role;
+    private final String tokenId; // jti. 이 claim이 추가되기 전에 발급된 토큰이라면 null
+    private final LocalDateTime issuedAt;
+    private final LocalDateTime expiredAt;
+
+    public boolean isCategory(TokenType tokenType) {
+        return tokenType.getType().equals(category);
+    }
+
+    public OAuth2JwtMemberDTO toMemberDTO() {
+        return OAuth2JwtMemberDTO.builder()
+                .userId(userId)
+                .nickname(nickname)
+                .picture(picture)
+                .role(role)
+                .build();
+    }
+}
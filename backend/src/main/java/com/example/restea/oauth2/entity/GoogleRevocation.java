@@ -0,0 +1,54 @@
+package com.example.restea.oauth2.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 탈퇴한 유저의 구글 토큰 revoke 요청을 담는 outbox. 탈퇴 트랜잭션에서 저장하고 GoogleRevocationJob이 전달한 뒤 삭제한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "google_revocation", indexes = @Index(name = "idx_google_revocation_next_attempt_at",
+        columnList = "nextAttemptAt"))
+public class GoogleRevocation {
+    @Id
+    @GeneratedValue
+    @Column(name = "google_revocation_id")
+    private Integer id;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String token;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Builder
+    public GoogleRevocation(String token, LocalDateTime nextAttemptAt) {
+        this.token = token;
+        this.attempts = 0;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    // 전달하는 동안 다른 서버가 같은 요청을 가져가지 않도록 잠시 미룬다.
+    public void lease(LocalDateTime until) {
+        this.nextAttemptAt = until;
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
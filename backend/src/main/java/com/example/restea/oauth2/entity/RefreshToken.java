@@ -8,6 +8,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -20,7 +21,8 @@ import org.hibernate.annotations.DynamicInsert;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @DynamicInsert
-@Table(name = "refresh_token")
+@Table(name = "refresh_token", uniqueConstraints = @UniqueConstraint(name = "uk_refresh_token_token_id",
+        columnNames = "token_id"))
 public class RefreshToken {
     @Id
     @GeneratedValue
@@ -30,6 +32,10 @@ public class RefreshToken {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String value;
 
+    // 토큰의 jti. TEXT인 value 대신 이 값으로 조회한다. jti가 없던 시절에 발급된 토큰은 null
+    @Column(name = "token_id", length = 36)
+    private String tokenId;
+
     @Column(nullable = false)
     private LocalDateTime issuedAt;
 
@@ -44,8 +50,9 @@ public class RefreshToken {
     private User user;
 
     @Builder
-    public RefreshToken(String value, LocalDateTime issuedAt, LocalDateTime expiredAt) {
+    public RefreshToken(String value, String tokenId, LocalDateTime issuedAt, LocalDateTime expiredAt) {
         this.value = value;
+        this.tokenId = tokenId;
         this.issuedAt = issuedAt;
         this.expiredAt = expiredAt;
     }
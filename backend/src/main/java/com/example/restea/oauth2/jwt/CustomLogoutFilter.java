@@ -2,8 +2,10 @@ package com.example.restea.oauth2.jwt;
 
 import static com.example.restea.oauth2.enums.TokenType.REFRESH;
 
-import com.example.restea.oauth2.repository.RefreshTokenRepository;
+import com.example.restea.oauth2.dto.JwtClaims;
+import com.example.restea.oauth2.service.RefreshTokenService;
 import com.example.restea.oauth2.util.CookieMethods;
+import com.example.restea.oauth2.util.RequestPathTable;
 import com.example.restea.user.entity.User;
 import com.example.restea.user.repository.UserRepository;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -16,7 +18,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Optional;
-import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.filter.GenericFilterBean;
@@ -24,13 +25,11 @@ import org.springframework.web.filter.GenericFilterBean;
 @RequiredArgsConstructor
 public class CustomLogoutFilter extends GenericFilterBean {
 
-    private static final Pattern LOGOUT_PATTERN = Pattern.compile("^/api/v1/logout$");
-    private static final String POST_METHOD = "POST";
-
     private final JWTUtil jwtUtil;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
     private final UserRepository userRepository;
     private final CookieMethods cookieMethods;
+    private final RequestPathTable logoutPaths;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
@@ -50,16 +49,17 @@ public class CustomLogoutFilter extends GenericFilterBean {
         String refreshToken = getRefreshTokenFromCookies(request.getCookies());
 
         // RefreshToken이 null이거나, 카테고리가 다르거나, 만료된 경우.
-        if (refreshToken == null || isInvalidRefreshToken(refreshToken)) {
+        JwtClaims claims = refreshToken == null ? null : getValidRefreshClaims(refreshToken);
+        if (claims == null) {
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             return;
         }
 
-        processLogout(response, refreshToken);
+        processLogout(response, claims);
     }
 
     private boolean isNotLogoutRequest(HttpServletRequest request) {
-        return !(LOGOUT_PATTERN.matcher(request.getRequestURI()).matches() && POST_METHOD.equals(request.getMethod()));
+        return !logoutPaths.matches(request);
     }
 
     private String getRefreshTokenFromCookies(Cookie[] cookies) {
@@ -77,26 +77,29 @@ public class CustomLogoutFilter extends GenericFilterBean {
     }
 
 
-    private boolean isInvalidRefreshToken(String refreshToken) {
+    // 올바른 RefreshToken이라면 claim을, 아니라면 null을 반환
+    private JwtClaims getValidRefreshClaims(String refreshToken) {
+        JwtClaims claims;
         try {
-            // 만료되었거나, 카테고리가 같지 않다면 Invalid한 토큰
-            if (jwtUtil.isExpired(refreshToken) || !REFRESH.getType().equals(jwtUtil.getCategory(refreshToken))) {
-                return true;
-            }
+            claims = jwtUtil.parseClaims(refreshToken);
         } catch (ExpiredJwtException e) {
             // 만료가 되었다면 Exception이 발생한다. 이 경우 Invalid한 토큰
-            return true;
+            return null;
+        }
+
+        // 카테고리가 같지 않거나, 이미 revoke 되었다면 Invalid한 토큰
+        if (!claims.isCategory(REFRESH) || !refreshTokenService.isUsable(claims)) {
+            return null;
         }
-        // 만약 DB에 존재하지 않는다면 Invalid한 토큰
-        return !refreshTokenRepository.existsByValue(refreshToken);
+        return claims;
     }
 
     @Transactional
-    protected void processLogout(HttpServletResponse response, String refreshToken) {
-        User user = findUserByRefreshToken(refreshToken);
+    protected void processLogout(HttpServletResponse response, JwtClaims claims) {
+        User user = findUser(claims.getUserId());
 
         clearUserRefreshToken(user); // User에서 리프레시 토큰 삭제
-        refreshTokenRepository.revokeByValue(refreshToken); // refresh Token revoke 처리
+        refreshTokenService.revoke(claims.getTokenId(), claims.getExpiredAt()); // refresh Token revoke 처리
 
         // 쿠키 삭제
         cookieMethods.clearRefreshTokenCookie(response);
@@ -109,8 +112,7 @@ public class CustomLogoutFilter extends GenericFilterBean {
         userRepository.save(user); // User 변경
     }
 
-    private User findUserByRefreshToken(String refreshToken) {
-        Integer userId = jwtUtil.getUserId(refreshToken);
+    private User findUser(Integer userId) {
         Optional<User> optionalUser = userRepository.findById(userId);
 
         if (optionalUser.isEmpty()) {
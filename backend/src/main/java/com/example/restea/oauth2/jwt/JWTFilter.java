@@ -7,7 +7,11 @@ import static com.example.restea.oauth2.enums.TokenType.ACCESS;
 import static com.example.restea.oauth2.enums.TokenType.BEARER;
 
 import com.example.restea.oauth2.dto.CustomOAuth2User;
+import com.example.restea.oauth2.dto.JwtClaims;
 import com.example.restea.oauth2.dto.OAuth2JwtMemberDTO;
+import com.example.restea.oauth2.util.RequestPathTable;
+import com.example.restea.user.service.UserProfileCache;
+import com.example.restea.user.service.UserProfileCache.UserProfile;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -15,8 +19,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.util.List;
-import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -26,17 +28,16 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @RequiredArgsConstructor
 public class JWTFilter extends OncePerRequestFilter {
 
-    private static final List<Pattern> EXEMPTED_PATTERNS = List.of(
-            Pattern.compile("^\\/api/v1/livekit/webhook(?:\\/.*)?$")
-    );
-
     private final JWTUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final UserProfileCache userProfileCache;
+    private final RequestPathTable exemptedPaths;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        if (isExemptedUri(request)) { // URI 확인
+        if (exemptedPaths.matches(request)) { // URI 확인
             doFilter(request, response, filterChain);
             return;
         }
@@ -52,11 +53,21 @@ public class JWTFilter extends OncePerRequestFilter {
         }
 
         String accessToken = extractToken(header);
-        if (isTokenInvalid(accessToken, response)) { // 만료되었는지 && 올바른 토큰인지 확인
+        OAuth2JwtMemberDTO cachedMember = verifiedTokenCache.get(accessToken); // 이미 검증한 토큰이라면 파싱 생략
+        if (cachedMember != null) {
+            setUpAuthentication(withProfile(cachedMember));
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        JwtClaims claims = parseClaims(accessToken, response); // 서명은 요청마다 한 번만 검증
+        if (claims == null || isNotAccessToken(claims, response)) { // 만료되었는지 && 올바른 토큰인지 확인
             return;
         }
 
-        setUpAuthentication(accessToken);
+        OAuth2JwtMemberDTO member = claims.toMemberDTO();
+        verifiedTokenCache.put(accessToken, member, claims.getExpiredAt());
+        setUpAuthentication(withProfile(member));
         filterChain.doFilter(request, response);
     }
 
@@ -82,31 +93,19 @@ public class JWTFilter extends OncePerRequestFilter {
         return header.substring(BEARER.getType().length());
     }
 
-    private boolean isExemptedUri(HttpServletRequest request) {
-        String requestUri = request.getRequestURI();
-
-        return EXEMPTED_PATTERNS.stream()
-                .anyMatch(pattern -> pattern.matcher(requestUri).matches());
-    }
-
-    private boolean isTokenInvalid(String accessToken, HttpServletResponse response) throws IOException {
-        return isTokenExpired(accessToken, response) || isNotAccessToken(accessToken, response);
-    }
-
-    private boolean isTokenExpired(String accessToken, HttpServletResponse response) throws IOException {
+    // 만료된 토큰이라면 응답을 설정하고 null 반환
+    private JwtClaims parseClaims(String accessToken, HttpServletResponse response) throws IOException {
         try {
-            jwtUtil.isExpired(accessToken);
-            // 정상적이라면 Exception이 발생하지 않음
-            return false;
+            return jwtUtil.parseClaims(accessToken);
         } catch (ExpiredJwtException e) {
             // 만료된 Jwt 토큰이라면
             setResponse(response, EXPIRED_ACCESS_TOKEN.toJson());
-            return true;
+            return null;
         }
     }
 
-    private boolean isNotAccessToken(String accessToken, HttpServletResponse response) throws IOException {
-        if (jwtUtil.getCategory(accessToken).equals(ACCESS.getType())) {
+    private boolean isNotAccessToken(JwtClaims claims, HttpServletResponse response) throws IOException {
+        if (claims.isCategory(ACCESS)) {
             return false;
         }
         // AccessToken이 아닐 경우
@@ -128,17 +127,25 @@ public class JWTFilter extends OncePerRequestFilter {
         writer.flush();
     }
 
-    private void setUpAuthentication(String accessToken) {
-        String nickname = jwtUtil.getNickname(accessToken);
-        Integer userId = jwtUtil.getUserId(accessToken);
-        String role = jwtUtil.getRole(accessToken);
+    // 닉네임, 사진이 없는 compact AccessToken이라면 UserProfileCache에서 채운다.
+    private OAuth2JwtMemberDTO withProfile(OAuth2JwtMemberDTO member) {
+        if (member.getNickname() != null) {
+            return member;
+        }
 
-        OAuth2JwtMemberDTO oAuth2JwtMemberDTO = OAuth2JwtMemberDTO.builder()
-                .nickname(nickname)
-                .userId(userId)
-                .role(role)
+        UserProfile profile = userProfileCache.get(member.getUserId());
+        if (profile == null) {
+            return member;
+        }
+        return OAuth2JwtMemberDTO.builder()
+                .userId(member.getUserId())
+                .nickname(profile.nickname())
+                .picture(profile.picture())
+                .role(member.getRole())
                 .build();
+    }
 
+    private void setUpAuthentication(OAuth2JwtMemberDTO oAuth2JwtMemberDTO) {
         //CustomOAuth2User에 유저 정보 담기
         CustomOAuth2User customOAuth2User = new CustomOAuth2User(oAuth2JwtMemberDTO);
         // 스프링 시큐리티 인증 토큰 생성
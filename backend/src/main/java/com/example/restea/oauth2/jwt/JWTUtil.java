@@ -3,11 +3,15 @@ package com.example.restea.oauth2.jwt;
 import static com.example.restea.oauth2.enums.TokenType.ACCESS;
 import static com.example.restea.oauth2.enums.TokenType.REFRESH;
 
+import com.example.restea.oauth2.dto.JwtClaims;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.UUID;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,65 +22,52 @@ public class JWTUtil {
 
     private static final Long MS_TO_S = 1000L;
     private final SecretKey secretKey;
+    private final JwtParser jwtParser; // 불변이고 thread-safe 하므로 한 번만 만들어서 재사용
+    // true라면 AccessToken에 nickname, picture를 싣지 않는다. 프론트가 토큰에서 닉네임을 꺼내지 않게 된 뒤에 켠다.
+    private final boolean compactAccessToken;
 
     /**
      * application.properties에서 저장해 준 암호화 키를 이용해 secretKey 객체 생성
      */
-    public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
+    public JWTUtil(@Value("${spring.jwt.secret}") String secret,
+                   @Value("${jwt.compact-access-token:false}") boolean compactAccessToken) {
+        this.compactAccessToken = compactAccessToken;
         secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8),
                 Jwts.SIG.HS256.key().build().getAlgorithm());
+        jwtParser = Jwts.parser().verifyWith(secretKey).build();
     }
 
-    // nickname 얻기
-    public String getNickname(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload()
-                .get("nickname", String.class);
-    }
-
-    // userId 얻기
-    public Integer getUserId(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload()
-                .get("userId", Integer.class);
-    }
-
-    // role 얻기
-    public String getRole(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload()
-                .get("role", String.class);
-    }
-
-    // Category 값 얻기
-    public String getCategory(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload()
-                .get("category", String.class);
-    }
-
-    // Picture 값 얻기
-    public String getPicture(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload()
-                .get("picture", String.class);
-    }
-
-    // IssuedAt 값 얻기
-    public LocalDateTime getIssuedAt(String token) {
-        return LocalDateTime.ofInstant(Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload()
-                .getIssuedAt().toInstant(), ZoneId.systemDefault());
-    }
-
-    // ExpiredAt 값 얻기
-    public LocalDateTime getExpiredAt(String token) {
-        return LocalDateTime.ofInstant(Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload()
-                .getExpiration().toInstant(), ZoneId.systemDefault());
+    /**
+     * 서명을 한 번만 검증하고 토큰의 claim을 모두 꺼내는 메소드
+     *
+     * @param token JWT
+     * @return 토큰의 claim
+     * @throws io.jsonwebtoken.ExpiredJwtException 만료된 토큰일 때
+     * @throws io.jsonwebtoken.JwtException        서명이 맞지 않거나 형식이 잘못된 토큰일 때
+     */
+    public JwtClaims parseClaims(String token) {
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+
+        return JwtClaims.builder()
+                .category(claims.get("category", String.class))
+                .userId(claims.get("userId", Integer.class))
+                .nickname(claims.get("nickname", String.class))
+                .picture(claims.get("picture", String.class))
+                .role(claims.get("role", String.class))
+                .tokenId(claims.getId())
+                .issuedAt(toLocalDateTime(claims.getIssuedAt()))
+                .expiredAt(toLocalDateTime(claims.getExpiration()))
+                .build();
     }
 
-    // 만료 되었는지?
-    public Boolean isExpired(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload()
-                .getExpiration()
-                .before(new Date()); // 현재 Date가 Expiration 시점 이전인가?
+    private LocalDateTime toLocalDateTime(Date date) {
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
     }
 
     public String createAccessToken(Integer userId, String nickname, String picture, String role) {
+        if (compactAccessToken) { // 닉네임, 사진은 JWTFilter에서 UserProfileCache로 채운다.
+            return createJwt(ACCESS.getType(), userId, null, null, role, ACCESS.getExpiration() * MS_TO_S);
+        }
         return createJwt(ACCESS.getType(), userId, nickname, picture, role, ACCESS.getExpiration() * MS_TO_S);
     }
 
@@ -88,9 +79,10 @@ public class JWTUtil {
     private String createJwt(String category, Integer userId, String nickname, String picture, String role,
                              Long expiredMs) {
         return Jwts.builder()
+                .id(UUID.randomUUID().toString()) // 토큰을 원문 대신 id로 찾을 수 있도록 jti 추가
                 .claim("category", category) // access, refresh 판단
                 .claim("userId", userId)
-                .claim("nickname", nickname)
+                .claim("nickname", nickname) // null이라면 claim을 싣지 않는다.
                 .claim("picture", picture)
                 .claim("role", role)
                 .issuedAt(new Date(System.currentTimeMillis()))
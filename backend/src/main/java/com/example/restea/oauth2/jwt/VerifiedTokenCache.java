@@ -0,0 +1,120 @@
+package com.example.restea.oauth2.jwt;
+
+import com.example.restea.oauth2.dto.OAuth2JwtMemberDTO;
+import com.example.restea.oauth2.util.TokenHasher;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증을 마친 AccessToken의 유저 정보를 토큰 만료 시각까지 보관하는 캐시. 같은 토큰으로 반복해서 요청할 때 다시 파싱하지 않도록 한다.
+ * 토큰 원문 대신 SHA-256 digest를 키로 쓰고, 가득 차면 Caffeine이 자주 쓰이지 않는 토큰부터 밀어낸다. max-size가 0이면 캐싱하지 않는다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Cache<String, CachedMember> cache;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public VerifiedTokenCache(@Value("${jwt.verified-cache.max-size:10000}") int maxSize,
+                              MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        this.hitCounter = Counter.builder("jwt.verified_cache.hit").register(meterRegistry);
+        this.missCounter = Counter.builder("jwt.verified_cache.miss").register(meterRegistry);
+        this.evictionCounter = Counter.builder("jwt.verified_cache.eviction").register(meterRegistry);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxSize, 0))
+                .expireAfter(new UntilTokenExpiry())
+                .evictionListener((key, value, cause) -> evictionCounter.increment())
+                .executor(Runnable::run) // 밀어내기와 만료 정리를 요청 스레드에서 바로 끝낸다.
+                .build();
+        Gauge.builder("jwt.verified_cache.size", this, VerifiedTokenCache::size)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * 캐싱된 유저 정보를 반환한다. 없거나 토큰이 만료되었다면 null을 반환하고, 이때는 다시 서명을 검증해야 한다.
+     *
+     * @param accessToken AccessToken
+     * @return 검증된 토큰의 유저 정보
+     */
+    public OAuth2JwtMemberDTO get(String accessToken) {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        // 만료된 토큰은 Caffeine이 반환하지 않으므로 다시 검증해서 만료 응답을 보내게 된다.
+        CachedMember cached = cache.getIfPresent(TokenHasher.sha256(accessToken));
+        if (cached == null) {
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return cached.member();
+    }
+
+    /**
+     * 서명 검증을 마친 AccessToken을 캐싱한다.
+     *
+     * @param accessToken AccessToken
+     * @param member      토큰의 유저 정보
+     * @param expiredAt   토큰 만료 시각
+     */
+    public void put(String accessToken, OAuth2JwtMemberDTO member, LocalDateTime expiredAt) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        cache.put(TokenHasher.sha256(accessToken), new CachedMember(member, expiredAt));
+    }
+
+    // 다시 요청되지 않은 만료 토큰 정리
+    @Scheduled(fixedDelayString = "${jwt.verified-cache.cleanup-interval-ms:60000}")
+    public void removeExpired() {
+        cache.cleanUp();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    // 항목은 토큰의 exp까지만 살아 있고, 같은 토큰을 다시 넣으면 exp를 다시 계산한다.
+    private static class UntilTokenExpiry implements Expiry<String, CachedMember> {
+        @Override
+        public long expireAfterCreate(String key, CachedMember cached, long currentTime) {
+            return cached.remaining().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedMember cached, long currentTime, long currentDuration) {
+            return cached.remaining().toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedMember cached, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private record CachedMember(OAuth2JwtMemberDTO member, LocalDateTime expiredAt) {
+        Duration remaining() {
+            Duration remaining = Duration.between(LocalDateTime.now(), expiredAt);
+            return remaining.isNegative() ? Duration.ZERO : remaining;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.restea.oauth2.repository;
+
+import com.example.restea.oauth2.entity.GoogleRevocation;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GoogleRevocationRepository extends JpaRepository<GoogleRevocation, Integer> {
+
+    // 다른 서버가 잠근 행은 기다리지 않고 건너뛴다 (SELECT ... FOR UPDATE SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<GoogleRevocation> findByNextAttemptAtLessThanEqualOrderByNextAttemptAt(LocalDateTime now,
+                                                                               Pageable pageable);
+}
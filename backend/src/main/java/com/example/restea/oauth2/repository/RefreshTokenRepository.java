@@ -1,6 +1,8 @@
 package com.example.restea.oauth2.repository;
 
 import com.example.restea.oauth2.entity.RefreshToken;
+import java.time.LocalDateTime;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,17 +12,29 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Integer> {
-    Boolean existsByValue(String value);
+    Boolean existsByTokenIdAndRevoked(String tokenId, Boolean revoked);
+
+    List<RefreshToken> findAllByRevokedAndExpiredAtAfter(Boolean revoked, LocalDateTime now);
 
     @Transactional
     @Modifying
-    @Query("UPDATE RefreshToken r SET r.revoked = true WHERE r.value = :value")
-    void revokeByValue(@Param("value") String value);
+    @Query("UPDATE RefreshToken r SET r.revoked = true WHERE r.tokenId = :tokenId")
+    void revokeByTokenId(@Param("tokenId") String tokenId);
 
     @Transactional
     @Modifying
     @Query("UPDATE RefreshToken r SET r.revoked = true WHERE r.id = :id")
     void revokeById(@Param("id") Integer id);
 
-    RefreshToken findByValue(String value);
+    RefreshToken findByTokenId(String tokenId);
+
+    // 만료된 토큰 중 유저가 참조하지 않는 것을 batchSize개씩 삭제. revoke 된 토큰은 만료될 때까지 남겨서 재발급 시 거를 수 있도록 한다.
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM refresh_token WHERE expiredAt < :now "
+            + "AND refresh_token_id NOT IN "
+            + "(SELECT u.refresh_token_id FROM users u WHERE u.refresh_token_id IS NOT NULL) "
+            + "LIMIT :batchSize",
+            nativeQuery = true)
+    int deleteUnusedTokens(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
 }
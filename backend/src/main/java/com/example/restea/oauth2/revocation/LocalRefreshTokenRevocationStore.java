@@ -0,0 +1,80 @@
+package com.example.restea.oauth2.revocation;
+
+import com.example.restea.oauth2.entity.RefreshToken;
+import com.example.restea.oauth2.repository.RefreshTokenRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 메모리에 revoke 된 토큰의 id(jti)를 만료 시각까지 보관하는 저장소. 서버 기동 시 DB에서 아직 만료되지 않은 revoke 토큰을 불러온다.
+ * DB에서 사용 가능하다고 확인한 토큰은 usable-cache.ttl-seconds 동안 기억한다. 다른 서버에서 revoke 한 토큰은 이 시간만큼 늦게 반영된다.
+ */
+@Slf4j
+@Component
+public class LocalRefreshTokenRevocationStore implements RefreshTokenRevocationStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Map<String, LocalDateTime> revokedTokens = new ConcurrentHashMap<>();
+    private final Cache<String, Boolean> usableTokens;
+
+    public LocalRefreshTokenRevocationStore(RefreshTokenRepository refreshTokenRepository,
+                                            @Value("${refresh-token.usable-cache.ttl-seconds:30}") long ttlSeconds,
+                                            @Value("${refresh-token.usable-cache.max-size:10000}") long maxSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.usableTokens = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<RefreshToken> refreshTokens = refreshTokenRepository.findAllByRevokedAndExpiredAtAfter(true,
+                LocalDateTime.now());
+        refreshTokens.stream()
+                .filter(refreshToken -> refreshToken.getTokenId() != null)
+                .forEach(refreshToken -> revoke(refreshToken.getTokenId(), refreshToken.getExpiredAt()));
+        log.info("revoked refresh_token loaded : {}", revokedTokens.size());
+    }
+
+    @Override
+    public void revoke(String tokenId, LocalDateTime expiredAt) {
+        if (expiredAt.isAfter(LocalDateTime.now())) { // 이미 만료된 토큰은 서명 검증에서 걸러진다.
+            revokedTokens.put(tokenId, expiredAt);
+        }
+        usableTokens.invalidate(tokenId);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        return revokedTokens.containsKey(tokenId);
+    }
+
+    @Override
+    public void markUsable(String tokenId) {
+        usableTokens.put(tokenId, Boolean.TRUE);
+    }
+
+    @Override
+    public boolean isKnownUsable(String tokenId) {
+        return usableTokens.getIfPresent(tokenId) != null;
+    }
+
+    // 만료된 토큰 정리
+    @Scheduled(fixedDelayString = "${refresh-token.revocation.cleanup-interval-ms:600000}")
+    public void removeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        revokedTokens.values().removeIf(expiredAt -> !expiredAt.isAfter(now));
+    }
+}
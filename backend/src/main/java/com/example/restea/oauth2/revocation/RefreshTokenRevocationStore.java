@@ -0,0 +1,28 @@
+package com.example.restea.oauth2.revocation;
+
+import java.time.LocalDateTime;
+
+/**
+ * revoke 된 RefreshToken을 DB보다 먼저 거르기 위한 저장소. DB가 원본이고, 이 저장소는 revoke 할 때마다 함께 갱신된다.
+ * 여기에 없다고 사용 가능한 토큰은 아니므로, 없을 때는 DB에서 revoke 되지 않은 행이 있는지 확인해야 한다.
+ * DB에서 사용 가능하다고 확인한 토큰은 짧은 시간 동안 기억해서 같은 토큰을 다시 확인할 때 DB를 조회하지 않는다.
+ */
+public interface RefreshTokenRevocationStore {
+
+    /**
+     * @param tokenId   RefreshToken의 id(jti)
+     * @param expiredAt 토큰 만료 시각. 이후에는 서명 검증에서 걸러지므로 보관하지 않아도 된다.
+     */
+    void revoke(String tokenId, LocalDateTime expiredAt);
+
+    boolean isRevoked(String tokenId);
+
+    /**
+     * DB에서 revoke 되지 않은 행을 확인한 토큰을 기억한다. revoke 하면 함께 지워진다.
+     *
+     * @param tokenId RefreshToken의 id(jti)
+     */
+    void markUsable(String tokenId);
+
+    boolean isKnownUsable(String tokenId);
+}
@@ -11,6 +11,7 @@ import com.example.restea.oauth2.util.NicknameCreator;
 import com.example.restea.user.entity.ROLE;
 import com.example.restea.user.entity.User;
 import com.example.restea.user.repository.UserRepository;
+import com.example.restea.user.service.UserProfileCache;
 import jakarta.persistence.LockModeType;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +31,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
     private final AuthTokenRepository authTokenRepository;
+    private final UserProfileCache userProfileCache;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -109,6 +111,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
     private CustomOAuth2User handleExistingUser(User existUser, String picture) {
         existUser.updatePicture(picture);
         userRepository.save(existUser);
+        userProfileCache.invalidate(existUser.getId());
 
         OAuth2JwtMemberDTO oAuth2JwtMemberDTO = OAuth2JwtMemberDTO.builder()
                 .nickname(existUser.getNickname())
@@ -0,0 +1,50 @@
+package com.example.restea.oauth2.service;
+
+import java.net.URI;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+@Slf4j
+@Component
+public class GoogleRevocationClient {
+
+    private final RestTemplate restTemplate;
+    private final String revokeUrl;
+
+    // timeout, Bulkhead는 HttpClientConfig의 googleRestTemplate 설정을 따른다.
+    public GoogleRevocationClient(RestTemplate googleRestTemplate,
+                                  @Value("${google.revoke-url:https://accounts.google.com/o/oauth2/revoke}")
+                                  String revokeUrl) {
+        this.restTemplate = googleRestTemplate;
+        this.revokeUrl = revokeUrl;
+    }
+
+    /**
+     * 구글 OAuth2 토큰을 revoke 한다.
+     *
+     * @param token 구글 토큰
+     * @return 전달되었다면 true, 다시 시도해야 한다면 false
+     */
+    public boolean revoke(String token) {
+        URI uri = UriComponentsBuilder.fromHttpUrl(revokeUrl)
+                .queryParam("token", token)
+                .encode()
+                .build()
+                .toUri();
+        try {
+            restTemplate.getForObject(uri, String.class);
+            return true;
+        } catch (HttpClientErrorException.BadRequest e) {
+            // 이미 만료되었거나 revoke 된 토큰이라면 400이므로 다시 보낼 필요가 없다.
+            return true;
+        } catch (RestClientException e) {
+            log.warn("google token revoke failed : {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.restea.oauth2.service;
+
+import com.example.restea.oauth2.entity.GoogleRevocation;
+import com.example.restea.oauth2.repository.GoogleRevocationRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 구글 토큰 revoke outbox를 관리한다. 요청은 탈퇴 트랜잭션 안에서 저장되고, GoogleRevocationJob이 가져가서 전달한 결과를 complete, fail로
+ * 알려준다. 실패하면 지수 백오프로 다시 시도하고 maxAttempts번 실패하면 포기한다.
+ */
+@Slf4j
+@Service
+public class GoogleRevocationService {
+
+    private final GoogleRevocationRepository googleRevocationRepository;
+    private final int maxAttempts;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+    private final long leaseMs;
+
+    public GoogleRevocationService(GoogleRevocationRepository googleRevocationRepository,
+                                   @Value("${google-revocation.max-attempts:8}") int maxAttempts,
+                                   @Value("${google-revocation.base-backoff-ms:10000}") long baseBackoffMs,
+                                   @Value("${google-revocation.max-backoff-ms:3600000}") long maxBackoffMs,
+                                   @Value("${google-revocation.lease-ms:120000}") long leaseMs) {
+        this.googleRevocationRepository = googleRevocationRepository;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMs = baseBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.leaseMs = leaseMs;
+    }
+
+    @Transactional
+    public void request(String token) {
+        googleRevocationRepository.save(GoogleRevocation.builder()
+                .token(token)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 보낼 시각이 된 요청을 최대 batchSize개 가져온다. 가져간 요청은 lease 동안 다른 서버가 가져가지 않는다.
+     */
+    @Transactional
+    public List<GoogleRevocation> claimDue(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<GoogleRevocation> due = googleRevocationRepository.findByNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+                now, PageRequest.of(0, batchSize));
+        LocalDateTime leaseUntil = now.plus(Duration.ofMillis(leaseMs));
+        due.forEach(revocation -> revocation.lease(leaseUntil));
+        return due;
+    }
+
+    @Transactional
+    public void complete(Integer id) {
+        googleRevocationRepository.deleteById(id);
+    }
+
+    @Transactional
+    public void fail(Integer id) {
+        googleRevocationRepository.findById(id).ifPresent(revocation -> {
+            if (revocation.getAttempts() + 1 >= maxAttempts) {
+                log.warn("google token revoke gave up after {} attempts : google_revocation_id {}", maxAttempts, id);
+                googleRevocationRepository.delete(revocation);
+                return;
+            }
+            revocation.retryAt(LocalDateTime.now().plus(Duration.ofMillis(backoffMs(revocation.getAttempts()))));
+        });
+    }
+
+    // base, base * 2, base * 4, ... (maxBackoffMs까지)
+    private long backoffMs(int attempts) {
+        long backoff = baseBackoffMs << Math.min(attempts, 30);
+        return backoff <= 0 ? maxBackoffMs : Math.min(backoff, maxBackoffMs);
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.restea.oauth2.service;
 
+import com.example.restea.oauth2.dto.JwtClaims;
 import com.example.restea.oauth2.entity.RefreshToken;
 import com.example.restea.oauth2.jwt.JWTUtil;
 import com.example.restea.oauth2.repository.RefreshTokenRepository;
+import com.example.restea.oauth2.revocation.RefreshTokenRevocationStore;
 import com.example.restea.user.entity.User;
 import com.example.restea.user.repository.UserRepository;
 import jakarta.transaction.Transactional;
@@ -17,18 +19,24 @@ public class RefreshTokenService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final UserRepository userRepository;
     private final JWTUtil jwtUtil;
+    private final RefreshTokenRevocationStore refreshTokenRevocationStore;
 
     @Transactional
     public void addRefreshToken(User user, String value) {
-        RefreshToken refreshToken = getRefreshToken(value);
+        JwtClaims claims = jwtUtil.parseClaims(value);
+        // 같은 토큰이 이미 저장되어 있다면 그 행을 그대로 쓴다. (token_id는 unique)
+        RefreshToken refreshToken = getRefreshToken(claims.getTokenId());
 
         // 연관관계 매핑을 위해 User에 RefreshToken 추가
-        if (user.getRefreshToken() != null) { // 원래 RefreshToken이 존재했다면
+        // 원래 RefreshToken이 존재했다면
+        if (user.getRefreshToken() != null && !isSameToken(user.getRefreshToken(), refreshToken)) {
             revokeExistingRefreshToken(user);
         }
 
         if (user.getRefreshToken() == null) { // RefreshToken이 없는 상태라면
-            refreshToken = createRefreshToken(value);
+            if (refreshToken == null) {
+                refreshToken = createRefreshToken(value, claims);
+            }
             user.addRefreshToken(refreshToken);
         }
 
@@ -36,27 +44,83 @@ public class RefreshTokenService {
         saveRefreshTokenAndUser(user, refreshToken);
     }
 
-    private RefreshToken getRefreshToken(String value) {
-        return refreshTokenRepository.findByValue(value);
+    private RefreshToken getRefreshToken(String tokenId) {
+        return refreshTokenRepository.findByTokenId(tokenId);
     }
 
-    private RefreshToken createRefreshToken(String value) {
-        LocalDateTime issuedAt = jwtUtil.getIssuedAt(value);
-        LocalDateTime expiredAt = jwtUtil.getExpiredAt(value);
+    // User의 RefreshToken은 프록시일 수 있으므로 id로 비교
+    private boolean isSameToken(RefreshToken current, RefreshToken found) {
+        return found != null && current.getId().equals(found.getId());
+    }
 
+    private RefreshToken createRefreshToken(String value, JwtClaims claims) {
         return RefreshToken.builder()
                 .value(value)
-                .issuedAt(issuedAt)
-                .expiredAt(expiredAt)
+                .tokenId(claims.getTokenId())
+                .issuedAt(claims.getIssuedAt())
+                .expiredAt(claims.getExpiredAt())
                 .build();
     }
 
 
     private void revokeExistingRefreshToken(User user) {
-        refreshTokenRepository.revokeById(user.getRefreshToken().getId());
+        revoke(user.getRefreshToken());
         user.deleteRefreshToken();
     }
 
+    /**
+     * RefreshToken을 revoke 한다. DB에 먼저 반영한 뒤 revoke 저장소에도 추가한다.
+     *
+     * @param refreshToken 유저가 가지고 있던 RefreshToken
+     */
+    public void revoke(RefreshToken refreshToken) {
+        refreshTokenRepository.revokeById(refreshToken.getId());
+        if (refreshToken.getTokenId() != null) {
+            refreshTokenRevocationStore.revoke(refreshToken.getTokenId(), refreshToken.getExpiredAt());
+        }
+    }
+
+    /**
+     * 쿠키로 받은 RefreshToken을 jti로 revoke 한다. DB에 먼저 반영한 뒤 revoke 저장소에도 추가한다.
+     *
+     * @param tokenId   RefreshToken의 jti
+     * @param expiredAt 토큰 만료 시각
+     */
+    public void revoke(String tokenId, LocalDateTime expiredAt) {
+        if (tokenId == null) { // jti가 없던 시절에 발급된 토큰은 찾을 수 없다.
+            return;
+        }
+        refreshTokenRepository.revokeByTokenId(tokenId);
+        refreshTokenRevocationStore.revoke(tokenId, expiredAt);
+    }
+
+    /**
+     * 서명 검증을 마친 RefreshToken이 DB에 있고 revoke 되지 않았는지 확인한다. revoke 저장소에 있는 토큰은 DB를 조회하지 않고 바로 거르고,
+     * 최근에 DB에서 확인한 토큰은 DB를 다시 조회하지 않고 통과시킨다.
+     *
+     * @param claims RefreshToken의 claim
+     * @return DB에 revoke 되지 않은 행이 있다면 true. jti가 없는 토큰은 다시 로그인해야 한다.
+     */
+    public boolean isUsable(JwtClaims claims) {
+        String tokenId = claims.getTokenId();
+        if (tokenId == null) {
+            return false;
+        }
+        if (refreshTokenRevocationStore.isRevoked(tokenId)) {
+            return false;
+        }
+        if (refreshTokenRevocationStore.isKnownUsable(tokenId)) {
+            return true;
+        }
+
+        // 확인하는 사이 revoke 되었더라도 revoke 저장소를 먼저 보므로 기억해둔 토큰이 통과되지 않는다.
+        boolean usable = refreshTokenRepository.existsByTokenIdAndRevoked(tokenId, false);
+        if (usable) {
+            refreshTokenRevocationStore.markUsable(tokenId);
+        }
+        return usable;
+    }
+
     private void saveRefreshTokenAndUser(User user, RefreshToken refreshToken) {
         refreshTokenRepository.save(refreshToken);
         userRepository.save(user);
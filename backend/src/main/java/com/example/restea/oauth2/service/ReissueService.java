@@ -6,11 +6,14 @@ import static com.example.restea.oauth2.enums.ReissueStatus.REFRESH_NULL;
 import static com.example.restea.oauth2.enums.TokenType.BEARER;
 import static com.example.restea.oauth2.enums.TokenType.REFRESH;
 
+import com.example.restea.oauth2.dto.JwtClaims;
 import com.example.restea.oauth2.jwt.JWTUtil;
-import com.example.restea.oauth2.repository.RefreshTokenRepository;
 import com.example.restea.oauth2.util.CookieMethods;
+import com.example.restea.user.service.UserProfileCache;
+import com.example.restea.user.service.UserProfileCache.UserProfile;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.http.HttpServletResponse;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -21,26 +24,38 @@ import org.springframework.web.server.ResponseStatusException;
 public class ReissueService {
 
     private final JWTUtil jwtUtil;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
     private final CookieMethods cookieMethods;
+    private final UserProfileCache userProfileCache;
 
-    public void validateToken(String refreshToken, HttpServletResponse response) {
+    /**
+     * RefreshToken을 검증하고, 검증하면서 꺼낸 claim을 반환한다. 서명 검증은 한 번만 한다.
+     *
+     * @param refreshToken 쿠키의 RefreshToken
+     * @param response     만료된 토큰일 때 쿠키를 지우기 위한 응답
+     * @return RefreshToken의 claim
+     */
+    public JwtClaims validateToken(String refreshToken, HttpServletResponse response) {
         // 토큰 존재 여부 확인
         if (isTokenNull(refreshToken)) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, REFRESH_NULL.getMessage());
         }
 
         // 토큰 만료 여부 확인
-        if (isTokenExpired(refreshToken)) {
-            refreshTokenRepository.revokeByValue(refreshToken); // Refresh Token revoke 처리
+        JwtClaims claims;
+        try {
+            claims = jwtUtil.parseClaims(refreshToken);
+        } catch (ExpiredJwtException e) {
+            refreshTokenService.revoke(e.getClaims().getId(), LocalDateTime.now()); // Refresh Token revoke 처리
             cookieMethods.clearRefreshTokenCookie(response); // 쿠키에서 Refresh Token 삭제
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, REFRESH_EXPIRED.getMessage());
         }
 
         // 토큰 카테고리 확인
-        if (isTokenInvalid(refreshToken)) {
+        if (!claims.isCategory(REFRESH)) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, REFRESH_INVALID.getMessage());
         }
+        return claims;
     }
 
     // 토큰 존재 확인
@@ -48,37 +63,20 @@ public class ReissueService {
         return refreshToken == null;
     }
 
-    // 토큰 만료 확인
-    private boolean isTokenExpired(String refreshToken) {
-        try {
-            jwtUtil.isExpired(refreshToken);
-            return false;
-        } catch (ExpiredJwtException e) {
-            return true;
-        }
-    }
-
-    // 토큰 카테고리 확인
-    private boolean isTokenInvalid(String refreshToken) {
-        String category = jwtUtil.getCategory(refreshToken);
-        return !category.equals(REFRESH.getType());
-    }
-
-    // 새로운 AccessToken 발급
-    public String createNewAccessToken(String refresh) {
-        String nickname = jwtUtil.getNickname(refresh);
-        Integer userId = jwtUtil.getUserId(refresh);
-        String picture = jwtUtil.getPicture(refresh);
-        String role = jwtUtil.getRole(refresh);
+    // 새로운 AccessToken 발급. 닉네임, 사진은 RefreshToken 발급 이후에 바뀌었을 수 있으므로 UserProfileCache에서 가져온다.
+    public String createNewAccessToken(JwtClaims claims) {
+        UserProfile profile = userProfileCache.get(claims.getUserId());
+        String nickname = profile == null ? claims.getNickname() : profile.nickname();
+        String picture = profile == null ? claims.getPicture() : profile.picture();
 
-        return BEARER.getType() + jwtUtil.createAccessToken(userId, nickname, picture, role);
+        return BEARER.getType() + jwtUtil.createAccessToken(claims.getUserId(), nickname, picture, claims.getRole());
     }
 
-    // RefreshToken이 존재하는지 확인
-    public void checkRefresh(String refreshToken) {
-        boolean isExist = refreshTokenRepository.existsByValue(refreshToken);
+    // RefreshToken이 revoke 되지 않았는지 확인
+    public void checkRefresh(JwtClaims claims) {
+        boolean isUsable = refreshTokenService.isUsable(claims);
 
-        if (!isExist) {
+        if (!isUsable) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, REFRESH_INVALID.getMessage());
         }
     }
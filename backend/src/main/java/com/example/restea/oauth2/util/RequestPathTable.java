@@ -0,0 +1,105 @@
+package com.example.restea.oauth2.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.http.HttpMethod;
+
+/**
+ * SecurityConfig의 경로 목록으로 서버 시작 시 한 번 만드는 경로 테이블. 요청마다 정규식을 돌리지 않고 해시 조회와 접두사 비교만으로 확인하며, 이때 객체를 새로 만들지 않는다.
+ * <p>
+ * "/a/b"처럼 정확히 일치하는 경로와 "/a/**"처럼 "/a"와 그 하위 경로 전체를 뜻하는 경로만 지원한다.
+ */
+public class RequestPathTable {
+
+    private static final String ANY_METHOD = "*";
+    private static final String SUB_PATHS = "/**";
+
+    private final Map<String, Set<String>> exactPaths; // 경로 -> 허용된 메소드
+    private final PrefixPath[] prefixPaths;
+
+    private RequestPathTable(Map<String, Set<String>> exactPaths, List<PrefixPath> prefixPaths) {
+        this.exactPaths = exactPaths;
+        this.prefixPaths = prefixPaths.toArray(PrefixPath[]::new);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public boolean matches(HttpServletRequest request) {
+        return matches(request.getMethod(), request.getRequestURI());
+    }
+
+    public boolean matches(String method, String path) {
+        Set<String> methods = exactPaths.get(path);
+        if (methods != null && (methods.contains(ANY_METHOD) || methods.contains(method))) {
+            return true;
+        }
+
+        for (PrefixPath prefixPath : prefixPaths) {
+            if (prefixPath.matches(method, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record PrefixPath(String method, String prefix) {
+        // "/a/**"는 "/a", "/a/", "/a/b"와 일치하지만 "/ab"와는 일치하지 않는다.
+        boolean matches(String requestMethod, String path) {
+            if (!path.startsWith(prefix)) {
+                return false;
+            }
+            if (path.length() != prefix.length() && path.charAt(prefix.length()) != '/') {
+                return false;
+            }
+            return ANY_METHOD.equals(method) || method.equals(requestMethod);
+        }
+    }
+
+    public static class Builder {
+        private final Map<String, Set<String>> exactPaths = new HashMap<>();
+        private final List<PrefixPath> prefixPaths = new ArrayList<>();
+
+        /**
+         * @param method   허용할 메소드, null이라면 모든 메소드
+         * @param patterns 정확한 경로 또는 "/**"로 끝나는 경로
+         */
+        public Builder add(HttpMethod method, String... patterns) {
+            String methodName = method == null ? ANY_METHOD : method.name();
+            for (String pattern : patterns) {
+                addPattern(methodName, pattern);
+            }
+            return this;
+        }
+
+        public RequestPathTable build() {
+            Map<String, Set<String>> exact = new HashMap<>();
+            exactPaths.forEach((path, methods) -> exact.put(path, Set.copyOf(methods)));
+            return new RequestPathTable(exact, prefixPaths);
+        }
+
+        private void addPattern(String methodName, String pattern) {
+            if (pattern.endsWith(SUB_PATHS)) {
+                String prefix = pattern.substring(0, pattern.length() - SUB_PATHS.length());
+                checkNoWildcard(pattern, prefix);
+                prefixPaths.add(new PrefixPath(methodName, prefix));
+                return;
+            }
+
+            checkNoWildcard(pattern, pattern);
+            exactPaths.computeIfAbsent(pattern, path -> new HashSet<>()).add(methodName);
+        }
+
+        private void checkNoWildcard(String pattern, String path) {
+            if (path.contains("*") || path.contains("{")) {
+                throw new IllegalArgumentException("지원하지 않는 경로 패턴입니다: " + pattern);
+            }
+        }
+    }
+}
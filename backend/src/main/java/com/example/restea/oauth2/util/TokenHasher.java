@@ -0,0 +1,20 @@
+package com.example.restea.oauth2.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public class TokenHasher {
+    // 토큰 원문을 그대로 보관하지 않도록 SHA-256 digest(64자리 hex)로 바꿔준다.
+    public static String sha256(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] digest = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 지원해야 하므로 발생하지 않는다.
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.restea.record.repository;
 
 import com.example.restea.record.entity.Record;
+import java.time.LocalDateTime;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -21,4 +23,16 @@ public interface RecordRepository extends JpaRepository<Record, Integer> {
     Page<Record> findAllByUserId(Integer userId, Pageable pageable);
 
     Long countByUserId(Integer userId);
+
+    // 커서 방식의 첫 페이지
+    List<Record> findAllByUserIdOrderByCreatedDateDescIdDesc(Integer userId, Pageable pageable);
+
+    // 커서 방식의 다음 페이지 : (createdDate, id)가 커서보다 앞선 기록
+    @Query("SELECT r FROM Record r WHERE r.user.id = :userId "
+            + "AND (r.createdDate < :createdDate OR (r.createdDate = :createdDate AND r.id < :id)) "
+            + "ORDER BY r.createdDate DESC, r.id DESC")
+    List<Record> findAllByUserIdBeforeCursor(@Param("userId") Integer userId,
+                                             @Param("createdDate") LocalDateTime createdDate,
+                                             @Param("id") Integer id,
+                                             Pageable pageable);
 }
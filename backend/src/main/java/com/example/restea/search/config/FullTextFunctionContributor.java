@@ -0,0 +1,29 @@
+package com.example.restea.search.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * JPQL/QueryDSL에서 MySQL의 MATCH ... AGAINST를 쓸 수 있도록 match_against 함수를 등록한다. 결과는 관련도 점수이고 일치하지 않으면 0이다.
+ * match_against2는 두 컬럼을 묶은 FULLTEXT 인덱스를 MATCH(a, b) 한 번으로 검색한다.
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+    public static final String MATCH_AGAINST_2 = "match_against2";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCH_AGAINST,
+                "match(?1) against(?2 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.DOUBLE));
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCH_AGAINST_2,
+                "match(?1, ?2) against(?3 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.DOUBLE));
+    }
+}
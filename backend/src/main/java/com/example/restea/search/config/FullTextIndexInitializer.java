@@ -0,0 +1,94 @@
+package com.example.restea.search.config;
+
+import com.example.restea.search.util.SearchTextUtil;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * ngram 파서를 쓰는 FULLTEXT 인덱스는 JPA 어노테이션으로 만들 수 없어서, 기동할 때 없으면 직접 만든다. 인덱스를 만들기 전에 plainContent가 비어 있는 기존
+ * 게시글(HTML 제거 전 데이터)을 먼저 채운다. 인덱스 없이는 MATCH ... AGAINST 검색이 실패하므로 준비에 실패하면 기동을 중단한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FullTextIndexInitializer {
+
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private static final List<BoardTable> BOARD_TABLES = List.of(
+            new BoardTable("teatime_board", "teatime_board_id"),
+            new BoardTable("share_board", "share_board_id"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        for (BoardTable boardTable : BOARD_TABLES) {
+            try {
+                backfillPlainContent(boardTable);
+                createFullTextIndex(boardTable.name(), "ft_" + boardTable.name() + "_title", "title");
+                createFullTextIndex(boardTable.name(), "ft_" + boardTable.name() + "_plain_content", "plainContent");
+                createFullTextIndex(boardTable.name(), "ft_" + boardTable.name() + "_title_plain_content",
+                        "title, plainContent");
+            } catch (DataAccessException e) {
+                log.error("{} FULLTEXT 인덱스 준비 실패 : {}", boardTable.name(), e.getMessage());
+                throw new IllegalStateException(boardTable.name() + " FULLTEXT 인덱스 준비 실패", e);
+            }
+        }
+    }
+
+    private void backfillPlainContent(BoardTable boardTable) {
+        String selectSql = "SELECT " + boardTable.idColumn() + " AS id, content FROM " + boardTable.name()
+                + " WHERE plainContent IS NULL LIMIT " + BACKFILL_BATCH_SIZE;
+        String updateSql = "UPDATE " + boardTable.name() + " SET plainContent = ? WHERE " + boardTable.idColumn()
+                + " = ?";
+
+        int backfilled = 0;
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(selectSql);
+        while (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(updateSql, rows.stream()
+                    .map(row -> new Object[]{SearchTextUtil.stripHtml((String) row.get("content")), row.get("id")})
+                    .toList());
+            backfilled += rows.size();
+            rows = jdbcTemplate.queryForList(selectSql);
+        }
+
+        if (backfilled > 0) {
+            log.info("{} plainContent {}건 채움", boardTable.name(), backfilled);
+        }
+    }
+
+    private void createFullTextIndex(String table, String indexName, String column) {
+        Integer exists = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics "
+                        + "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, table, indexName);
+        if (exists != null && exists > 0) {
+            return;
+        }
+
+        // 기본 불용어 목록에는 한 글자 영단어(a, i)가 있어서 ngram 토큰이 대량으로 빠지므로, 인덱스를 만드는 세션에서만 불용어를 끈다.
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET SESSION innodb_ft_enable_stopword = OFF");
+                statement.execute("ALTER TABLE " + table + " ADD FULLTEXT INDEX " + indexName
+                        + " (" + column + ") WITH PARSER ngram");
+                statement.execute("SET SESSION innodb_ft_enable_stopword = ON");
+            }
+            return null;
+        });
+        log.info("{} FULLTEXT 인덱스 생성 : {}", table, indexName);
+    }
+
+    private record BoardTable(String name, String idColumn) {
+    }
+}
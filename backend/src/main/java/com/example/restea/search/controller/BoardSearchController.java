@@ -0,0 +1,44 @@
+package com.example.restea.search.controller;
+
+import com.example.restea.common.dto.ResponseDTO;
+import com.example.restea.search.dto.BoardSearchRequest;
+import com.example.restea.search.service.BoardSearchService;
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/search")
+public class BoardSearchController {
+    private final BoardSearchService boardSearchService;
+
+    /**
+     * 티타임, 나눔 게시글 통합 검색
+     *
+     * @param dto type, searchBy, keyword, page, perPage.
+     * @return 관련도 순으로 정렬된 게시글 목록을 포함하는 ResponseEntity 객체를 반환합니다. 검색 결과가 없으면 204를 반환합니다.
+     */
+    @GetMapping("/boards")
+    public ResponseEntity<ResponseDTO<?>> searchBoards(@Valid @ModelAttribute BoardSearchRequest dto) {
+
+        ResponseDTO<List<?>> result = boardSearchService.searchBoards(
+                dto.getType(),
+                dto.getSearchBy(),
+                dto.getKeyword(),
+                dto.getPage(),
+                dto.getPerPage());
+
+        if (result.getData().isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NO_CONTENT).body(result);
+        }
+
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.restea.search.dto;
+
+import java.time.LocalDate;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 티타임, 나눔 게시글 목록을 검색할 때 쓰는 조건. 검색어와 함께 작성일 범위, 모집 중인 글만 보기 조건을 조합할 수 있다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class BoardSearchCondition {
+
+    private final String sort;     // 정렬 기준 (latest, urgent)
+    private final String searchBy; // 검색 기준 (title, content, all, writer)
+    private final String keyword;  // 검색어
+    private final LocalDate from;  // 작성일 시작 (포함)
+    private final LocalDate to;    // 작성일 끝 (포함)
+    private final boolean openOnly; // 마감되지 않은 글만
+
+    @Builder
+    public BoardSearchCondition(String sort, String searchBy, String keyword, LocalDate from, LocalDate to,
+                                boolean openOnly) {
+        this.sort = sort;
+        this.searchBy = searchBy;
+        this.keyword = keyword;
+        this.from = from;
+        this.to = to;
+        this.openOnly = openOnly;
+    }
+
+    public boolean hasKeyword() {
+        return searchBy != null && keyword != null;
+    }
+
+    // 마감 임박순은 마감된 글을 보여줄 필요가 없으므로 모집 중인 글만 조회한다.
+    public boolean isOpenOnly() {
+        return openOnly || "urgent".equals(sort);
+    }
+}
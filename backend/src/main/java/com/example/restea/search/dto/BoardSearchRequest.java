@@ -0,0 +1,32 @@
+package com.example.restea.search.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class BoardSearchRequest {
+
+    @NotBlank
+    private String type; // 게시판 종류 (티타임: teatime, 나눔: share)
+
+    @NotBlank
+    private String searchBy = "all"; // 검색 기준 (제목+내용: all, 제목: title, 내용: content, 작성자: writer)
+
+    @NotBlank
+    private String keyword; // 검색 내용
+
+    @NotNull
+    @Positive
+    private Integer page; // 페이지 번호
+
+    @NotNull
+    @Positive
+    private Integer perPage; // 페이지 당 항목 수
+
+}
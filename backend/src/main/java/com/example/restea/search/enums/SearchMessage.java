@@ -0,0 +1,13 @@
+package com.example.restea.search.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum SearchMessage {
+    SEARCH_INVALID_TYPE("Invalid type value."),
+    SEARCH_INVALID_SEARCH_BY("Invalid searchBy value.");
+
+    private final String message;
+}
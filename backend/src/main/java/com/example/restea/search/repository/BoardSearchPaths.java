@@ -0,0 +1,17 @@
+package com.example.restea.search.repository;
+
+import com.querydsl.core.types.dsl.BooleanPath;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.StringPath;
+import java.time.LocalDateTime;
+
+/**
+ * 검색 조건을 만들 때 필요한 게시글 컬럼. 티타임, 나눔 게시글의 Q클래스가 공통 타입이 없어서 필요한 경로만 모아서 넘긴다.
+ */
+public record BoardSearchPaths(BooleanPath activated,
+                               DateTimePath<LocalDateTime> createdDate,
+                               DateTimePath<LocalDateTime> endDate,
+                               StringPath title,
+                               StringPath plainContent,
+                               StringPath nickname) {
+}
@@ -0,0 +1,38 @@
+package com.example.restea.search.repository;
+
+import com.example.restea.search.dto.BoardSearchCondition;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import java.time.LocalDateTime;
+
+/**
+ * 티타임, 나눔 게시글 목록이 함께 쓰는 where 조건. 조건이 늘어나도 Repository 메소드를 조합마다 만들지 않고 여기서 동적으로 붙인다.
+ */
+public class BoardSearchPredicates {
+
+    /**
+     * 활성화된 글 중 검색 조건에 맞는 글만 남기는 where 조건
+     *
+     * @param condition 검색 조건
+     * @param paths     게시글 컬럼
+     * @return where 조건
+     */
+    public static BooleanExpression where(BoardSearchCondition condition, BoardSearchPaths paths) {
+        BooleanExpression where = paths.activated().isTrue();
+
+        if (condition.isOpenOnly()) {
+            where = where.and(paths.endDate().gt(LocalDateTime.now()));
+        }
+        if (condition.getFrom() != null) {
+            where = where.and(paths.createdDate().goe(condition.getFrom().atStartOfDay()));
+        }
+        if (condition.getTo() != null) {
+            where = where.and(paths.createdDate().lt(condition.getTo().plusDays(1).atStartOfDay()));
+        }
+        if (condition.hasKeyword()) {
+            where = where.and(FullTextExpressions.searchCondition(condition.getSearchBy(), condition.getKeyword(),
+                    paths.title(), paths.plainContent(), paths.nickname()));
+        }
+
+        return where;
+    }
+}
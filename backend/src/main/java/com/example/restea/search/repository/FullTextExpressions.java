@@ -0,0 +1,104 @@
+package com.example.restea.search.repository;
+
+import static com.example.restea.search.config.FullTextFunctionContributor.MATCH_AGAINST;
+import static com.example.restea.search.config.FullTextFunctionContributor.MATCH_AGAINST_2;
+import static com.example.restea.search.enums.SearchMessage.SEARCH_INVALID_SEARCH_BY;
+
+import com.example.restea.search.util.SearchTextUtil;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringPath;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 티타임, 나눔 게시글이 함께 쓰는 FULLTEXT 검색 조건. 대상 컬럼에는 ngram 파서를 쓰는 FULLTEXT 인덱스가 있어야 한다. all 검색은 (title, plainContent)
+ * 복합 인덱스를 MATCH 한 번으로 쓴다.
+ */
+public class FullTextExpressions {
+
+    /**
+     * 통합 검색의 where 조건. all은 제목이나 본문 중 하나에 검색어가 있으면 된다.
+     *
+     * @param searchBy     검색 기준 (title, content, all, writer)
+     * @param keyword      검색어
+     * @param title        게시글 제목 컬럼
+     * @param plainContent 게시글 검색용 본문 컬럼
+     * @param nickname     작성자 닉네임 컬럼
+     * @return where 조건
+     */
+    public static BooleanExpression searchCondition(String searchBy, String keyword, StringPath title,
+                                                    StringPath plainContent, StringPath nickname) {
+        return switch (searchBy) {
+            case "title" -> matches(title, keyword);
+            case "content" -> matches(plainContent, keyword);
+            case "all" -> matches(title, plainContent, keyword);
+            case "writer" -> nickname.contains(keyword);
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    SEARCH_INVALID_SEARCH_BY.getMessage());
+        };
+    }
+
+    /**
+     * 통합 검색의 관련도 점수.
+     *
+     * @param searchBy     검색 기준 (title, content, all, writer)
+     * @param keyword      검색어
+     * @param title        게시글 제목 컬럼
+     * @param plainContent 게시글 검색용 본문 컬럼
+     * @return 작성자 검색이나 짧은 검색어처럼 점수를 매길 수 없으면 null
+     */
+    public static NumberExpression<Double> searchScore(String searchBy, String keyword, StringPath title,
+                                                       StringPath plainContent) {
+        if (!SearchTextUtil.isFullTextSearchable(keyword)) {
+            return null;
+        }
+
+        return switch (searchBy) {
+            case "title" -> relevance(title, keyword);
+            case "content" -> relevance(plainContent, keyword);
+            case "all" -> relevance(title, plainContent, keyword);
+            default -> null;
+        };
+    }
+
+    /**
+     * 검색어가 포함된 글만 남기는 조건. ngram 토큰보다 짧은 검색어는 인덱스로 찾을 수 없어서 LIKE로 찾는다.
+     *
+     * @param column  FULLTEXT 인덱스가 걸린 컬럼
+     * @param keyword 검색어
+     * @return where 조건
+     */
+    public static BooleanExpression matches(StringPath column, String keyword) {
+        if (!SearchTextUtil.isFullTextSearchable(keyword)) {
+            return column.contains(keyword);
+        }
+        return relevance(column, keyword).gt(0);
+    }
+
+    /**
+     * 두 컬럼 중 하나에 검색어가 포함된 글만 남기는 조건. 두 컬럼을 묶은 FULLTEXT 인덱스를 쓴다.
+     *
+     * @param first   FULLTEXT 복합 인덱스의 첫 번째 컬럼
+     * @param second  FULLTEXT 복합 인덱스의 두 번째 컬럼
+     * @param keyword 검색어
+     * @return where 조건
+     */
+    public static BooleanExpression matches(StringPath first, StringPath second, String keyword) {
+        if (!SearchTextUtil.isFullTextSearchable(keyword)) {
+            return first.contains(keyword).or(second.contains(keyword));
+        }
+        return relevance(first, second, keyword).gt(0);
+    }
+
+    private static NumberExpression<Double> relevance(StringPath column, String keyword) {
+        return Expressions.numberTemplate(Double.class, "function('" + MATCH_AGAINST + "', {0}, {1})",
+                column, SearchTextUtil.toPhrase(keyword));
+    }
+
+    private static NumberExpression<Double> relevance(StringPath first, StringPath second, String keyword) {
+        return Expressions.numberTemplate(Double.class, "function('" + MATCH_AGAINST_2 + "', {0}, {1}, {2})",
+                first, second, SearchTextUtil.toPhrase(keyword));
+    }
+}
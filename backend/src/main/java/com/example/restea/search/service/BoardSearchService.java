@@ -0,0 +1,79 @@
+package com.example.restea.search.service;
+
+import static com.example.restea.search.enums.SearchMessage.SEARCH_INVALID_TYPE;
+
+import com.example.restea.common.dto.PaginationDTO;
+import com.example.restea.common.dto.ResponseDTO;
+import com.example.restea.search.dto.BoardSearchCondition;
+import com.example.restea.share.dto.ShareListResponse;
+import com.example.restea.share.entity.ShareBoard;
+import com.example.restea.share.repository.ShareBoardSearchRepository;
+import com.example.restea.teatime.dto.TeatimeListResponse;
+import com.example.restea.teatime.entity.TeatimeBoard;
+import com.example.restea.teatime.repository.TeatimeBoardSearchRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+@RequiredArgsConstructor
+public class BoardSearchService {
+
+    private final TeatimeBoardSearchRepository teatimeBoardSearchRepository;
+    private final ShareBoardSearchRepository shareBoardSearchRepository;
+
+    /**
+     * 티타임, 나눔 게시글을 같은 방식으로 검색한다. 제목, 내용 검색은 FULLTEXT 인덱스의 관련도 순이다.
+     *
+     * @param type     게시판 종류 (teatime, share)
+     * @param searchBy 검색 기준 (all, title, content, writer)
+     * @param keyword  검색어
+     * @param page     페이지
+     * @param perPage  페이지 당 항목 수
+     * @return 게시판 종류에 맞는 목록 응답을 Data로 가지는 ResponseDTO
+     */
+    @Transactional(readOnly = true)
+    public ResponseDTO<List<?>> searchBoards(String type, String searchBy, String keyword, Integer page,
+                                             Integer perPage) {
+        return switch (type) {
+            case "teatime" -> searchTeatimeBoards(searchBy, keyword, page, perPage);
+            case "share" -> searchShareBoards(searchBy, keyword, page, perPage);
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, SEARCH_INVALID_TYPE.getMessage());
+        };
+    }
+
+    private ResponseDTO<List<?>> searchTeatimeBoards(String searchBy, String keyword, Integer page,
+                                                     Integer perPage) {
+        BoardSearchCondition condition = toSearchCondition(searchBy, keyword);
+        List<TeatimeBoard> teatimeBoards = teatimeBoardSearchRepository.findAllByRelevance(condition, page, perPage);
+        long totalElements = teatimeBoardSearchRepository.countBySearchCondition(condition);
+
+        List<TeatimeListResponse> data = teatimeBoards.stream()
+                .map(TeatimeListResponse::of)
+                .toList();
+
+        return ResponseDTO.of(data, PaginationDTO.of((int) totalElements, page, perPage));
+    }
+
+    private ResponseDTO<List<?>> searchShareBoards(String searchBy, String keyword, Integer page, Integer perPage) {
+        BoardSearchCondition condition = toSearchCondition(searchBy, keyword);
+        List<ShareBoard> shareBoards = shareBoardSearchRepository.findAllByRelevance(condition, page, perPage);
+        long totalElements = shareBoardSearchRepository.countBySearchCondition(condition);
+
+        List<ShareListResponse> data = shareBoards.stream()
+                .map(ShareListResponse::of)
+                .toList();
+
+        return ResponseDTO.of(data, PaginationDTO.of((int) totalElements, page, perPage));
+    }
+
+    private BoardSearchCondition toSearchCondition(String searchBy, String keyword) {
+        return BoardSearchCondition.builder()
+                .searchBy(searchBy)
+                .keyword(keyword)
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.restea.search.util;
+
+import org.jsoup.Jsoup;
+
+public class SearchTextUtil {
+
+    // MySQL ngram_token_size 기본값. 이보다 짧은 검색어는 FULLTEXT 인덱스로 찾을 수 없다.
+    public static final int NGRAM_TOKEN_SIZE = 2;
+
+    private static final String BOOLEAN_MODE_OPERATORS = "[+\\-<>()~*\"@]";
+
+    /**
+     * 본문의 HTML(특히 img 태그)을 걷어내고 검색 대상 텍스트만 남긴다.
+     *
+     * @param html 게시글 본문
+     * @return 태그를 제거한 텍스트
+     */
+    public static String stripHtml(String html) {
+        if (html == null || html.isBlank()) {
+            return "";
+        }
+        return Jsoup.parse(html).text();
+    }
+
+    /**
+     * FULLTEXT 인덱스로 찾을 수 있는 검색어인지 확인한다.
+     *
+     * @param keyword 검색어
+     * @return ngram 토큰 하나 이상이 나오는 검색어면 true
+     */
+    public static boolean isFullTextSearchable(String keyword) {
+        return removeOperators(keyword).strip().length() >= NGRAM_TOKEN_SIZE;
+    }
+
+    /**
+     * 검색어를 BOOLEAN MODE의 구문 검색으로 바꾼다. ngram 파서에서는 구문 검색이 부분 문자열 검색과 같은 결과를 낸다.
+     *
+     * @param keyword 검색어
+     * @return "검색어" 형태의 구문
+     */
+    public static String toPhrase(String keyword) {
+        return "\"" + removeOperators(keyword).strip() + "\"";
+    }
+
+    private static String removeOperators(String keyword) {
+        return keyword.replaceAll(BOOLEAN_MODE_OPERATORS, " ");
+    }
+}
@@ -40,11 +40,10 @@ public class ShareController {
 
         // data, pagination
         Map<String, Object> result = shareService.getShareBoardList(
-                dto.getSort(),
+                dto.toSearchCondition(),
                 dto.getPage(),
                 dto.getPerPage(),
-                dto.getSearchBy(),
-                dto.getKeyword());
+                dto.getCursor());
 
         HttpStatus status =
                 ((List<ShareListResponse>) result.get("data")).isEmpty() ? HttpStatus.NO_CONTENT : HttpStatus.OK;
@@ -36,10 +36,11 @@ public class ShareReplyController {
             @PathVariable("shareBoardId") Integer shareBoardId,
             @PathVariable("shareCommentId") Integer shareCommentId,
             @NotNull @Positive @RequestParam("perPage") Integer perPage,
-            @NotNull @Positive @RequestParam("page") Integer page) {
+            @NotNull @Positive @RequestParam("page") Integer page,
+            @RequestParam(value = "cursor", required = false) String cursor) {
 
         ResponseDTO<List<ShareReplyViewResponse>> result
-                = shareReplyService.getShareReplyList(shareBoardId, shareCommentId, page, perPage);
+                = shareReplyService.getShareReplyList(shareBoardId, shareCommentId, page, perPage, cursor);
         HttpStatus status = result.getData().isEmpty() ? HttpStatus.NO_CONTENT : HttpStatus.OK;
         return ResponseEntity.status(status)
                 .body(result);
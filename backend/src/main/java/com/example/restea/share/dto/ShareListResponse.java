@@ -19,8 +19,10 @@ public class ShareListResponse {
     private final Integer participants;
     private final Integer viewCount;
     private final String nickname;
+    private final String picture;
 
-    public static ShareListResponse of(ShareBoard shareBoard, Integer participants) {
+    // 작성자는 목록 조회 쿼리에서 fetch join 해 두었으므로 추가 쿼리 없이 쓴다.
+    public static ShareListResponse of(ShareBoard shareBoard) {
         return ShareListResponse.builder()
                 .boardId(shareBoard.getId())
                 .title(shareBoard.getTitle())
@@ -29,9 +31,10 @@ public class ShareListResponse {
                 .lastUpdated(shareBoard.getLastUpdated())
                 .endDate(shareBoard.getEndDate())
                 .maxParticipants(shareBoard.getMaxParticipants())
-                .participants(participants)
+                .participants(shareBoard.getParticipantCount())
                 .viewCount(shareBoard.getViewCount())
                 .nickname(shareBoard.getUser().getExposedNickname())
+                .picture(shareBoard.getUser().getPicture())
                 .build();
     }
 
@@ -40,7 +43,7 @@ public class ShareListResponse {
             Integer boardId, String title, String content, LocalDateTime createdDate,
             LocalDateTime lastUpdated, LocalDateTime endDate,
             Integer maxParticipants, Integer participants,
-            Integer viewCount, String nickname) {
+            Integer viewCount, String nickname, String picture) {
         this.boardId = boardId;
         this.title = title;
         this.content = content;
@@ -51,5 +54,6 @@ public class ShareListResponse {
         this.participants = participants;
         this.viewCount = viewCount;
         this.nickname = nickname;
+        this.picture = picture;
     }
 }
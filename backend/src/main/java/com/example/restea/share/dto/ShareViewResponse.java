@@ -41,7 +41,7 @@ public class ShareViewResponse {
         this.picture = picture;
     }
 
-    public static ShareViewResponse of(ShareBoard shareBoard, Integer participants, String picture) {
+    public static ShareViewResponse of(ShareBoard shareBoard, Integer participants, Integer viewCount, String picture) {
         return ShareViewResponse.builder()
                 .boardId(shareBoard.getId())
                 .title(shareBoard.getTitle())
@@ -51,7 +51,7 @@ public class ShareViewResponse {
                 .endDate(shareBoard.getEndDate())
                 .maxParticipants(shareBoard.getMaxParticipants())
                 .participants(participants)
-                .viewCount(shareBoard.getViewCount())
+                .viewCount(viewCount)
                 .nickname(shareBoard.getUser().getExposedNickname())
                 .userId(shareBoard.getUser().getId())
                 .picture(picture)
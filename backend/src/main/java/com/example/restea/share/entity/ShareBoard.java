@@ -1,6 +1,7 @@
 package com.example.restea.share.entity;
 
 import com.example.restea.common.entity.BaseTimeEntity;
+import com.example.restea.search.util.SearchTextUtil;
 import com.example.restea.user.entity.User;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -8,6 +9,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -26,7 +28,11 @@ import org.hibernate.annotations.DynamicInsert;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @DynamicInsert
-@Table(name = "share_board")
+@Table(name = "share_board", indexes = {
+        @Index(name = "idx_share_board_activated_created_date",
+                columnList = "activated, createdDate, share_board_id"),
+        @Index(name = "idx_share_board_activated_end_date", columnList = "activated, endDate, share_board_id")
+})
 public class ShareBoard extends BaseTimeEntity {
 
     @Id
@@ -40,16 +46,27 @@ public class ShareBoard extends BaseTimeEntity {
     @Column(nullable = false, columnDefinition = "MEDIUMTEXT")
     private String content;
 
+    // 검색용 본문. content에서 HTML 태그를 뺀 텍스트로, FULLTEXT 인덱스 대상이다.
+    @Column(columnDefinition = "MEDIUMTEXT")
+    private String plainContent;
+
     @Column(nullable = false)
     private Integer maxParticipants;
 
     @Column(nullable = false)
     private LocalDateTime endDate;
 
-    @Column(nullable = false)
+    // 조회수는 ViewCountService가 모아서 UPDATE로만 반영한다. 게시글 수정 시 읽어온 값으로 덮어쓰지 않도록 엔티티의 UPDATE에서는 제외한다.
+    @Column(nullable = false, updatable = false)
     @ColumnDefault("0")
     private Integer viewCount;
 
+    // 참여자 수를 매번 COUNT 하지 않도록 비정규화한 컬럼. 증감은 Repository의 조건부 UPDATE로만 한다.
+    // 게시글 수정 시 읽어온 값으로 덮어써서 그 사이의 참여 신청을 잃지 않도록 엔티티의 UPDATE에서는 제외한다.
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Integer participantCount;
+
     @Column(nullable = false)
     @ColumnDefault("true")
     private Boolean activated;
@@ -69,6 +86,7 @@ public class ShareBoard extends BaseTimeEntity {
             (String title, String content, Integer maxParticipants, LocalDateTime endDate, User user) {
         this.title = title;
         this.content = content;
+        this.plainContent = SearchTextUtil.stripHtml(content);
         this.maxParticipants = maxParticipants;
         this.endDate = endDate;
         this.user = user;
@@ -79,10 +97,6 @@ public class ShareBoard extends BaseTimeEntity {
         return this;
     }
 
-    public void addViewCount() {
-        this.viewCount++;
-    }
-
     public void deactivate() {
         this.activated = false;
     }
@@ -90,6 +104,7 @@ public class ShareBoard extends BaseTimeEntity {
     public void update(String title, String content, Integer maxParticipants, LocalDateTime endDate) {
         this.title = title;
         this.content = content;
+        this.plainContent = SearchTextUtil.stripHtml(content);
         this.maxParticipants = maxParticipants;
         this.endDate = endDate;
     }
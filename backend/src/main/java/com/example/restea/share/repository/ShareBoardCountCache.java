@@ -0,0 +1,58 @@
+package com.example.restea.share.repository;
+
+import com.example.restea.search.dto.BoardSearchCondition;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 나눔 게시글 목록의 전체 개수를 잠시 캐싱하는 클래스. 첫 페이지는 항상 다시 세고, 그 뒤의 페이지는 TTL 동안 같은 조건의 개수를 재사용해서 깊은 페이지를 넘길 때마다 COUNT 하지 않도록 한다.
+ * ttl이 0이면 캐싱하지 않고 매번 정확한 개수를 센다.
+ */
+@Component
+public class ShareBoardCountCache {
+
+    private static final int MAX_ENTRIES = 1_000;
+
+    private final long ttlSeconds;
+    private final Map<BoardSearchCondition, CachedCount> cache = new ConcurrentHashMap<>();
+
+    public ShareBoardCountCache(@Value("${share.count-cache.ttl-seconds:0}") long ttlSeconds) {
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * 캐싱된 전체 개수를 반환하고, 없거나 만료되었으면 다시 센다.
+     *
+     * @param condition 검색 조건 (같은 조건끼리 개수를 공유한다)
+     * @param page      요청한 페이지
+     * @param counter   실제 COUNT 쿼리
+     * @return 조건에 맞는 게시글의 전체 개수
+     */
+    public long getOrCount(BoardSearchCondition condition, int page, LongSupplier counter) {
+        if (ttlSeconds <= 0) {
+            return counter.getAsLong();
+        }
+
+        CachedCount cached = cache.get(condition);
+        if (page > 1 && cached != null && cached.isFresh()) {
+            return cached.count();
+        }
+
+        long count = counter.getAsLong();
+        if (cache.size() >= MAX_ENTRIES) {
+            cache.clear();
+        }
+        cache.put(condition, new CachedCount(count, Instant.now().plusSeconds(ttlSeconds)));
+        return count;
+    }
+
+    private record CachedCount(long count, Instant expiresAt) {
+        boolean isFresh() {
+            return Instant.now().isBefore(expiresAt);
+        }
+    }
+}
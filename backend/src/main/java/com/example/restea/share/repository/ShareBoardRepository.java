@@ -1,10 +1,16 @@
 package com.example.restea.share.repository;
 
 import com.example.restea.share.entity.ShareBoard;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ShareBoardRepository extends JpaRepository<ShareBoard, Integer> {
 
@@ -14,10 +20,54 @@ public interface ShareBoardRepository extends JpaRepository<ShareBoard, Integer>
     // sort = urgent
     Long countByActivatedAndEndDateAfter(boolean b, Object o);
 
+    @EntityGraph(attributePaths = "user")
     Page<ShareBoard> findAllByActivatedAndUserId(boolean b, Integer userId, Pageable pageable);
 
+    // 상세 조회에서 작성자의 닉네임, 사진을 바로 쓰므로 함께 가져온다.
+    @EntityGraph(attributePaths = "user")
     Optional<ShareBoard> findByIdAndActivated(Integer id, boolean b);
 
     Long countByActivatedAndUserId(boolean b, Integer userId);
 
+    // 메모리에 모아둔 조회수를 같은 증가량끼리 묶어서 반영
+    @Modifying
+    @Transactional
+    @Query("UPDATE ShareBoard s SET s.viewCount = s.viewCount + :delta WHERE s.id IN :shareBoardIds")
+    int addViewCount(@Param("delta") int delta, @Param("shareBoardIds") List<Integer> shareBoardIds);
+
+    // 정원 확인과 증가를 하나의 UPDATE로 처리해서 동시에 참여 신청이 들어와도 정원을 넘지 않는다.
+    @Modifying
+    @Transactional
+    @Query("UPDATE ShareBoard s SET s.participantCount = s.participantCount + 1 "
+            + "WHERE s.id = :shareBoardId AND s.participantCount < s.maxParticipants")
+    int increaseParticipantCount(@Param("shareBoardId") Integer shareBoardId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ShareBoard s SET s.participantCount = s.participantCount - 1 "
+            + "WHERE s.id = :shareBoardId AND s.participantCount > 0")
+    int decreaseParticipantCount(@Param("shareBoardId") Integer shareBoardId);
+
+    // 게시글 삭제로 참여기록을 모두 지웠을 때 호출
+    @Modifying
+    @Transactional
+    @Query("UPDATE ShareBoard s SET s.participantCount = 0 WHERE s.id = :shareBoardId")
+    int resetParticipantCount(@Param("shareBoardId") Integer shareBoardId);
+
+    // 탈퇴한 유저의 참여기록을 지우기 전에 호출
+    @Modifying
+    @Transactional
+    @Query("UPDATE ShareBoard s SET s.participantCount = s.participantCount - 1 "
+            + "WHERE s.participantCount > 0 AND s.id IN "
+            + "(SELECT sp.shareBoard.id FROM ShareParticipant sp WHERE sp.user.id = :userId)")
+    int decreaseParticipantCountByUserId(@Param("userId") Integer userId);
+
+    // 참여자 테이블을 기준으로 participant_count를 다시 맞춘다. (backfill 및 보정용)
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE share_board s SET s.participantCount = "
+            + "(SELECT COUNT(*) FROM share_participant sp WHERE sp.share_board_id = s.share_board_id)",
+            nativeQuery = true)
+    int reconcileParticipantCount();
+
 }
\ No newline at end of file
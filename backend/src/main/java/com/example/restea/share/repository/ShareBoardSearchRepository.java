@@ -2,13 +2,19 @@ package com.example.restea.share.repository;
 
 import static com.example.restea.share.enums.ShareBoardMessage.SHARE_BOARD_INVALID_SORT;
 
+import com.example.restea.common.dto.Cursor;
+import com.example.restea.search.dto.BoardSearchCondition;
+import com.example.restea.search.repository.BoardSearchPaths;
+import com.example.restea.search.repository.BoardSearchPredicates;
+import com.example.restea.search.repository.FullTextExpressions;
 import com.example.restea.share.entity.QShareBoard;
 import com.example.restea.share.entity.ShareBoard;
+import com.example.restea.user.entity.QUser;
 import com.querydsl.core.types.OrderSpecifier;
-import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -24,57 +30,107 @@ public class ShareBoardSearchRepository {
     private final JPAQueryFactory queryFactory;
 
     QShareBoard shareBoard = QShareBoard.shareBoard;
+    QUser user = QUser.user;
 
-    public List<ShareBoard> findAllBySortAndKeyword(
-            String sort, Integer page, Integer perPage, String searchBy, String keyword) {
-        return queryFactory
-                .selectFrom(shareBoard)
-                .where(createWhereCondition(sort, searchBy, keyword))
-                .orderBy(getOrderSpecifier(sort))
+    // 목록 조회는 작성자를 fetch join 하므로 닉네임 검색도 같은 join을 쓴다.
+    BoardSearchPaths fetchJoinPaths = new BoardSearchPaths(shareBoard.activated, shareBoard.createdDate,
+            shareBoard.endDate, shareBoard.title, shareBoard.plainContent, user.nickname);
+
+    // 개수 조회는 작성자 검색일 때만 users를 join 한다.
+    BoardSearchPaths countPaths = new BoardSearchPaths(shareBoard.activated, shareBoard.createdDate,
+            shareBoard.endDate, shareBoard.title, shareBoard.plainContent, shareBoard.user.nickname);
+
+    public List<ShareBoard> findAllBySearchCondition(BoardSearchCondition condition, Integer page, Integer perPage) {
+        return selectWithWriter()
+                .where(BoardSearchPredicates.where(condition, fetchJoinPaths))
+                .orderBy(getOrderSpecifiers(condition.getSort()))
                 .offset((long) (page - 1) * perPage)
                 .limit(perPage)
                 .fetch();
     }
 
-    private Predicate createWhereCondition(String sort, String searchBy, String keyword) {
+    public long countBySearchCondition(BoardSearchCondition condition) {
+        Long totalCount = queryFactory
+                .select(shareBoard.count())
+                .from(shareBoard)
+                .where(BoardSearchPredicates.where(condition, countPaths))
+                .fetchOne();
 
-        BooleanExpression baseCondition = shareBoard.activated.isTrue();
+        if (totalCount == null) {
+            return 0;
+        }
+        return totalCount;
+    }
 
-        if ("urgent".equals(sort)) {
-            baseCondition = baseCondition.and(shareBoard.endDate.gt(LocalDateTime.now()));
+    /**
+     * 커서 다음의 나눔 게시글을 가져오는 메소드. latest는 (createdDate, id) 내림차순, urgent는 (endDate, id) 오름차순
+     *
+     * @param condition 검색 조건
+     * @param cursor    마지막으로 조회한 게시글의 커서 (null이면 처음부터)
+     * @param limit     가져올 개수
+     * @return ShareBoard의 List
+     */
+    public List<ShareBoard> findAllByCursor(BoardSearchCondition condition, Cursor cursor, int limit) {
+        return selectWithWriter()
+                .where(BoardSearchPredicates.where(condition, fetchJoinPaths),
+                        createCursorCondition(condition.getSort(), cursor))
+                .orderBy(getOrderSpecifiers(condition.getSort()))
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 관련도가 높은 순으로 나눔 게시글을 검색하는 메소드. 관련도가 같으면 최신 글이 먼저 온다.
+     *
+     * @param condition 검색 조건 (searchBy: title, content, all, writer)
+     * @param page      페이지
+     * @param perPage   페이지 당 항목 수
+     * @return ShareBoard의 List
+     */
+    public List<ShareBoard> findAllByRelevance(BoardSearchCondition condition, Integer page, Integer perPage) {
+        return selectWithWriter()
+                .where(BoardSearchPredicates.where(condition, fetchJoinPaths))
+                .orderBy(getRelevanceOrderSpecifiers(condition))
+                .offset((long) (page - 1) * perPage)
+                .limit(perPage)
+                .fetch();
+    }
+
+    private JPAQuery<ShareBoard> selectWithWriter() {
+        return queryFactory
+                .selectFrom(shareBoard)
+                .join(shareBoard.user, user).fetchJoin();
+    }
+
+    private OrderSpecifier<?>[] getRelevanceOrderSpecifiers(BoardSearchCondition condition) {
+        NumberExpression<Double> score = FullTextExpressions.searchScore(condition.getSearchBy(),
+                condition.getKeyword(), shareBoard.title, shareBoard.plainContent);
+        if (score == null) {
+            return new OrderSpecifier<?>[]{shareBoard.id.desc()};
         }
+        return new OrderSpecifier<?>[]{score.desc(), shareBoard.id.desc()};
+    }
 
-        if (searchBy != null && keyword != null) {
-            System.out.println("searchBy: " + searchBy);
-            switch (searchBy) {
-                case "title":
-                    baseCondition = baseCondition.and(shareBoard.title.contains(keyword));
-                    break;
-                case "content":
-                    baseCondition = baseCondition.and(shareBoard.content.contains(keyword));
-                    break;
-                case "writer":
-                    baseCondition = baseCondition.and(shareBoard.user.nickname.contains(keyword));
-                    break;
-            }
+    private BooleanExpression createCursorCondition(String sort, Cursor cursor) {
+        if (cursor == null) {
+            return null;
         }
-        return baseCondition;
+
+        if ("urgent".equals(sort)) {
+            return shareBoard.endDate.gt(cursor.getDateTime())
+                    .or(shareBoard.endDate.eq(cursor.getDateTime()).and(shareBoard.id.gt(cursor.getId())));
+        }
+        return shareBoard.createdDate.lt(cursor.getDateTime())
+                .or(shareBoard.createdDate.eq(cursor.getDateTime()).and(shareBoard.id.lt(cursor.getId())));
     }
 
-    private OrderSpecifier<?> getOrderSpecifier(String sort) {
+    // 같은 시각의 글이 여러 개여도 순서(와 커서)가 하나로 정해지도록 id를 보조 정렬 기준으로 둔다.
+    private OrderSpecifier<?>[] getOrderSpecifiers(String sort) {
         return switch (sort) {
-            case "latest" -> shareBoard.createdDate.desc();
-            case "urgent" -> shareBoard.endDate.asc();
+            case "latest" -> new OrderSpecifier<?>[]{shareBoard.createdDate.desc(), shareBoard.id.desc()};
+            case "urgent" -> new OrderSpecifier<?>[]{shareBoard.endDate.asc(), shareBoard.id.asc()};
             default -> throw new ResponseStatusException(
                     HttpStatus.BAD_REQUEST, SHARE_BOARD_INVALID_SORT.getMessage());
         };
     }
-
-    public int countBySortAndKeyword(String sort, String searchBy, String keyword) {
-        List<ShareBoard> results = queryFactory
-                .selectFrom(shareBoard)
-                .where(createWhereCondition(sort, searchBy, keyword))
-                .fetch();
-        return results.size();
-    }
 }
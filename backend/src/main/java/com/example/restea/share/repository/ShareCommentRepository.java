@@ -6,12 +6,21 @@ import com.example.restea.share.entity.ShareComment;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface ShareCommentRepository extends JpaRepository<ShareComment, Integer> {
+    // 댓글 목록은 작성자 닉네임을 함께 내려주므로 작성자를 같이 가져온다.
+    @EntityGraph(attributePaths = "user")
     Page<ShareComment> findAllByShareBoard(ShareBoard shareBoard, Pageable pageable);
 
     Long countAllByShareBoard(ShareBoard shareBoard);
 
     Optional<ShareComment> findByIdAndActivated(Integer shareCommentId, boolean b);
+
+    // 게시글의 댓글 컬렉션을 모두 불러오지 않고 id로 바로 찾는다.
+    Optional<ShareComment> findByIdAndShareBoard(Integer shareCommentId, ShareBoard shareBoard);
+
+    Optional<ShareComment> findByIdAndShareBoardAndActivated(Integer shareCommentId, ShareBoard shareBoard,
+                                                             boolean b);
 }
@@ -0,0 +1,50 @@
+package com.example.restea.share.repository;
+
+import com.example.restea.share.entity.ShareComment;
+import com.example.restea.share.entity.QShareReply;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ShareCommentSummaryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    QShareReply shareReply = QShareReply.shareReply;
+
+    /**
+     * 한 페이지 분량의 댓글에 대해 답글 수를 하나의 GROUP BY 쿼리로 조회하는 메소드. 답글이 없는 댓글은 Map에 포함되지 않는다.
+     *
+     * @param shareComments 페이지에 포함된 댓글
+     * @return shareCommentId를 key로, 답글 수를 value로 가지는 Map
+     */
+    public Map<Integer, Integer> findReplyCountsByComments(List<ShareComment> shareComments) {
+        if (shareComments.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Integer> shareCommentIds = shareComments.stream()
+                .map(ShareComment::getId)
+                .toList();
+
+        NumberExpression<Long> replyCount = shareReply.count();
+        return queryFactory
+                .select(shareReply.shareComment.id, replyCount)
+                .from(shareReply)
+                .where(shareReply.shareComment.id.in(shareCommentIds))
+                .groupBy(shareReply.shareComment.id)
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(
+                        tuple -> tuple.get(shareReply.shareComment.id),
+                        tuple -> tuple.get(replyCount).intValue()));
+    }
+}
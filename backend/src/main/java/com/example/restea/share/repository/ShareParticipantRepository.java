@@ -2,7 +2,9 @@ package com.example.restea.share.repository;
 
 import com.example.restea.share.entity.ShareBoard;
 import com.example.restea.share.entity.ShareParticipant;
+import com.example.restea.user.entity.User;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -13,6 +15,10 @@ public interface ShareParticipantRepository extends JpaRepository<ShareParticipa
 
     Long countByShareBoard(ShareBoard shareBoard);
 
+    boolean existsByShareBoardAndUser(ShareBoard shareBoard, User user);
+
+    Optional<ShareParticipant> findByShareBoardAndUser(ShareBoard shareBoard, User user);
+
     @Modifying
     @Transactional
     @Query("DELETE FROM ShareParticipant sp WHERE sp.user.id = :userId")
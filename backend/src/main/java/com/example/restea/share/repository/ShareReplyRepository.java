@@ -2,15 +2,39 @@ package com.example.restea.share.repository;
 
 import com.example.restea.share.entity.ShareComment;
 import com.example.restea.share.entity.ShareReply;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ShareReplyRepository extends JpaRepository<ShareReply, Integer> {
 
-    Long countByShareComment(ShareComment shareComment);
-
     Long countAllByShareComment(ShareComment shareComment);
 
+    // 댓글의 답글 컬렉션을 모두 불러오지 않고 id로 바로 찾는다.
+    Optional<ShareReply> findByIdAndShareCommentAndActivated(Integer shareReplyId, ShareComment shareComment,
+                                                             boolean b);
+
+    // 답글 목록은 작성자 닉네임을 함께 내려주므로 작성자를 같이 가져온다.
+    @EntityGraph(attributePaths = "user")
     Page<ShareReply> findAllByShareComment(ShareComment shareComment, PageRequest of);
+
+    // 커서 방식의 첫 페이지
+    @EntityGraph(attributePaths = "user")
+    List<ShareReply> findAllByShareCommentOrderByCreatedDateAscIdAsc(ShareComment shareComment, PageRequest of);
+
+    // 커서 방식의 다음 페이지 : (createdDate, id)가 커서보다 뒤인 답글
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT r FROM ShareReply r WHERE r.shareComment = :shareComment "
+            + "AND (r.createdDate > :createdDate OR (r.createdDate = :createdDate AND r.id > :id)) "
+            + "ORDER BY r.createdDate ASC, r.id ASC")
+    List<ShareReply> findAllByShareCommentAfterCursor(@Param("shareComment") ShareComment shareComment,
+                                                      @Param("createdDate") LocalDateTime createdDate,
+                                                      @Param("id") Integer id,
+                                                      PageRequest of);
 }
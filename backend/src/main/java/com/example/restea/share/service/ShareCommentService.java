@@ -15,12 +15,13 @@ import com.example.restea.share.entity.ShareBoard;
 import com.example.restea.share.entity.ShareComment;
 import com.example.restea.share.repository.ShareBoardRepository;
 import com.example.restea.share.repository.ShareCommentRepository;
-import com.example.restea.share.repository.ShareReplyRepository;
+import com.example.restea.share.repository.ShareCommentSummaryRepository;
 import com.example.restea.user.entity.User;
-import com.example.restea.user.repository.UserRepository;
+import com.example.restea.user.service.ActivatedUserResolver;
 import jakarta.transaction.Transactional;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -34,8 +35,8 @@ import org.springframework.web.server.ResponseStatusException;
 public class ShareCommentService {
     private final ShareBoardRepository shareBoardRepository;
     private final ShareCommentRepository shareCommentRepository;
-    private final UserRepository userRepository;
-    private final ShareReplyRepository shareReplyRepository;
+    private final ActivatedUserResolver activatedUserResolver;
+    private final ShareCommentSummaryRepository shareCommentSummaryRepository;
 
     public ResponseDTO<List<ShareCommentViewResponse>> getShareCommentList(Integer shareBoardId, Integer page,
                                                                            Integer perPage) {
@@ -53,7 +54,7 @@ public class ShareCommentService {
     @Transactional
     public ShareCommentCreationResponse createShareComment(String content, Integer shareBoardId, Integer userId) {
 
-        User activatedUser = getActivatedUser(userRepository, userId);
+        User activatedUser = getActivatedUser(activatedUserResolver, userId);
         ShareBoard activatedShareBoard = getActivatedShareBoard(shareBoardRepository, shareBoardId);
 
         checkActivatedShareBoardWriter(activatedShareBoard);
@@ -73,9 +74,10 @@ public class ShareCommentService {
     public ShareCommentDeleteResponse deactivateShareComment(Integer shareBoardId, Integer shareCommentId,
                                                              Integer userId) {
 
-        User activatedUser = getActivatedUser(userRepository, userId);
+        User activatedUser = getActivatedUser(activatedUserResolver, userId);
         ShareBoard activatedShareBoard = getActivatedShareBoard(shareBoardRepository, shareBoardId);
-        ShareComment activatedComment = getActivatedShareComment(shareCommentId, activatedShareBoard);
+        ShareComment activatedComment = getActivatedShareComment(shareCommentRepository, shareCommentId,
+                activatedShareBoard);
 
         checkWriter(activatedComment, activatedUser);
 
@@ -91,10 +93,13 @@ public class ShareCommentService {
     }
 
     private List<ShareCommentViewResponse> createResponseFromShareComments(List<ShareComment> shareComments) {
+        // 답글 수는 댓글마다 세지 않고 페이지 단위로 한 번에 센다.
+        Map<Integer, Integer> replyCounts = shareCommentSummaryRepository.findReplyCountsByComments(shareComments);
+
         List<ShareCommentViewResponse> data = new ArrayList<>();
 
         for (ShareComment shareComment : shareComments) {
-            Integer replyCount = shareReplyRepository.countByShareComment(shareComment).intValue();
+            Integer replyCount = replyCounts.getOrDefault(shareComment.getId(), 0);
             data.add(ShareCommentViewResponse.of(shareComment, replyCount));
         }
         return data;
@@ -20,7 +20,7 @@ import com.example.restea.share.entity.ShareParticipant;
 import com.example.restea.share.repository.ShareBoardRepository;
 import com.example.restea.share.repository.ShareParticipantRepository;
 import com.example.restea.user.entity.User;
-import com.example.restea.user.repository.UserRepository;
+import com.example.restea.user.service.ActivatedUserResolver;
 import jakarta.transaction.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -35,13 +35,13 @@ import org.springframework.web.server.ResponseStatusException;
 @RequiredArgsConstructor
 public class ShareParticipantService {
 
-    private final UserRepository userRepository;
+    private final ActivatedUserResolver activatedUserResolver;
     private final ShareBoardRepository shareBoardRepository;
     private final ShareParticipantRepository shareParticipantRepository;
 
     @Transactional
     public ShareJoinResponse participate(Integer shareBoardId, ShareJoinRequest request, Integer userId) {
-        User activatedUser = getActivatedUser(userRepository, userId);
+        User activatedUser = getActivatedUser(activatedUserResolver, userId);
         ShareBoard activatedShareBoard = getActivatedShareBoard(shareBoardRepository, shareBoardId);
         checkWriterActivated(activatedShareBoard);
         if (checkUserIsWriter(activatedShareBoard, activatedUser)) {
@@ -51,8 +51,8 @@ public class ShareParticipantService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
                     SHARE_PARTICIPANT_ALREADY_EXISTS.getMessage());
         }
-        checkMaxParticipants(activatedShareBoard);
         checkEndDate(activatedShareBoard);
+        increaseParticipantCount(activatedShareBoard);
 
         ShareParticipant shareParticipant = shareParticipantRepository.save(ShareParticipant.builder()
                 .name(request.getName())
@@ -68,7 +68,7 @@ public class ShareParticipantService {
     @Transactional
     public ShareCancelResponse cancel(Integer shareBoardId, Integer targetId, Integer userId) {
         checkAuthorized(userId, targetId);
-        User activatedUser = getActivatedUser(userRepository, targetId);
+        User activatedUser = getActivatedUser(activatedUserResolver, targetId);
         ShareBoard activatedShareBoard = getActivatedShareBoard(shareBoardRepository, shareBoardId);
         checkEndDate(activatedShareBoard);
 
@@ -76,14 +76,16 @@ public class ShareParticipantService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, SHARE_PARTICIPANT_USER_IS_WRITER.getMessage());
         }
 
-        ShareParticipant shareParticipant = getShareParticipant(activatedUser, activatedShareBoard);
-        activatedShareBoard.getShareParticipants().remove(shareParticipant);
+        ShareParticipant shareParticipant = getShareParticipant(shareParticipantRepository, activatedUser,
+                activatedShareBoard);
+        shareParticipantRepository.delete(shareParticipant);
+        shareBoardRepository.decreaseParticipantCount(shareBoardId);
 
         return ShareCancelResponse.of(shareBoardId, targetId);
     }
 
     public List<ShareJoinListResponse> getShareParticipants(Integer shareBoardId, Integer userId) { // check valid
-        User activatedUser = getActivatedUser(userRepository, userId);
+        User activatedUser = getActivatedUser(activatedUserResolver, userId);
         ShareBoard activatedShareBoard = getActivatedShareBoard(shareBoardRepository, shareBoardId);
         if (!checkUserIsWriter(activatedShareBoard, activatedUser)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, SHARE_PARTICIPANT_FORBIDDEN.getMessage());
@@ -95,7 +97,7 @@ public class ShareParticipantService {
 
     public ShareJoinCheckResponse isParticipated(Integer shareBoardId, Integer targetId, Integer userId) {
         checkAuthorized(userId, targetId);
-        User activatedUser = getActivatedUser(userRepository, targetId);
+        User activatedUser = getActivatedUser(activatedUserResolver, targetId);
         ShareBoard activatedShareBoard = getActivatedShareBoard(shareBoardRepository, shareBoardId);
         if (checkUserIsWriter(activatedShareBoard, activatedUser)) {
             return ShareJoinCheckResponse.of(shareBoardId, targetId, true);
@@ -108,16 +110,16 @@ public class ShareParticipantService {
 
 
     private boolean checkIfUserAlreadyParticipating(ShareBoard activatedShareBoard, User activatedUser) {
-        return activatedShareBoard.getShareParticipants().stream()
-                .anyMatch(participant -> participant.getUser().equals(activatedUser));
+        return shareParticipantRepository.existsByShareBoardAndUser(activatedShareBoard, activatedUser);
     }
 
     private boolean checkUserIsWriter(ShareBoard activatedShareBoard, User activatedUser) {
         return activatedShareBoard.getUser().getId().equals(activatedUser.getId());
     }
 
-    private void checkMaxParticipants(ShareBoard activatedShareBoard) {
-        if (activatedShareBoard.getShareParticipants().size() >= activatedShareBoard.getMaxParticipants()) {
+    // 정원 확인과 참여자 수 증가를 하나의 조건부 UPDATE로 처리 (갱신된 행이 없으면 정원 초과)
+    private void increaseParticipantCount(ShareBoard activatedShareBoard) {
+        if (shareBoardRepository.increaseParticipantCount(activatedShareBoard.getId()) == 0) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, SHARE_PARTICIPANT_FULL.getMessage());
         }
     }
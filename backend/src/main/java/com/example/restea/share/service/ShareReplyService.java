@@ -9,6 +9,7 @@ import static com.example.restea.share.util.ShareUtil.getActivatedShareReply;
 import static com.example.restea.share.util.ShareUtil.getActivatedUser;
 import static com.example.restea.share.util.ShareUtil.getShareComment;
 
+import com.example.restea.common.dto.Cursor;
 import com.example.restea.common.dto.PaginationDTO;
 import com.example.restea.common.dto.ResponseDTO;
 import com.example.restea.share.dto.ShareReplyCreationResponse;
@@ -18,10 +19,11 @@ import com.example.restea.share.entity.ShareBoard;
 import com.example.restea.share.entity.ShareComment;
 import com.example.restea.share.entity.ShareReply;
 import com.example.restea.share.repository.ShareBoardRepository;
+import com.example.restea.share.repository.ShareCommentRepository;
 import com.example.restea.share.repository.ShareReplyRepository;
 import com.example.restea.share.util.ShareUtil;
 import com.example.restea.user.entity.User;
-import com.example.restea.user.repository.UserRepository;
+import com.example.restea.user.service.ActivatedUserResolver;
 import jakarta.transaction.Transactional;
 import jakarta.validation.constraints.NotNull;
 import java.util.ArrayList;
@@ -38,14 +40,19 @@ import org.springframework.web.server.ResponseStatusException;
 public class ShareReplyService {
 
     private final ShareReplyRepository shareReplyRepository;
-    private final UserRepository userRepository;
+    private final ActivatedUserResolver activatedUserResolver;
     private final ShareBoardRepository shareBoardRepository;
+    private final ShareCommentRepository shareCommentRepository;
 
     public ResponseDTO<List<ShareReplyViewResponse>> getShareReplyList(
-            Integer shareBoardId, Integer shareCommentId, Integer page, Integer perPage) {
+            Integer shareBoardId, Integer shareCommentId, Integer page, Integer perPage, String cursor) {
 
         ShareBoard activatedShareBoard = getActivatedShareBoard(shareBoardRepository, shareBoardId);
-        ShareComment shareComment = getShareComment(shareCommentId, activatedShareBoard);
+        ShareComment shareComment = getShareComment(shareCommentRepository, shareCommentId, activatedShareBoard);
+
+        if (cursor != null) {
+            return getShareReplyListByCursor(shareComment, perPage, cursor);
+        }
 
         Page<ShareReply> shareReplies = getShareReplies(shareComment, page, perPage);
         List<ShareReplyViewResponse> data = createResponseFromShareReplies(shareReplies.getContent());
@@ -56,13 +63,26 @@ public class ShareReplyService {
         return ResponseDTO.of(data, pagination);
     }
 
+    private ResponseDTO<List<ShareReplyViewResponse>> getShareReplyListByCursor(
+            ShareComment shareComment, Integer perPage, String cursor) {
+
+        // 다음 페이지가 있는지 알기 위해 하나 더 조회
+        List<ShareReply> fetched = getShareRepliesAfter(shareComment, Cursor.decode(cursor), perPage + 1);
+        List<ShareReplyViewResponse> data = createResponseFromShareReplies(Cursor.content(fetched, perPage));
+
+        String nextCursor = Cursor.next(fetched, perPage,
+                shareReply -> Cursor.of(shareReply.getCreatedDate(), shareReply.getId()));
+        return ResponseDTO.of(data, PaginationDTO.ofCursor(perPage, nextCursor));
+    }
+
     @Transactional
     public ShareReplyCreationResponse createShareReply(Integer shareBoardId, String content, Integer shareCommentId,
                                                        Integer userId) {
 
-        User user = getActivatedUser(userRepository, userId);
+        User user = getActivatedUser(activatedUserResolver, userId);
         ShareBoard activatedShareBoard = getActivatedShareBoard(shareBoardRepository, shareBoardId);
-        ShareComment activatedShareComment = getActivatedShareComment(shareCommentId, activatedShareBoard);
+        ShareComment activatedShareComment = getActivatedShareComment(shareCommentRepository, shareCommentId,
+                activatedShareBoard);
 
         if (!activatedShareComment.getShareBoard().getUser().getActivated()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, SHARE_BOARD_USER_NOT_ACTIVATED.getMessage());
@@ -83,10 +103,10 @@ public class ShareReplyService {
                                                          Integer shareReplyId, Integer userId) {
 
         ShareBoard activatedShareBoard = getActivatedShareBoard(shareBoardRepository, shareBoardId);
-        ShareComment shareComment = getShareComment(shareCommentId, activatedShareBoard);
-        ShareReply activatedShareReply = getActivatedShareReply(shareReplyId, shareComment);
+        ShareComment shareComment = getShareComment(shareCommentRepository, shareCommentId, activatedShareBoard);
+        ShareReply activatedShareReply = getActivatedShareReply(shareReplyRepository, shareReplyId, shareComment);
 
-        User activatedUser = ShareUtil.getActivatedUser(userRepository, userId);
+        User activatedUser = ShareUtil.getActivatedUser(activatedUserResolver, userId);
         checkAuthorized(activatedShareReply, activatedUser);
 
         activatedShareReply.deactivate();
@@ -109,6 +129,15 @@ public class ShareReplyService {
         return shareReplies;
     }
 
+    private List<ShareReply> getShareRepliesAfter(ShareComment shareComment, Cursor cursor, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        if (cursor == null) {
+            return shareReplyRepository.findAllByShareCommentOrderByCreatedDateAscIdAsc(shareComment, pageRequest);
+        }
+        return shareReplyRepository.findAllByShareCommentAfterCursor(shareComment, cursor.getDateTime(),
+                cursor.getId(), pageRequest);
+    }
+
     private List<ShareReplyViewResponse> createResponseFromShareReplies(List<ShareReply> shareReplies) {
 
         List<ShareReplyViewResponse> data = new ArrayList<>();
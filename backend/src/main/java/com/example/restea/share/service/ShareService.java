@@ -7,7 +7,11 @@ import static com.example.restea.share.enums.ShareBoardMessage.SHARE_BOARD_LESS_
 import static com.example.restea.share.enums.ShareBoardMessage.SHARE_BOARD_NOT_WRITER;
 import static com.example.restea.share.util.ShareUtil.getActivatedShareBoard;
 
+import com.example.restea.common.dto.Cursor;
 import com.example.restea.common.dto.PaginationDTO;
+import com.example.restea.common.viewcount.BoardType;
+import com.example.restea.common.viewcount.ViewCountService;
+import com.example.restea.search.dto.BoardSearchCondition;
 import com.example.restea.share.dto.ShareCreationRequest;
 import com.example.restea.share.dto.ShareCreationResponse;
 import com.example.restea.share.dto.ShareDeleteResponse;
@@ -17,21 +21,21 @@ import com.example.restea.share.dto.ShareUpdateResponse;
 import com.example.restea.share.dto.ShareViewResponse;
 import com.example.restea.share.entity.ShareBoard;
 import com.example.restea.share.entity.ShareReply;
+import com.example.restea.share.repository.ShareBoardCountCache;
 import com.example.restea.share.repository.ShareBoardRepository;
 import com.example.restea.share.repository.ShareBoardSearchRepository;
 import com.example.restea.share.repository.ShareParticipantRepository;
 import com.example.restea.share.util.ShareUtil;
 import com.example.restea.user.entity.User;
-import com.example.restea.user.repository.UserRepository;
-import jakarta.transaction.Transactional;
+import com.example.restea.user.service.ActivatedUserResolver;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
-import org.jetbrains.annotations.NotNull;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 @RequiredArgsConstructor
@@ -39,51 +43,80 @@ import org.springframework.web.server.ResponseStatusException;
 public class ShareService {
 
     private final ShareBoardRepository shareBoardRepository;
-    private final UserRepository userRepository;
+    private final ActivatedUserResolver activatedUserResolver;
     private final ShareParticipantRepository shareParticipantRepository;
     private final ShareBoardSearchRepository shareBoardSearchRepository;
+    private final ViewCountService viewCountService;
+    private final ShareBoardCountCache shareBoardCountCache;
 
     @Transactional
     public Map<String, Object> getShareBoardList(
-            String sort, Integer page, Integer perPage, String searchBy, String keyword) {
+            BoardSearchCondition condition, Integer page, Integer perPage, String cursor) {
 
-        checkSort(sort);
-        if (searchBy != null || keyword != null) {
-            checkSearchBy(searchBy);
-            checkKeyword(keyword);
+        checkSort(condition.getSort());
+        if (condition.getSearchBy() != null || condition.getKeyword() != null) {
+            checkSearchBy(condition.getSearchBy());
+            checkKeyword(condition.getKeyword());
+        }
+
+        if (cursor != null) {
+            return getShareBoardListByCursor(condition, perPage, cursor);
         }
 
         // data
-        List<ShareBoard> shareBoards = getActivatedShareBoards(sort, page, perPage, searchBy,
-                keyword); // 아직 기간이 지나지 않고 활성화된 게시글
+        List<ShareBoard> shareBoards = shareBoardSearchRepository.findAllBySearchCondition(condition, page,
+                perPage); // 아직 기간이 지나지 않고 활성화된 게시글
         List<ShareListResponse> data = createResponseFormShareBoards(shareBoards);
-        int totalElements = shareBoardSearchRepository.countBySortAndKeyword(sort, searchBy, keyword);
+        long totalElements = shareBoardCountCache.getOrCount(condition, page,
+                () -> shareBoardSearchRepository.countBySearchCondition(condition));
 
         // pagination info
-        PaginationDTO pagination = PaginationDTO.of(totalElements, page, perPage);
+        PaginationDTO pagination = PaginationDTO.of((int) totalElements, page, perPage);
 
         return Map.of("data", data, "pagination", pagination);
     }
 
+    private Map<String, Object> getShareBoardListByCursor(BoardSearchCondition condition, Integer perPage,
+                                                          String cursor) {
+
+        // 다음 페이지가 있는지 알기 위해 하나 더 조회
+        List<ShareBoard> fetched = shareBoardSearchRepository.findAllByCursor(condition, Cursor.decode(cursor),
+                perPage + 1);
+        List<ShareListResponse> data = createResponseFormShareBoards(Cursor.content(fetched, perPage));
+
+        String nextCursor = Cursor.next(fetched, perPage,
+                shareBoard -> toCursor(condition.getSort(), shareBoard));
+        return Map.of("data", data, "pagination", PaginationDTO.ofCursor(perPage, nextCursor));
+    }
+
+    private Cursor toCursor(String sort, ShareBoard shareBoard) {
+        if ("urgent".equals(sort)) {
+            return Cursor.of(shareBoard.getEndDate(), shareBoard.getId());
+        }
+        return Cursor.of(shareBoard.getCreatedDate(), shareBoard.getId());
+    }
+
     @Transactional
     public ShareCreationResponse createShareBoard(ShareCreationRequest request, Integer userId) {
 
-        User activatedUser = ShareUtil.getActivatedUser(userRepository, userId);
+        User activatedUser = ShareUtil.getActivatedUser(activatedUserResolver, userId);
         ShareBoard result = shareBoardRepository.save(request.toEntity().addUser(activatedUser));
         return ShareCreationResponse.of(result);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public ShareViewResponse getShareBoard(Integer shareBoardId) {
 
         ShareBoard activatedShareBoard = getOnlyShareBoard(shareBoardId);
-        Integer participants = shareParticipantRepository.countByShareBoard(activatedShareBoard).intValue();
+        Integer participants = activatedShareBoard.getParticipantCount();
 
-        activatedShareBoard.addViewCount();
+        // 조회수는 메모리에 모았다가 주기적으로 반영 (아직 반영되지 않은 조회수를 더해서 응답)
+        long pendingViewCount = viewCountService.increase(BoardType.SHARE, shareBoardId);
+        Integer viewCount = (int) (activatedShareBoard.getViewCount() + pendingViewCount);
 
         String picture = activatedShareBoard.getUser().getPicture(); // 프로필 사진 가져오기
 
-        return ShareViewResponse.of(activatedShareBoard, participants, picture);
+        return ShareViewResponse.of(activatedShareBoard, participants, viewCount, picture);
     }
 
     public ShareBoard getOnlyShareBoard(Integer shareBoardId) {
@@ -94,13 +127,13 @@ public class ShareService {
     public ShareUpdateResponse updateShareBoard(Integer shareBoardId, ShareUpdateRequest request, Integer userId) {
 
         ShareBoard activatedShareBoard = getOnlyShareBoard(shareBoardId);
-        User activatedUser = ShareUtil.getActivatedUser(userRepository, userId);
+        User activatedUser = ShareUtil.getActivatedUser(activatedUserResolver, userId);
         checkAuthorized(activatedShareBoard, activatedUser);
         checkLessThanCurrentParticipants(request, activatedShareBoard);
 
         activatedShareBoard.update(request.getTitle(), request.getContent(), request.getMaxParticipants(),
                 request.getEndDate());
-        Integer participants = shareParticipantRepository.countByShareBoard(activatedShareBoard).intValue();
+        Integer participants = activatedShareBoard.getParticipantCount();
         return ShareUpdateResponse.of(activatedShareBoard, participants);
     }
 
@@ -108,7 +141,7 @@ public class ShareService {
     public ShareDeleteResponse deactivateShareBoard(Integer shareBoardId, Integer userId) {
 
         ShareBoard activatedShareBoard = getOnlyShareBoard(shareBoardId);
-        User activatedUser = ShareUtil.getActivatedUser(userRepository, userId);
+        User activatedUser = ShareUtil.getActivatedUser(activatedUserResolver, userId);
         checkAuthorized(activatedShareBoard, activatedUser);
 
         activatedShareBoard.deactivate();
@@ -119,6 +152,7 @@ public class ShareService {
             comment.deactivate();
         });
         shareParticipantRepository.deleteAll(activatedShareBoard.getShareParticipants());
+        shareBoardRepository.resetParticipantCount(shareBoardId);
 
         return ShareDeleteResponse.builder()
                 .boardId(shareBoardId)
@@ -135,7 +169,7 @@ public class ShareService {
         if (searchBy == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, SHARE_BOARD_INVALID_SEARCH_BY.getMessage());
         }
-        if (!List.of("title", "content", "writer").contains(searchBy)) {
+        if (!List.of("title", "content", "all", "writer").contains(searchBy)) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, SHARE_BOARD_INVALID_SEARCH_BY.getMessage());
         }
     }
@@ -146,18 +180,10 @@ public class ShareService {
         }
     }
 
-    private @NotNull List<ShareBoard> getActivatedShareBoards(
-            String sort, Integer page, Integer perPage, String searchBy, String keyword) {
-
-        return shareBoardSearchRepository.findAllBySortAndKeyword(
-                sort, page, perPage, searchBy, keyword);
-    }
-
     private List<ShareListResponse> createResponseFormShareBoards(List<ShareBoard> shareBoards) {
         List<ShareListResponse> data = new ArrayList<>();
         for (ShareBoard shareBoard : shareBoards) {
-            Integer participant = shareParticipantRepository.countByShareBoard(shareBoard).intValue();
-            data.add(ShareListResponse.of(shareBoard, participant));
+            data.add(ShareListResponse.of(shareBoard));
         }
         return data;
     }
@@ -170,7 +196,7 @@ public class ShareService {
 
     private void checkLessThanCurrentParticipants(ShareUpdateRequest request, ShareBoard shareBoard) {
         boolean isLessThanCurrentParticipants =
-                request.getMaxParticipants() < shareParticipantRepository.countByShareBoard(shareBoard);
+                request.getMaxParticipants() < shareBoard.getParticipantCount();
         if (isLessThanCurrentParticipants) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
                     SHARE_BOARD_LESS_THAN_CURRENT_PARTICIPANTS.getMessage());
@@ -36,16 +36,18 @@ public class TeatimeCommentController {
      * @param teatimeBoardId 티타임 게시글 ID.
      * @param perPage        페이지 당 항목 수.
      * @param page           페이지 번호.
+     * @param cursor         이전 응답의 nextCursor. 있으면 커서 방식으로 조회하고 page는 무시합니다. (빈 값이면 첫 페이지)
      * @return 페이지 정보와 댓글 리스트를 포함하는 ResponseEntity 객체를 반환합니다. 댓글 조회에 실패하면 에러 코드를 담은 ResponseEntity를 반환합니다.
      */
     @GetMapping("/comments")
     public ResponseEntity<ResponseDTO<?>> getTeatimeCommentList(
             @PathVariable("teatimeBoardId") Integer teatimeBoardId,
             @NotNull @Positive @RequestParam("perPage") Integer perPage,
-            @NotNull @Positive @RequestParam("page") Integer page) {
+            @NotNull @Positive @RequestParam("page") Integer page,
+            @RequestParam(value = "cursor", required = false) String cursor) {
 
         ResponseDTO<List<TeatimeCommentViewResponse>> result = teatimeCommentService.getTeatimeCommentList(
-                teatimeBoardId, page, perPage);
+                teatimeBoardId, page, perPage, cursor);
 
         if (result.getData().isEmpty()) {
             return ResponseEntity.status(HttpStatus.NO_CONTENT).body(result);
@@ -38,7 +38,7 @@ public class TeatimeController {
     /**
      * 티타임 게시글 목록 조회
      *
-     * @param dto sort, page, perpage, searchBy, keyword.
+     * @param dto sort, page, perpage, searchBy, keyword, from, to, openOnly, cursor(있으면 커서 방식으로 조회).
      * @return 페이지 번호에 맞는 게시글 수 만큼 티타임 게시글 목록을 포함하는 ResponseEntity 객체를 반환합니다. 티타임 게시글 목록 조회에 실패하면 에러 코드를 담은
      * ResponseEntity를 반환합니다.
      */
@@ -46,11 +46,10 @@ public class TeatimeController {
     public ResponseEntity<ResponseDTO<?>> getTeatimeBoardList(@Valid @ModelAttribute PaginationAndSearchDto dto) {
 
         ResponseDTO<List<TeatimeListResponse>> result = teatimeService.getTeatimeBoardList(
-                dto.getSort(),
+                dto.toSearchCondition(),
                 dto.getPage(),
                 dto.getPerPage(),
-                dto.getSearchBy(),
-                dto.getKeyword());
+                dto.getCursor());
 
         if (result.getData().isEmpty()) {
             return ResponseEntity.status(HttpStatus.NO_CONTENT).body(result);
@@ -20,8 +20,10 @@ public class TeatimeListResponse {
     private final Integer participants;
     private final Integer viewCount;
     private final String nickname;
+    private final String picture;
 
-    public static TeatimeListResponse of(TeatimeBoard teatimeBoard, Integer participants) {
+    // 작성자는 목록 조회 쿼리에서 fetch join 해 두었으므로 추가 쿼리 없이 쓴다.
+    public static TeatimeListResponse of(TeatimeBoard teatimeBoard) {
         return TeatimeListResponse.builder()
                 .boardId(teatimeBoard.getId())
                 .title(teatimeBoard.getTitle())
@@ -31,9 +33,10 @@ public class TeatimeListResponse {
                 .broadcastDate(teatimeBoard.getBroadcastDate())
                 .endDate(teatimeBoard.getEndDate())
                 .maxParticipants(teatimeBoard.getMaxParticipants())
-                .participants(participants)
+                .participants(teatimeBoard.getParticipantCount())
                 .viewCount(teatimeBoard.getViewCount())
                 .nickname(teatimeBoard.getUser().getExposedNickname())
+                .picture(teatimeBoard.getUser().getPicture())
                 .build();
     }
 }
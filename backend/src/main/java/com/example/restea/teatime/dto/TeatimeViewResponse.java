@@ -22,7 +22,8 @@ public class TeatimeViewResponse {
     private final Integer userId;
     private final String picture;
 
-    public static TeatimeViewResponse of(TeatimeBoard teatimeBoard, Integer participants, String picture) {
+    public static TeatimeViewResponse of(TeatimeBoard teatimeBoard, Integer participants, Integer viewCount,
+                                         String picture) {
         return TeatimeViewResponse.builder()
                 .boardId(teatimeBoard.getId())
                 .title(teatimeBoard.getTitle())
@@ -33,7 +34,7 @@ public class TeatimeViewResponse {
                 .broadcastDate(teatimeBoard.getBroadcastDate())
                 .maxParticipants(teatimeBoard.getMaxParticipants())
                 .participants(participants)
-                .viewCount(teatimeBoard.getViewCount())
+                .viewCount(viewCount)
                 .nickname(teatimeBoard.getUser().getExposedNickname())
                 .userId(teatimeBoard.getUser().getId())
                 .picture(picture)
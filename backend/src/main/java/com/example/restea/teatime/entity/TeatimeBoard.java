@@ -1,6 +1,7 @@
 package com.example.restea.teatime.entity;
 
 import com.example.restea.common.entity.BaseTimeEntity;
+import com.example.restea.search.util.SearchTextUtil;
 import com.example.restea.user.entity.User;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -8,6 +9,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -26,7 +28,11 @@ import org.hibernate.annotations.DynamicInsert;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @DynamicInsert
-@Table(name = "teatime_board")
+@Table(name = "teatime_board", indexes = {
+        @Index(name = "idx_teatime_board_activated_created_date",
+                columnList = "activated, createdDate, teatime_board_id"),
+        @Index(name = "idx_teatime_board_activated_end_date", columnList = "activated, endDate, teatime_board_id")
+})
 public class TeatimeBoard extends BaseTimeEntity {
     @Id
     @GeneratedValue
@@ -39,6 +45,10 @@ public class TeatimeBoard extends BaseTimeEntity {
     @Column(nullable = false, columnDefinition = "MEDIUMTEXT")
     private String content;
 
+    // 검색용 본문. content에서 HTML 태그를 뺀 텍스트로, FULLTEXT 인덱스 대상이다.
+    @Column(columnDefinition = "MEDIUMTEXT")
+    private String plainContent;
+
     @Column(nullable = false)
     private LocalDateTime broadcastDate;
 
@@ -48,10 +58,17 @@ public class TeatimeBoard extends BaseTimeEntity {
     @Column(nullable = false)
     private LocalDateTime endDate;
 
-    @Column(nullable = false)
+    // 조회수는 ViewCountService가 모아서 UPDATE로만 반영한다. 게시글 수정 시 읽어온 값으로 덮어쓰지 않도록 엔티티의 UPDATE에서는 제외한다.
+    @Column(nullable = false, updatable = false)
     @ColumnDefault("0")
     private Integer viewCount;
 
+    // 참여자 수를 매번 COUNT 하지 않도록 비정규화한 컬럼. 증감은 Repository의 조건부 UPDATE로만 한다.
+    // 게시글 수정 시 읽어온 값으로 덮어써서 그 사이의 참여 신청을 잃지 않도록 엔티티의 UPDATE에서는 제외한다.
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Integer participantCount;
+
     @Column(nullable = false)
     @ColumnDefault("true")
     private Boolean activated;
@@ -71,16 +88,13 @@ public class TeatimeBoard extends BaseTimeEntity {
                         LocalDateTime endDate, User user) {
         this.title = title;
         this.content = content;
+        this.plainContent = SearchTextUtil.stripHtml(content);
         this.broadcastDate = broadcastDate;
         this.maxParticipants = maxParticipants;
         this.endDate = endDate;
         this.user = user;
     }
 
-    public void addViewCount() {
-        this.viewCount++;
-    }
-
     public void deactivate() {
         this.activated = false;
     }
@@ -89,6 +103,7 @@ public class TeatimeBoard extends BaseTimeEntity {
                        LocalDateTime broadcastDate) {
         this.title = title;
         this.content = content;
+        this.plainContent = SearchTextUtil.stripHtml(content);
         this.maxParticipants = maxParticipants;
         this.endDate = endDate;
         this.broadcastDate = broadcastDate;
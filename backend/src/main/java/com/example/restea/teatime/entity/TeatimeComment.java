@@ -7,6 +7,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -24,7 +25,8 @@ import org.hibernate.annotations.DynamicInsert;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @DynamicInsert
-@Table(name = "teatime_comment")
+@Table(name = "teatime_comment", indexes = @Index(name = "idx_teatime_comment_board_created_date",
+        columnList = "teatime_board_id, createdDate, teatime_comment_id"))
 public class TeatimeComment extends BaseTimeEntity {
     @Id
     @GeneratedValue
@@ -2,54 +2,31 @@ package com.example.restea.teatime.repository;
 
 import com.example.restea.teatime.entity.TeatimeBoard;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface TeatimeBoardRepository extends JpaRepository<TeatimeBoard, Integer> {
 
-    // sort = latest
+    // 목록 조회와 검색은 TeatimeBoardSearchRepository에서 조건을 조합해서 처리한다.
     Long countByActivated(boolean b);
 
-    Page<TeatimeBoard> findAllByActivated(boolean b, Pageable pageable);
-
-    // sort = urgent
-    Long countByActivatedAndEndDateAfter(boolean b, Object o);
-
-    Page<TeatimeBoard> findAllByActivatedAndEndDateAfter(boolean b, LocalDateTime now, PageRequest endDate);
-
+    @EntityGraph(attributePaths = "user")
     Page<TeatimeBoard> findAllByActivatedAndUserId(boolean b, Integer userId, Pageable pageable);
 
+    // 상세 조회에서 작성자의 닉네임, 사진을 바로 쓰므로 함께 가져온다.
+    @EntityGraph(attributePaths = "user")
     Optional<TeatimeBoard> findByIdAndActivated(Integer id, boolean b);
 
-
-    // keyword search
-    Page<TeatimeBoard> findAllByTitleContainingAndActivatedAndEndDateAfter(String title, boolean activated,
-                                                                           LocalDateTime endDate,
-                                                                           PageRequest pageRequest);
-
-    Page<TeatimeBoard> findAllByUser_NicknameContainingAndActivatedAndEndDateAfter(String writerName, boolean activated,
-                                                                                   LocalDateTime endDate,
-                                                                                   PageRequest pageRequest);
-
-    Page<TeatimeBoard> findAllByContentContainingAndActivatedAndEndDateAfter(String content, boolean activated,
-                                                                             LocalDateTime endDate,
-                                                                             PageRequest pageRequest);
-
-    Page<TeatimeBoard> findAllByTitleContainingAndActivated(String title, boolean activated, PageRequest pageRequest);
-
-    Page<TeatimeBoard> findAllByUser_NicknameContainingAndActivated(String writerName, boolean activated,
-                                                                    PageRequest pageRequest);
-
-    Page<TeatimeBoard> findAllByContentContainingAndActivated(String content, boolean activated,
-                                                              PageRequest pageRequest);
-
     @Query(value = "select t from TeatimeBoard t "
             + "left join fetch TeatimeParticipant p on t.id = p.teatimeBoard.id "
             + "where t.activated = true and t.broadcastDate > :timeOffsetMinutes "
@@ -57,4 +34,45 @@ public interface TeatimeBoardRepository extends JpaRepository<TeatimeBoard, Inte
     Page<TeatimeBoard> findMyTeatimeList(@Param("userId") Integer userId,
                                          @Param("timeOffsetMinutes") LocalDateTime timeOffsetMinutes,
                                          Pageable pageable);
+
+    // 메모리에 모아둔 조회수를 같은 증가량끼리 묶어서 반영
+    @Modifying
+    @Transactional
+    @Query("UPDATE TeatimeBoard t SET t.viewCount = t.viewCount + :delta WHERE t.id IN :teatimeBoardIds")
+    int addViewCount(@Param("delta") int delta, @Param("teatimeBoardIds") List<Integer> teatimeBoardIds);
+
+    // 정원 확인과 증가를 하나의 UPDATE로 처리해서 동시에 참여 신청이 들어와도 정원을 넘지 않는다.
+    @Modifying
+    @Transactional
+    @Query("UPDATE TeatimeBoard t SET t.participantCount = t.participantCount + 1 "
+            + "WHERE t.id = :teatimeBoardId AND t.participantCount < t.maxParticipants")
+    int increaseParticipantCount(@Param("teatimeBoardId") Integer teatimeBoardId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE TeatimeBoard t SET t.participantCount = t.participantCount - 1 "
+            + "WHERE t.id = :teatimeBoardId AND t.participantCount > 0")
+    int decreaseParticipantCount(@Param("teatimeBoardId") Integer teatimeBoardId);
+
+    // 게시글 삭제로 참여기록을 모두 지웠을 때 호출
+    @Modifying
+    @Transactional
+    @Query("UPDATE TeatimeBoard t SET t.participantCount = 0 WHERE t.id = :teatimeBoardId")
+    int resetParticipantCount(@Param("teatimeBoardId") Integer teatimeBoardId);
+
+    // 탈퇴한 유저의 참여기록을 지우기 전에 호출
+    @Modifying
+    @Transactional
+    @Query("UPDATE TeatimeBoard t SET t.participantCount = t.participantCount - 1 "
+            + "WHERE t.participantCount > 0 AND t.id IN "
+            + "(SELECT tp.teatimeBoard.id FROM TeatimeParticipant tp WHERE tp.user.id = :userId)")
+    int decreaseParticipantCountByUserId(@Param("userId") Integer userId);
+
+    // 참여자 테이블을 기준으로 participant_count를 다시 맞춘다. (backfill 및 보정용)
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE teatime_board t SET t.participantCount = "
+            + "(SELECT COUNT(*) FROM teatime_participant tp WHERE tp.teatime_board_id = t.teatime_board_id)",
+            nativeQuery = true)
+    int reconcileParticipantCount();
 }
\ No newline at end of file
@@ -0,0 +1,155 @@
+package com.example.restea.teatime.repository;
+
+import static com.example.restea.teatime.enums.TeatimeBoardMessage.TEATIME_BOARD_INVALID_SORT;
+
+import com.example.restea.common.dto.Cursor;
+import com.example.restea.search.dto.BoardSearchCondition;
+import com.example.restea.search.repository.BoardSearchPaths;
+import com.example.restea.search.repository.BoardSearchPredicates;
+import com.example.restea.search.repository.FullTextExpressions;
+import com.example.restea.teatime.entity.QTeatimeBoard;
+import com.example.restea.teatime.entity.TeatimeBoard;
+import com.example.restea.user.entity.QUser;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TeatimeBoardSearchRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    QTeatimeBoard teatimeBoard = QTeatimeBoard.teatimeBoard;
+    QUser user = QUser.user;
+
+    // 목록 조회는 작성자를 fetch join 하므로 닉네임 검색도 같은 join을 쓴다.
+    BoardSearchPaths fetchJoinPaths = new BoardSearchPaths(teatimeBoard.activated, teatimeBoard.createdDate,
+            teatimeBoard.endDate, teatimeBoard.title, teatimeBoard.plainContent, user.nickname);
+
+    // 개수 조회는 작성자 검색일 때만 users를 join 한다.
+    BoardSearchPaths countPaths = new BoardSearchPaths(teatimeBoard.activated, teatimeBoard.createdDate,
+            teatimeBoard.endDate, teatimeBoard.title, teatimeBoard.plainContent, teatimeBoard.user.nickname);
+
+    /**
+     * 검색 조건에 맞는 티타임 게시글을 작성자와 함께 한 번에 가져오는 메소드
+     *
+     * @param condition 검색 조건
+     * @param page      페이지
+     * @param perPage   페이지 당 항목 수
+     * @return TeatimeBoard의 List
+     */
+    public List<TeatimeBoard> findAllBySearchCondition(BoardSearchCondition condition, Integer page,
+                                                       Integer perPage) {
+        return selectWithWriter()
+                .where(BoardSearchPredicates.where(condition, fetchJoinPaths))
+                .orderBy(getOrderSpecifiers(condition.getSort()))
+                .offset((long) (page - 1) * perPage)
+                .limit(perPage)
+                .fetch();
+    }
+
+    /**
+     * 검색 조건에 맞는 티타임 게시글의 전체 개수를 세는 메소드. 정렬, fetch join 없이 센다.
+     *
+     * @param condition 검색 조건
+     * @return 전체 개수
+     */
+    public long countBySearchCondition(BoardSearchCondition condition) {
+        Long totalCount = queryFactory
+                .select(teatimeBoard.count())
+                .from(teatimeBoard)
+                .where(BoardSearchPredicates.where(condition, countPaths))
+                .fetchOne();
+
+        if (totalCount == null) {
+            return 0;
+        }
+        return totalCount;
+    }
+
+    /**
+     * 커서 다음의 티타임 게시글을 가져오는 메소드. latest는 (createdDate, id) 내림차순, urgent는 (endDate, id) 오름차순
+     *
+     * @param condition 검색 조건
+     * @param cursor    마지막으로 조회한 게시글의 커서 (null이면 처음부터)
+     * @param limit     가져올 개수
+     * @return TeatimeBoard의 List
+     */
+    public List<TeatimeBoard> findAllByCursor(BoardSearchCondition condition, Cursor cursor, int limit) {
+        return selectWithWriter()
+                .where(BoardSearchPredicates.where(condition, fetchJoinPaths),
+                        createCursorCondition(condition.getSort(), cursor))
+                .orderBy(getOrderSpecifiers(condition.getSort()))
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 관련도가 높은 순으로 티타임 게시글을 검색하는 메소드. 관련도가 같으면 최신 글이 먼저 온다.
+     *
+     * @param condition 검색 조건 (searchBy: title, content, all, writer)
+     * @param page      페이지
+     * @param perPage   페이지 당 항목 수
+     * @return TeatimeBoard의 List
+     */
+    public List<TeatimeBoard> findAllByRelevance(BoardSearchCondition condition, Integer page, Integer perPage) {
+        return selectWithWriter()
+                .where(BoardSearchPredicates.where(condition, fetchJoinPaths))
+                .orderBy(getRelevanceOrderSpecifiers(condition))
+                .offset((long) (page - 1) * perPage)
+                .limit(perPage)
+                .fetch();
+    }
+
+    private JPAQuery<TeatimeBoard> selectWithWriter() {
+        return queryFactory
+                .selectFrom(teatimeBoard)
+                .join(teatimeBoard.user, user).fetchJoin();
+    }
+
+    private OrderSpecifier<?>[] getRelevanceOrderSpecifiers(BoardSearchCondition condition) {
+        NumberExpression<Double> score = FullTextExpressions.searchScore(condition.getSearchBy(),
+                condition.getKeyword(), teatimeBoard.title, teatimeBoard.plainContent);
+        if (score == null) {
+            return new OrderSpecifier<?>[]{teatimeBoard.id.desc()};
+        }
+        return new OrderSpecifier<?>[]{score.desc(), teatimeBoard.id.desc()};
+    }
+
+    private BooleanExpression createCursorCondition(String sort, Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        if (isUrgentSort(sort)) {
+            return teatimeBoard.endDate.gt(cursor.getDateTime())
+                    .or(teatimeBoard.endDate.eq(cursor.getDateTime()).and(teatimeBoard.id.gt(cursor.getId())));
+        }
+        return teatimeBoard.createdDate.lt(cursor.getDateTime())
+                .or(teatimeBoard.createdDate.eq(cursor.getDateTime()).and(teatimeBoard.id.lt(cursor.getId())));
+    }
+
+    // 같은 시각의 글이 여러 개여도 순서(와 커서)가 하나로 정해지도록 id를 보조 정렬 기준으로 둔다.
+    private OrderSpecifier<?>[] getOrderSpecifiers(String sort) {
+        return switch (sort) {
+            case "latest" -> new OrderSpecifier<?>[]{teatimeBoard.createdDate.desc(), teatimeBoard.id.desc()};
+            case "urgent" -> new OrderSpecifier<?>[]{teatimeBoard.endDate.asc(), teatimeBoard.id.asc()};
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    TEATIME_BOARD_INVALID_SORT.getMessage());
+        };
+    }
+
+    private boolean isUrgentSort(String sort) {
+        return "urgent".equals(sort);
+    }
+}
@@ -2,14 +2,43 @@ package com.example.restea.teatime.repository;
 
 import com.example.restea.teatime.entity.TeatimeBoard;
 import com.example.restea.teatime.entity.TeatimeComment;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TeatimeCommentRepository extends JpaRepository<TeatimeComment, Integer> {
+    // 댓글 목록은 작성자 닉네임을 함께 내려주므로 작성자를 같이 가져온다.
+    @EntityGraph(attributePaths = "user")
     Page<TeatimeComment> findAllByTeatimeBoard(TeatimeBoard teatimeBoard, Pageable pageable);
 
     Long countAllByTeatimeBoard(TeatimeBoard teatimeBoard);
+
+    // 게시글의 댓글 컬렉션을 모두 불러오지 않고 id로 바로 찾는다.
+    Optional<TeatimeComment> findByIdAndTeatimeBoard(Integer teatimeCommentId, TeatimeBoard teatimeBoard);
+
+    Optional<TeatimeComment> findByIdAndTeatimeBoardAndActivated(Integer teatimeCommentId, TeatimeBoard teatimeBoard,
+                                                                 boolean b);
+
+    // 커서 방식의 첫 페이지
+    @EntityGraph(attributePaths = "user")
+    List<TeatimeComment> findAllByTeatimeBoardOrderByCreatedDateAscIdAsc(TeatimeBoard teatimeBoard,
+                                                                          Pageable pageable);
+
+    // 커서 방식의 다음 페이지 : (createdDate, id)가 커서보다 뒤인 댓글
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT c FROM TeatimeComment c WHERE c.teatimeBoard = :teatimeBoard "
+            + "AND (c.createdDate > :createdDate OR (c.createdDate = :createdDate AND c.id > :id)) "
+            + "ORDER BY c.createdDate ASC, c.id ASC")
+    List<TeatimeComment> findAllByTeatimeBoardAfterCursor(@Param("teatimeBoard") TeatimeBoard teatimeBoard,
+                                                          @Param("createdDate") LocalDateTime createdDate,
+                                                          @Param("id") Integer id,
+                                                          Pageable pageable);
 }
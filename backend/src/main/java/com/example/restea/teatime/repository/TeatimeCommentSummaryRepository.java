@@ -0,0 +1,50 @@
+package com.example.restea.teatime.repository;
+
+import com.example.restea.teatime.entity.TeatimeComment;
+import com.example.restea.teatime.entity.QTeatimeReply;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TeatimeCommentSummaryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    QTeatimeReply teatimeReply = QTeatimeReply.teatimeReply;
+
+    /**
+     * 한 페이지 분량의 댓글에 대해 답글 수를 하나의 GROUP BY 쿼리로 조회하는 메소드. 답글이 없는 댓글은 Map에 포함되지 않는다.
+     *
+     * @param teatimeComments 페이지에 포함된 댓글
+     * @return teatimeCommentId를 key로, 답글 수를 value로 가지는 Map
+     */
+    public Map<Integer, Integer> findReplyCountsByComments(List<TeatimeComment> teatimeComments) {
+        if (teatimeComments.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Integer> teatimeCommentIds = teatimeComments.stream()
+                .map(TeatimeComment::getId)
+                .toList();
+
+        NumberExpression<Long> replyCount = teatimeReply.count();
+        return queryFactory
+                .select(teatimeReply.teatimeComment.id, replyCount)
+                .from(teatimeReply)
+                .where(teatimeReply.teatimeComment.id.in(teatimeCommentIds))
+                .groupBy(teatimeReply.teatimeComment.id)
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(
+                        tuple -> tuple.get(teatimeReply.teatimeComment.id),
+                        tuple -> tuple.get(replyCount).intValue()));
+    }
+}
@@ -27,4 +27,8 @@ public interface TeatimeParticipantRepository extends JpaRepository<TeatimeParti
     Optional<TeatimeParticipant> findByTeatimeBoardAndUser(TeatimeBoard teatimeBoard, User user);
 
     List<TeatimeParticipant> findByTeatimeBoard(TeatimeBoard teatimeBoard);
+
+    // 참가자 엔티티를 만들지 않고 참가한 유저의 id만 조회
+    @Query("SELECT tp.user.id FROM TeatimeParticipant tp WHERE tp.teatimeBoard.id = :teatimeBoardId")
+    List<Integer> findUserIdsByTeatimeBoardId(@Param("teatimeBoardId") Integer teatimeBoardId);
 }
@@ -2,15 +2,21 @@ package com.example.restea.teatime.repository;
 
 import com.example.restea.teatime.entity.TeatimeComment;
 import com.example.restea.teatime.entity.TeatimeReply;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TeatimeReplyRepository extends JpaRepository<TeatimeReply, Integer> {
 
-    Long countByTeatimeComment(TeatimeComment teatimeComment);
-
+    // 답글 목록은 작성자 닉네임을 함께 내려주므로 작성자를 같이 가져온다.
+    @EntityGraph(attributePaths = "user")
     Page<TeatimeReply> findAllByTeatimeComment(TeatimeComment teatimeComment, Pageable pageable);
+
+    // 댓글의 답글 컬렉션을 모두 불러오지 않고 id로 바로 찾는다.
+    Optional<TeatimeReply> findByIdAndTeatimeCommentAndActivated(Integer teatimeReplyId, TeatimeComment teatimeComment,
+                                                                 boolean b);
 }
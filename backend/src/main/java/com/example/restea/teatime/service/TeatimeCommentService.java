@@ -6,6 +6,7 @@ import static com.example.restea.teatime.util.TeatimeUtil.getActivatedTeatimeBoa
 import static com.example.restea.teatime.util.TeatimeUtil.getActivatedTeatimeComment;
 import static com.example.restea.teatime.util.TeatimeUtil.getActivatedUser;
 
+import com.example.restea.common.dto.Cursor;
 import com.example.restea.common.dto.PaginationDTO;
 import com.example.restea.common.dto.ResponseDTO;
 import com.example.restea.teatime.dto.TeatimeCommentCreationResponse;
@@ -15,12 +16,13 @@ import com.example.restea.teatime.entity.TeatimeBoard;
 import com.example.restea.teatime.entity.TeatimeComment;
 import com.example.restea.teatime.repository.TeatimeBoardRepository;
 import com.example.restea.teatime.repository.TeatimeCommentRepository;
-import com.example.restea.teatime.repository.TeatimeReplyRepository;
+import com.example.restea.teatime.repository.TeatimeCommentSummaryRepository;
 import com.example.restea.user.entity.User;
-import com.example.restea.user.repository.UserRepository;
+import com.example.restea.user.service.ActivatedUserResolver;
 import jakarta.transaction.Transactional;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -32,16 +34,20 @@ import org.springframework.web.server.ResponseStatusException;
 @RequiredArgsConstructor
 @Service
 public class TeatimeCommentService {
-    private final UserRepository userRepository;
+    private final ActivatedUserResolver activatedUserResolver;
     private final TeatimeBoardRepository teatimeBoardRepository;
     private final TeatimeCommentRepository teatimeCommentRepository;
-    private final TeatimeReplyRepository teatimeReplyRepository;
+    private final TeatimeCommentSummaryRepository teatimeCommentSummaryRepository;
 
     public ResponseDTO<List<TeatimeCommentViewResponse>> getTeatimeCommentList(Integer teatimeBoardId, Integer page,
-                                                                               Integer perPage) {
+                                                                               Integer perPage, String cursor) {
 
         TeatimeBoard activatedTeatimeBoard = getActivatedTeatimeBoard(teatimeBoardRepository, teatimeBoardId);
 
+        if (cursor != null) {
+            return getTeatimeCommentListByCursor(activatedTeatimeBoard, perPage, cursor);
+        }
+
         Page<TeatimeComment> teatimeComments = getTeatimeComments(activatedTeatimeBoard, page, perPage);
         List<TeatimeCommentViewResponse> data = createResponseFromTeatimeComments(teatimeComments.getContent());
 
@@ -50,10 +56,22 @@ public class TeatimeCommentService {
         return ResponseDTO.of(data, pagination);
     }
 
+    private ResponseDTO<List<TeatimeCommentViewResponse>> getTeatimeCommentListByCursor(TeatimeBoard teatimeBoard,
+                                                                                        Integer perPage,
+                                                                                        String cursor) {
+        // 다음 페이지가 있는지 알기 위해 하나 더 조회
+        List<TeatimeComment> fetched = getTeatimeCommentsAfter(teatimeBoard, Cursor.decode(cursor), perPage + 1);
+        List<TeatimeCommentViewResponse> data = createResponseFromTeatimeComments(Cursor.content(fetched, perPage));
+
+        String nextCursor = Cursor.next(fetched, perPage,
+                teatimeComment -> Cursor.of(teatimeComment.getCreatedDate(), teatimeComment.getId()));
+        return ResponseDTO.of(data, PaginationDTO.ofCursor(perPage, nextCursor));
+    }
+
     @Transactional
     public TeatimeCommentCreationResponse createTeatimeComment(String content, Integer teatimeBoardId, Integer userId) {
 
-        User activatedUser = getActivatedUser(userRepository, userId);
+        User activatedUser = getActivatedUser(activatedUserResolver, userId);
         TeatimeBoard activatedTeatimeBoard = getActivatedTeatimeBoard(teatimeBoardRepository, teatimeBoardId);
 
         checkActivatedTeatimeBoardWriter(activatedTeatimeBoard);
@@ -73,9 +91,10 @@ public class TeatimeCommentService {
     public TeatimeCommentDeleteResponse deactivateTeatimeComment(Integer teatimeBoardId, Integer teatimeCommentId,
                                                                  Integer userId) {
 
-        User activatedUser = getActivatedUser(userRepository, userId);
+        User activatedUser = getActivatedUser(activatedUserResolver, userId);
         TeatimeBoard teatimeBoard = getActivatedTeatimeBoard(teatimeBoardRepository, teatimeBoardId);
-        TeatimeComment teatimeComment = getActivatedTeatimeComment(teatimeCommentId, teatimeBoard);
+        TeatimeComment teatimeComment = getActivatedTeatimeComment(teatimeCommentRepository, teatimeCommentId,
+                teatimeBoard);
 
         checkWriter(teatimeComment, activatedUser);
 
@@ -89,10 +108,23 @@ public class TeatimeCommentService {
         return teatimeCommentRepository.findAllByTeatimeBoard(teatimeBoard, PageRequest.of(page - 1, perPage));
     }
 
+    private List<TeatimeComment> getTeatimeCommentsAfter(TeatimeBoard teatimeBoard, Cursor cursor, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        if (cursor == null) {
+            return teatimeCommentRepository.findAllByTeatimeBoardOrderByCreatedDateAscIdAsc(teatimeBoard, pageRequest);
+        }
+        return teatimeCommentRepository.findAllByTeatimeBoardAfterCursor(teatimeBoard, cursor.getDateTime(),
+                cursor.getId(), pageRequest);
+    }
+
     private List<TeatimeCommentViewResponse> createResponseFromTeatimeComments(List<TeatimeComment> teatimeComments) {
+        // 답글 수는 댓글마다 세지 않고 페이지 단위로 한 번에 센다.
+        Map<Integer, Integer> replyCounts = teatimeCommentSummaryRepository.findReplyCountsByComments(
+                teatimeComments);
+
         List<TeatimeCommentViewResponse> data = new ArrayList<>();
         for (TeatimeComment teatimeComment : teatimeComments) {
-            Integer replyCount = teatimeReplyRepository.countByTeatimeComment(teatimeComment).intValue();
+            Integer replyCount = replyCounts.getOrDefault(teatimeComment.getId(), 0);
             data.add(TeatimeCommentViewResponse.of(teatimeComment, replyCount));
         }
         return data;
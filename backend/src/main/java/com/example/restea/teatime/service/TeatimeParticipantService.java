@@ -10,6 +10,7 @@ import static com.example.restea.teatime.enums.TeatimeParticipantMessage.TEATIME
 import static com.example.restea.teatime.util.TeatimeUtil.getActivatedTeatimeBoard;
 import static com.example.restea.teatime.util.TeatimeUtil.getActivatedUser;
 
+import com.example.restea.live.service.LiveStatusCache;
 import com.example.restea.teatime.dto.TeatimeCancelResponse;
 import com.example.restea.teatime.dto.TeatimeJoinCheckResponse;
 import com.example.restea.teatime.dto.TeatimeJoinListResponse;
@@ -20,7 +21,7 @@ import com.example.restea.teatime.entity.TeatimeParticipant;
 import com.example.restea.teatime.repository.TeatimeBoardRepository;
 import com.example.restea.teatime.repository.TeatimeParticipantRepository;
 import com.example.restea.user.entity.User;
-import com.example.restea.user.repository.UserRepository;
+import com.example.restea.user.service.ActivatedUserResolver;
 import com.example.restea.user.service.UserService;
 import jakarta.transaction.Transactional;
 import java.time.LocalDateTime;
@@ -37,16 +38,18 @@ public class TeatimeParticipantService {
 
     private final TeatimeParticipantRepository teatimeParticipantRepository;
     private final TeatimeBoardRepository teatimeBoardRepository;
-    private final UserRepository userRepository;
+    private final ActivatedUserResolver activatedUserResolver;
     private final UserService userService;
+    private final LiveStatusCache liveStatusCache;
 
     @Transactional
     public TeatimeJoinResponse addParticipant(Integer teatimeBoardId, TeatimeJoinRequest request, Integer userId) {
 
-        User activatedUser = getActivatedUser(userRepository, userId);
+        User activatedUser = getActivatedUser(activatedUserResolver, userId);
         TeatimeBoard activatedTeatimeBoard = getActivatedTeatimeBoard(teatimeBoardRepository, teatimeBoardId);
 
         validateParticipationRequest(activatedTeatimeBoard, activatedUser);
+        increaseParticipantCount(activatedTeatimeBoard);
 
         TeatimeParticipant teatimeParticipant = TeatimeParticipant.builder()
                 .name(request.getName())
@@ -57,6 +60,7 @@ public class TeatimeParticipantService {
                 .build();
 
         teatimeParticipantRepository.save(teatimeParticipant);
+        liveStatusCache.evictMembers(teatimeBoardId);
 
         return TeatimeJoinResponse.of(teatimeParticipant);
     }
@@ -76,6 +80,8 @@ public class TeatimeParticipantService {
                         TEATIME_PARTICIPANT_NOT_FOUND.getMessage()));
 
         teatimeParticipantRepository.delete(participant);
+        liveStatusCache.evictMembers(teatimeBoardId);
+        teatimeBoardRepository.decreaseParticipantCount(teatimeBoardId);
 
         return TeatimeCancelResponse.of(teatimeBoardId, userId);
     }
@@ -101,7 +107,7 @@ public class TeatimeParticipantService {
     @Transactional
     public List<TeatimeJoinListResponse> getParticipants(Integer teatimeBoardId, Integer userId) {
 
-        User activatedUser = getActivatedUser(userRepository, userId);
+        User activatedUser = getActivatedUser(activatedUserResolver, userId);
         TeatimeBoard activatedTeatimeBoard = getActivatedTeatimeBoard(teatimeBoardRepository, teatimeBoardId);
 
         if (!Objects.equals(activatedTeatimeBoard.getUser(), activatedUser)) {
@@ -125,15 +131,18 @@ public class TeatimeParticipantService {
 
         validateEndDate(activatedTeatimeBoard.getEndDate());
 
-        if (activatedTeatimeBoard.getTeatimeParticipants().size() >= activatedTeatimeBoard.getMaxParticipants()) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, TEATIME_PARTICIPANT_FULL.getMessage());
-        }
-
         if (teatimeParticipantRepository.existsByTeatimeBoardAndUser(activatedTeatimeBoard, activatedUser)) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, TEATIME_PARTICIPANT_ALREADY_EXISTS.getMessage());
         }
     }
 
+    // 정원 확인과 참여자 수 증가를 하나의 조건부 UPDATE로 처리 (갱신된 행이 없으면 정원 초과)
+    private void increaseParticipantCount(TeatimeBoard activatedTeatimeBoard) {
+        if (teatimeBoardRepository.increaseParticipantCount(activatedTeatimeBoard.getId()) == 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, TEATIME_PARTICIPANT_FULL.getMessage());
+        }
+    }
+
     private void validateCancelRequest(TeatimeBoard activatedTeatimeBoard, User activatedUser) {
         if (Objects.equals(activatedTeatimeBoard.getUser().getId(), activatedUser.getId())) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, TEATIME_BOARD_WRITER.getMessage());
@@ -1,12 +1,12 @@
 package com.example.restea.teatime.service;
 
 import static com.example.restea.teatime.enums.TeatimeBoardMessage.TEATIME_BOARD_USER_NOT_ACTIVATED;
-import static com.example.restea.teatime.enums.TeatimeCommentMessage.TEATIME_COMMENT_NOT_FOUND;
-import static com.example.restea.teatime.enums.TeatimeReplyMessage.TEATIME_REPLY_NOT_FOUND;
 import static com.example.restea.teatime.enums.TeatimeReplyMessage.TEATIME_REPLY_NOT_WRITER;
 import static com.example.restea.teatime.util.TeatimeUtil.getActivatedTeatimeBoard;
 import static com.example.restea.teatime.util.TeatimeUtil.getActivatedTeatimeComment;
+import static com.example.restea.teatime.util.TeatimeUtil.getActivatedTeatimeReply;
 import static com.example.restea.teatime.util.TeatimeUtil.getActivatedUser;
+import static com.example.restea.teatime.util.TeatimeUtil.getTeatimeComment;
 
 import com.example.restea.common.dto.PaginationDTO;
 import com.example.restea.common.dto.ResponseDTO;
@@ -17,9 +17,10 @@ import com.example.restea.teatime.entity.TeatimeBoard;
 import com.example.restea.teatime.entity.TeatimeComment;
 import com.example.restea.teatime.entity.TeatimeReply;
 import com.example.restea.teatime.repository.TeatimeBoardRepository;
+import com.example.restea.teatime.repository.TeatimeCommentRepository;
 import com.example.restea.teatime.repository.TeatimeReplyRepository;
 import com.example.restea.user.entity.User;
-import com.example.restea.user.repository.UserRepository;
+import com.example.restea.user.service.ActivatedUserResolver;
 import jakarta.transaction.Transactional;
 import java.util.ArrayList;
 import java.util.List;
@@ -35,15 +36,17 @@ import org.springframework.web.server.ResponseStatusException;
 @Service
 public class TeatimeReplyService {
 
-    private final UserRepository userRepository;
+    private final ActivatedUserResolver activatedUserResolver;
     private final TeatimeReplyRepository teatimeReplyRepository;
     private final TeatimeBoardRepository teatimeBoardRepository;
+    private final TeatimeCommentRepository teatimeCommentRepository;
 
     public ResponseDTO<List<TeatimeReplyViewResponse>> getTeatimeReplyList(
             Integer teatimeBoardId, Integer teatimeCommentId, Integer page, Integer perPage) {
 
         TeatimeBoard activatedTeatimeBoard = getActivatedTeatimeBoard(teatimeBoardRepository, teatimeBoardId);
-        TeatimeComment teatimeComment = getTeatimeComment(teatimeCommentId, activatedTeatimeBoard);
+        TeatimeComment teatimeComment = getTeatimeComment(teatimeCommentRepository, teatimeCommentId,
+                activatedTeatimeBoard);
 
         Page<TeatimeReply> teatimeReplies = getTeatimeReplies(teatimeComment, page, perPage);
         List<TeatimeReplyViewResponse> data = createResponseFromTeatimeReplies(teatimeReplies.getContent());
@@ -57,11 +60,12 @@ public class TeatimeReplyService {
     public TeatimeReplyCreationResponse createTeatimeReply(Integer teatimeBoardId, Integer teatimeCommentId,
                                                            String content, Integer userId) {
 
-        User activatedUser = getActivatedUser(userRepository, userId);
+        User activatedUser = getActivatedUser(activatedUserResolver, userId);
         TeatimeBoard activatedTeatimeBoard = getActivatedTeatimeBoard(teatimeBoardRepository, teatimeBoardId);
         checkActivatedTeatimeBoardWriter(activatedTeatimeBoard);
 
-        TeatimeComment activatedTeatimeComment = getActivatedTeatimeComment(teatimeCommentId, activatedTeatimeBoard);
+        TeatimeComment activatedTeatimeComment = getActivatedTeatimeComment(teatimeCommentRepository,
+                teatimeCommentId, activatedTeatimeBoard);
 
         TeatimeReply teatimeReply = TeatimeReply.builder()
                 .content(content)
@@ -78,11 +82,13 @@ public class TeatimeReplyService {
     public TeatimeReplyDeleteResponse deactivateTeatimeReply(Integer teatimeBoardId, Integer teatimeCommentId,
                                                              Integer teatimeReplyId, Integer userId) {
 
-        User activatedUser = getActivatedUser(userRepository, userId);
+        User activatedUser = getActivatedUser(activatedUserResolver, userId);
         TeatimeBoard activatedTeatimeBoard = getActivatedTeatimeBoard(teatimeBoardRepository, teatimeBoardId);
-        TeatimeComment teatimeComment = getTeatimeComment(teatimeCommentId, activatedTeatimeBoard);
+        TeatimeComment teatimeComment = getTeatimeComment(teatimeCommentRepository, teatimeCommentId,
+                activatedTeatimeBoard);
 
-        TeatimeReply activatedTeatimeReply = getActivatedTeatimeReply(teatimeReplyId, teatimeComment);
+        TeatimeReply activatedTeatimeReply = getActivatedTeatimeReply(teatimeReplyRepository, teatimeReplyId,
+                teatimeComment);
         checkWriter(activatedTeatimeReply, activatedUser);
 
         activatedTeatimeReply.deactivate();
@@ -90,14 +96,6 @@ public class TeatimeReplyService {
         return TeatimeReplyDeleteResponse.from(activatedTeatimeReply);
     }
 
-    public TeatimeComment getTeatimeComment(Integer teatimeCommentId, TeatimeBoard activatedTeatimeBoard) {
-        return activatedTeatimeBoard.getTeatimeComments().stream()
-                .filter(comment -> Objects.equals(comment.getId(), teatimeCommentId))
-                .findFirst()
-                .orElseThrow(() -> new ResponseStatusException(
-                        HttpStatus.NOT_FOUND, TEATIME_COMMENT_NOT_FOUND.getMessage()));
-    }
-
     private Page<TeatimeReply> getTeatimeReplies(TeatimeComment teatimeComment, Integer page, Integer perPage) {
         return teatimeReplyRepository.findAllByTeatimeComment(teatimeComment, PageRequest.of(page - 1, perPage));
     }
@@ -117,15 +115,6 @@ public class TeatimeReplyService {
         throw new ResponseStatusException(HttpStatus.BAD_REQUEST, TEATIME_BOARD_USER_NOT_ACTIVATED.getMessage());
     }
 
-    public static TeatimeReply getActivatedTeatimeReply(Integer teatimeReplyId, TeatimeComment teatimeComment) {
-        return teatimeComment.getTeatimeReplies().stream()
-                .filter(reply -> Objects.equals(reply.getId(), teatimeReplyId))
-                .filter(TeatimeReply::getActivated)
-                .findFirst()
-                .orElseThrow(
-                        () -> new ResponseStatusException(HttpStatus.NOT_FOUND, TEATIME_REPLY_NOT_FOUND.getMessage()));
-    }
-
     private void checkWriter(TeatimeReply teatimeReply, User activatedUser) {
         if (!Objects.equals(teatimeReply.getUser(), activatedUser)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, TEATIME_REPLY_NOT_WRITER.getMessage());
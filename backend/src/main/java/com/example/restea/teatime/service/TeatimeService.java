@@ -7,8 +7,13 @@ import static com.example.restea.teatime.enums.TeatimeBoardMessage.TEATIME_BOARD
 import static com.example.restea.teatime.util.TeatimeUtil.getActivatedTeatimeBoard;
 import static com.example.restea.teatime.util.TeatimeUtil.getActivatedUser;
 
+import com.example.restea.common.dto.Cursor;
 import com.example.restea.common.dto.PaginationDTO;
 import com.example.restea.common.dto.ResponseDTO;
+import com.example.restea.common.viewcount.BoardType;
+import com.example.restea.common.viewcount.ViewCountService;
+import com.example.restea.live.service.LiveStatusCache;
+import com.example.restea.search.dto.BoardSearchCondition;
 import com.example.restea.teatime.dto.TeatimeCreationRequest;
 import com.example.restea.teatime.dto.TeatimeCreationResponse;
 import com.example.restea.teatime.dto.TeatimeDeleteResponse;
@@ -20,20 +25,17 @@ import com.example.restea.teatime.entity.TeatimeBoard;
 import com.example.restea.teatime.entity.TeatimeComment;
 import com.example.restea.teatime.entity.TeatimeReply;
 import com.example.restea.teatime.repository.TeatimeBoardRepository;
+import com.example.restea.teatime.repository.TeatimeBoardSearchRepository;
 import com.example.restea.teatime.repository.TeatimeParticipantRepository;
 import com.example.restea.user.entity.User;
-import com.example.restea.user.repository.UserRepository;
-import jakarta.transaction.Transactional;
-import java.time.LocalDateTime;
+import com.example.restea.user.service.ActivatedUserResolver;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 @RequiredArgsConstructor
@@ -41,41 +43,76 @@ import org.springframework.web.server.ResponseStatusException;
 public class TeatimeService {
 
     private final TeatimeBoardRepository teatimeBoardRepository;
-    private final UserRepository userRepository;
+    private final TeatimeBoardSearchRepository teatimeBoardSearchRepository;
+    private final ActivatedUserResolver activatedUserResolver;
     private final TeatimeParticipantRepository teatimeParticipantRepository;
+    private final ViewCountService viewCountService;
+    private final LiveStatusCache liveStatusCache;
 
     @Transactional
-    public ResponseDTO<List<TeatimeListResponse>> getTeatimeBoardList(String sort, Integer page, Integer perPage,
-                                                                      String searchBy, String keyword) {
+    public ResponseDTO<List<TeatimeListResponse>> getTeatimeBoardList(BoardSearchCondition condition, Integer page,
+                                                                      Integer perPage, String cursor) {
 
-        Page<TeatimeBoard> teatimeBoards = getActivatedTeatimeBoards(sort, page, perPage, searchBy, keyword);
-        List<TeatimeListResponse> data = createResponseFormTeatimeBoards(teatimeBoards.getContent());
+        checkSort(condition.getSort());
+        checkSearchBy(condition);
 
-        PaginationDTO pagination = PaginationDTO.of((int) teatimeBoards.getTotalElements(), page, perPage);
+        if (cursor != null) {
+            return getTeatimeBoardListByCursor(condition, perPage, cursor);
+        }
+
+        // 작성자까지 한 번에 가져오고, 전체 개수는 정렬, fetch join 없는 COUNT로 따로 센다.
+        List<TeatimeBoard> teatimeBoards = teatimeBoardSearchRepository.findAllBySearchCondition(condition, page,
+                perPage);
+        List<TeatimeListResponse> data = createResponseFormTeatimeBoards(teatimeBoards);
+        long totalElements = teatimeBoardSearchRepository.countBySearchCondition(condition);
+
+        PaginationDTO pagination = PaginationDTO.of((int) totalElements, page, perPage);
 
         return ResponseDTO.of(data, pagination);
     }
 
+    private ResponseDTO<List<TeatimeListResponse>> getTeatimeBoardListByCursor(BoardSearchCondition condition,
+                                                                              Integer perPage, String cursor) {
+
+        // 다음 페이지가 있는지 알기 위해 하나 더 조회
+        List<TeatimeBoard> fetched = teatimeBoardSearchRepository.findAllByCursor(condition, Cursor.decode(cursor),
+                perPage + 1);
+        List<TeatimeListResponse> data = createResponseFormTeatimeBoards(Cursor.content(fetched, perPage));
+
+        String nextCursor = Cursor.next(fetched, perPage,
+                teatimeBoard -> toCursor(condition.getSort(), teatimeBoard));
+        return ResponseDTO.of(data, PaginationDTO.ofCursor(perPage, nextCursor));
+    }
+
+    private Cursor toCursor(String sort, TeatimeBoard teatimeBoard) {
+        if (isUrgentSort(sort)) {
+            return Cursor.of(teatimeBoard.getEndDate(), teatimeBoard.getId());
+        }
+        return Cursor.of(teatimeBoard.getCreatedDate(), teatimeBoard.getId());
+    }
+
     @Transactional
     public TeatimeCreationResponse createTeatimeBoard(TeatimeCreationRequest request, Integer userId) {
 
-        User activatedUser = getActivatedUser(userRepository, userId);
+        User activatedUser = getActivatedUser(activatedUserResolver, userId);
         TeatimeBoard result = teatimeBoardRepository.save(request.toEntity(activatedUser));
 
         return TeatimeCreationResponse.of(result);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public TeatimeViewResponse getTeatimeBoard(Integer teatimeBoardId) {
 
         TeatimeBoard teatimeBoard = getOnlyTeatimeBoard(teatimeBoardId);
-        Integer participants = teatimeParticipantRepository.countByTeatimeBoard(teatimeBoard).intValue();
+        Integer participants = teatimeBoard.getParticipantCount();
 
-        teatimeBoard.addViewCount();
+        // 조회수는 메모리에 모았다가 주기적으로 반영 (아직 반영되지 않은 조회수를 더해서 응답)
+        long pendingViewCount = viewCountService.increase(BoardType.TEATIME, teatimeBoardId);
+        Integer viewCount = (int) (teatimeBoard.getViewCount() + pendingViewCount);
 
         String picture = teatimeBoard.getUser().getPicture(); // 프로필 사진 가져오기
 
-        return TeatimeViewResponse.of(teatimeBoard, participants, picture);
+        return TeatimeViewResponse.of(teatimeBoard, participants, viewCount, picture);
     }
 
     public TeatimeBoard getOnlyTeatimeBoard(Integer teatimeBoardId) {
@@ -86,12 +123,12 @@ public class TeatimeService {
     public TeatimeUpdateResponse updateTeatimeBoard(Integer teatimeBoardId, TeatimeUpdateRequest request,
                                                     Integer userId) {
 
-        User activatedUser = getActivatedUser(userRepository, userId);
+        User activatedUser = getActivatedUser(activatedUserResolver, userId);
         TeatimeBoard activatedTeatimeBoard = getOnlyTeatimeBoard(teatimeBoardId);
 
         checkWriter(activatedTeatimeBoard, userId);
 
-        Integer participants = teatimeParticipantRepository.countByTeatimeBoard(activatedTeatimeBoard).intValue();
+        Integer participants = activatedTeatimeBoard.getParticipantCount();
         checkLessThanCurrentParticipants(request, participants);
 
         activatedTeatimeBoard.update(request.getTitle(), request.getContent(), request.getMaxParticipants(),
@@ -103,7 +140,7 @@ public class TeatimeService {
     @Transactional
     public TeatimeDeleteResponse deactivateTeatimeBoard(Integer teatimeBoardId, Integer userId) {
 
-        User user = getActivatedUser(userRepository, userId);
+        User user = getActivatedUser(activatedUserResolver, userId);
         TeatimeBoard activatedTeatimeBoard = getOnlyTeatimeBoard(teatimeBoardId);
 
         checkWriter(activatedTeatimeBoard, userId);
@@ -112,83 +149,35 @@ public class TeatimeService {
         activatedTeatimeBoard.deactivate();
 
         teatimeParticipantRepository.deleteAll(activatedTeatimeBoard.getTeatimeParticipants());
+        teatimeBoardRepository.resetParticipantCount(teatimeBoardId);
+        liveStatusCache.evictMembers(teatimeBoardId);
+        liveStatusCache.evictLive(teatimeBoardId);
 
         return TeatimeDeleteResponse.from(teatimeBoardId);
     }
 
-    private Page<TeatimeBoard> getActivatedTeatimeBoards(String sort, Integer page, Integer perPage, String searchBy,
-                                                         String keyword) {
-        Sort sortBy = determineSort(sort);
-        PageRequest pageRequest = PageRequest.of(page - 1, perPage, sortBy);
-
-        if (searchBy != null && keyword != null) {
-            return searchTeatimeBoards(searchBy, keyword, sort, pageRequest);
+    private void checkSort(String sort) {
+        if (!List.of("latest", "urgent").contains(sort)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, TEATIME_BOARD_INVALID_SORT.getMessage());
         }
-
-        return fetchTeatimeBoards(sort, pageRequest);
     }
 
-    private Sort determineSort(String sort) {
-        return switch (sort) {
-            case "latest" -> Sort.by("createdDate").descending();
-            case "urgent" -> Sort.by("endDate").ascending();
-            default ->
-                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, TEATIME_BOARD_INVALID_SORT.getMessage());
-        };
+    // 검색어와 검색 기준이 함께 있을 때만 검색한다.
+    private void checkSearchBy(BoardSearchCondition condition) {
+        if (condition.hasKeyword() && !List.of("title", "content", "all", "writer")
+                .contains(condition.getSearchBy())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, TEATIME_BOARD_INVALID_SEARCH_BY.getMessage());
+        }
     }
 
     private boolean isUrgentSort(String sort) {
         return "urgent".equals(sort);
     }
 
-    private Page<TeatimeBoard> fetchTeatimeBoards(String sort, PageRequest pageRequest) {
-        if (isUrgentSort(sort)) {
-            return teatimeBoardRepository.findAllByActivatedAndEndDateAfter(true, LocalDateTime.now(), pageRequest);
-        }
-        return teatimeBoardRepository.findAllByActivated(true, pageRequest);
-    }
-
-    private Page<TeatimeBoard> searchTeatimeBoards(String searchBy, String keyword, String sort,
-                                                   PageRequest pageRequest) {
-        if (isUrgentSort(sort)) {
-            return searchTeatimeBoardsWithEndDateAfter(searchBy, keyword, pageRequest);
-        }
-        return searchTeatimeBoardsWithoutEndDateAfter(searchBy, keyword, pageRequest);
-    }
-
-    private Page<TeatimeBoard> searchTeatimeBoardsWithEndDateAfter(String searchBy, String keyword,
-                                                                   PageRequest pageRequest) {
-        return switch (searchBy) {
-            case "title" -> teatimeBoardRepository.findAllByTitleContainingAndActivatedAndEndDateAfter(keyword, true,
-                    LocalDateTime.now(), pageRequest);
-            case "writer" ->
-                    teatimeBoardRepository.findAllByUser_NicknameContainingAndActivatedAndEndDateAfter(keyword, true,
-                            LocalDateTime.now(), pageRequest);
-            case "content" ->
-                    teatimeBoardRepository.findAllByContentContainingAndActivatedAndEndDateAfter(keyword, true,
-                            LocalDateTime.now(), pageRequest);
-            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
-                    TEATIME_BOARD_INVALID_SEARCH_BY.getMessage());
-        };
-    }
-
-    private Page<TeatimeBoard> searchTeatimeBoardsWithoutEndDateAfter(String searchBy, String keyword,
-                                                                      PageRequest pageRequest) {
-        return switch (searchBy) {
-            case "title" -> teatimeBoardRepository.findAllByTitleContainingAndActivated(keyword, true, pageRequest);
-            case "writer" ->
-                    teatimeBoardRepository.findAllByUser_NicknameContainingAndActivated(keyword, true, pageRequest);
-            case "content" -> teatimeBoardRepository.findAllByContentContainingAndActivated(keyword, true, pageRequest);
-            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
-                    TEATIME_BOARD_INVALID_SEARCH_BY.getMessage());
-        };
-    }
-
     private List<TeatimeListResponse> createResponseFormTeatimeBoards(List<TeatimeBoard> teatimeBoards) {
         List<TeatimeListResponse> data = new ArrayList<>();
         for (TeatimeBoard teatimeBoard : teatimeBoards) {
-            Integer participants = teatimeParticipantRepository.countByTeatimeBoard(teatimeBoard).intValue();
-            data.add(TeatimeListResponse.of(teatimeBoard, participants));
+            data.add(TeatimeListResponse.of(teatimeBoard));
         }
         return data;
     }
@@ -216,12 +205,4 @@ public class TeatimeService {
         comment.deactivate();
         comment.getTeatimeReplies().forEach(TeatimeReply::deactivate);
     }
-
-    private Long calculateCount(String sort) {
-        return switch (sort) {
-            case "latest" -> teatimeBoardRepository.countByActivated(true);
-            case "urgent" -> teatimeBoardRepository.countByActivatedAndEndDateAfter(true, LocalDateTime.now());
-            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid sort");
-        };
-    }
 }
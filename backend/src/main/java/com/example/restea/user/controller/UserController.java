@@ -49,8 +49,7 @@ public class UserController {
      */
     @PatchMapping("/withdraw")
     public ResponseEntity<Void> withdraw(@AuthenticationPrincipal CustomOAuth2User customOAuth2User) {
-        String authToken = userService.withdrawUser(customOAuth2User.getUserId());
-        userService.revokeGoogleAuth(authToken);
+        userService.withdrawUser(customOAuth2User.getUserId());
 
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
@@ -189,7 +188,8 @@ public class UserController {
                 userMyPageTeatimeService.getParticipatedTeatimeBoardList(customOAuth2User.getUserId(),
                         dto.getSort(),
                         dto.getPage(),
-                        dto.getPerPage());
+                        dto.getPerPage(),
+                        dto.getCursor());
 
         return ResponseEntity.status(HttpStatus.OK)
                 .body(teatimeBoardList);
@@ -206,7 +206,8 @@ public class UserController {
         ResponseDTO<List<RecordListResponse>> recordList =
                 userMyPageRecordService.getRecordList(customOAuth2User.getUserId(),
                         dto.getPage(),
-                        dto.getPerPage());
+                        dto.getPerPage(),
+                        dto.getCursor());
 
         return ResponseEntity.status(HttpStatus.OK)
                 .body(recordList);
@@ -131,6 +131,11 @@ public class User extends BaseTimeEntity {
 
     // 보여질 닉네임을 반환하는 메소드
     public String getExposedNickname() {
+        return exposedNickname(nickname, activated);
+    }
+
+    // 엔티티를 로딩하지 않은 projection에서도 같은 규칙으로 닉네임을 노출하기 위한 메소드
+    public static String exposedNickname(String nickname, boolean activated) {
         return activated ? nickname : "탈퇴한 유저";
     }
 
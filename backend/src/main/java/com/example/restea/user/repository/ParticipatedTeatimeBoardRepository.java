@@ -1,5 +1,6 @@
 package com.example.restea.user.repository;
 
+import com.example.restea.common.dto.Cursor;
 import com.example.restea.teatime.entity.QTeatimeBoard;
 import com.example.restea.teatime.entity.QTeatimeParticipant;
 import com.example.restea.teatime.entity.TeatimeBoard;
@@ -45,6 +46,28 @@ public class ParticipatedTeatimeBoardRepository {
                 .fetch();
     }
 
+    /**
+     * 신청한 티타임 게시판 글을 커서 다음부터 가져오는 메소드 - (broadcastDate, id) 기준으로 정렬
+     *
+     * @param userId    userId
+     * @param sort      정렬기준
+     * @param cursor    마지막으로 조회한 게시글의 커서 (null이면 처음부터)
+     * @param limit     가져올 개수
+     * @param activated 활성화 되어있는 유저인지?
+     * @return TeatimeBoard의 List
+     */
+    public List<TeatimeBoard> findParticipatedTeatimeBoardsByCursor(Integer userId, String sort, Cursor cursor,
+                                                                    int limit, boolean activated) {
+        return queryFactory
+                .selectFrom(teatimeBoard)
+                .join(teatimeParticipant)
+                .on(teatimeBoard.id.eq(teatimeParticipant.teatimeBoard.id))
+                .where(createWhereCondition(userId, sort, activated), createCursorCondition(sort, cursor))
+                .orderBy(getOrderSpecifier(sort), getIdOrderSpecifier(sort))
+                .limit(limit)
+                .fetch();
+    }
+
     /**
      * 신청한 나눔 게시판 글의 전체 개수를 세는 메소드
      *
@@ -107,4 +130,37 @@ public class ParticipatedTeatimeBoardRepository {
         return teatimeBoard.broadcastDate.asc();
     }
 
+    /**
+     * 커서 다음의 게시글만 가져오는 where절 메소드. before일 시 내림차순이므로 커서보다 앞선 것을 가져온다.
+     *
+     * @param sort   정렬 정보
+     * @param cursor 마지막으로 조회한 게시글의 커서
+     * @return 커서가 없으면 null
+     */
+    private BooleanExpression createCursorCondition(String sort, Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        if ("before".equals(sort)) {
+            return teatimeBoard.broadcastDate.lt(cursor.getDateTime())
+                    .or(teatimeBoard.broadcastDate.eq(cursor.getDateTime()).and(teatimeBoard.id.lt(cursor.getId())));
+        }
+        return teatimeBoard.broadcastDate.gt(cursor.getDateTime())
+                .or(teatimeBoard.broadcastDate.eq(cursor.getDateTime()).and(teatimeBoard.id.gt(cursor.getId())));
+    }
+
+    /**
+     * 방송 시각이 같은 게시글끼리의 순서를 정하는 보조 정렬 기준
+     *
+     * @param sort 정렬 정보
+     * @return OrderSpecifier(정렬 기준)
+     */
+    private OrderSpecifier<Integer> getIdOrderSpecifier(String sort) {
+        if ("before".equals(sort)) {
+            return teatimeBoard.id.desc();
+        }
+        return teatimeBoard.id.asc();
+    }
+
 }
@@ -0,0 +1,24 @@
+package com.example.restea.user.service;
+
+import com.example.restea.user.entity.User;
+import com.example.restea.user.enums.UserMessage;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 모든 도메인이 요청한 유저가 활성화된 유저인지 확인할 때 쓰는 인터페이스. 구현체는 활성화 여부를 잠시 캐싱해서 같은 유저를 반복해서 조회하지 않도록 한다.
+ * 탈퇴처럼 활성화 여부가 바뀌면 invalidate 해야 한다.
+ */
+public interface ActivatedUserResolver {
+
+    /**
+     * 활성화된 유저를 반환한다. 유저가 없다면 400 USER_NOT_FOUND 예외가 발생한다.
+     *
+     * @param userId             유저 id
+     * @param deactivatedStatus  탈퇴한 유저일 때의 응답 상태
+     * @param deactivatedMessage 탈퇴한 유저일 때의 응답 메시지
+     * @return 활성화된 유저
+     */
+    User getActivatedUser(Integer userId, HttpStatus deactivatedStatus, UserMessage deactivatedMessage);
+
+    void invalidate(Integer userId);
+}
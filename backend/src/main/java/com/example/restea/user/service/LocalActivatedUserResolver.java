@@ -0,0 +1,91 @@
+package com.example.restea.user.service;
+
+import static com.example.restea.user.enums.UserMessage.USER_NOT_FOUND;
+
+import com.example.restea.common.util.AfterCommit;
+import com.example.restea.user.entity.User;
+import com.example.restea.user.enums.UserMessage;
+import com.example.restea.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 유저의 활성화 여부를 TTL 동안 서버 메모리에 캐싱하는 구현체. 캐싱된 유저는 SELECT 없이 프록시(getReferenceById)로 반환해서, 연관관계만 필요한 경우에는
+ * users 테이블을 조회하지 않는다. 유저 엔티티 자체는 캐싱하지 않으므로 닉네임, 사진은 항상 DB의 값을 쓴다.
+ * 가득 차면 Caffeine이 자주 쓰이지 않는 유저부터 밀어낸다. DB에서 불러오는 사이에 invalidate 되었다면 캐싱하지 않는다.
+ */
+@Component
+public class LocalActivatedUserResolver implements ActivatedUserResolver {
+
+    private final UserRepository userRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final long ttlSeconds;
+    private final Cache<Integer, Boolean> activatedUsers;
+    private final AtomicLong generation = new AtomicLong(); // invalidate 할 때마다 증가
+
+    public LocalActivatedUserResolver(UserRepository userRepository, EntityManagerFactory entityManagerFactory,
+                                      @Value("${user.activated-cache.ttl-seconds:30}") long ttlSeconds,
+                                      @Value("${user.activated-cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.entityManagerFactory = entityManagerFactory;
+        this.ttlSeconds = ttlSeconds;
+        this.activatedUsers = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(Math.max(ttlSeconds, 0)))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    @Override
+    public User getActivatedUser(Integer userId, HttpStatus deactivatedStatus, UserMessage deactivatedMessage) {
+        // 프록시는 영속성 컨텍스트가 열려 있을 때만 나중에 초기화할 수 있다.
+        if (isCachedAsActivated(userId) && hasOpenPersistenceContext()) {
+            return userRepository.getReferenceById(userId);
+        }
+
+        long loadedGeneration = generation.get();
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, USER_NOT_FOUND.getMessage()));
+        if (!user.getActivated()) {
+            activatedUsers.invalidate(userId);
+            throw new ResponseStatusException(deactivatedStatus, deactivatedMessage.getMessage());
+        }
+
+        cacheAsActivated(userId, loadedGeneration);
+        return user;
+    }
+
+    @Override
+    public void invalidate(Integer userId) {
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            activatedUsers.invalidate(userId);
+        });
+    }
+
+    private boolean isCachedAsActivated(Integer userId) {
+        return activatedUsers.getIfPresent(userId) != null;
+    }
+
+    private void cacheAsActivated(Integer userId, long loadedGeneration) {
+        if (ttlSeconds <= 0) {
+            return;
+        }
+        activatedUsers.put(userId, Boolean.TRUE);
+        // 불러오는 동안 invalidate 되었다면 탈퇴 전의 값이므로 지운다. 넣은 뒤에 확인해서 그 사이의 invalidate도 놓치지 않는다.
+        if (generation.get() != loadedGeneration) {
+            activatedUsers.invalidate(userId);
+        }
+    }
+
+    private boolean hasOpenPersistenceContext() {
+        return TransactionSynchronizationManager.hasResource(entityManagerFactory);
+    }
+}
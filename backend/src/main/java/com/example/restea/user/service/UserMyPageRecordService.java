@@ -1,5 +1,6 @@
 package com.example.restea.user.service;
 
+import com.example.restea.common.dto.Cursor;
 import com.example.restea.common.dto.PaginationDTO;
 import com.example.restea.common.dto.ResponseDTO;
 import com.example.restea.record.dto.RecordListResponse;
@@ -27,9 +28,15 @@ public class UserMyPageRecordService {
      * @param userId  유저Id
      * @param page    요청받은 페이지 Number
      * @param perPage 페이지 컨텐츠 개수
+     * @param cursor  이전 응답의 nextCursor (있으면 커서 방식으로 조회)
      * @return RecordListResponse의 List를 Data로 가지는 ResponseDTO
      */
-    public ResponseDTO<List<RecordListResponse>> getRecordList(Integer userId, Integer page, Integer perPage) {
+    public ResponseDTO<List<RecordListResponse>> getRecordList(Integer userId, Integer page, Integer perPage,
+                                                               String cursor) {
+        if (cursor != null) {
+            return getRecordListByCursor(userId, perPage, cursor);
+        }
+
         Page<Record> records = fetchActiveRecords(userId, page, perPage);
         List<RecordListResponse> data = createResponseFormRecords(records.getContent());
         Long count = calculateCount(userId);
@@ -39,6 +46,45 @@ public class UserMyPageRecordService {
         return ResponseDTO.of(data, pagination);
     }
 
+    /**
+     * 커서 방식으로 최신순 기록 조회. 전체 개수는 세지 않는다.
+     *
+     * @param userId  유저Id
+     * @param perPage 페이지 컨텐츠 개수
+     * @param cursor  이전 응답의 nextCursor
+     * @return RecordListResponse의 List를 Data로 가지는 ResponseDTO
+     */
+    private ResponseDTO<List<RecordListResponse>> getRecordListByCursor(Integer userId, Integer perPage,
+                                                                        String cursor) {
+        // 다음 페이지가 있는지 알기 위해 하나 더 조회
+        List<Record> fetched = fetchActiveRecordsBefore(userId, Cursor.decode(cursor), perPage + 1);
+
+        if (fetched.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NO_CONTENT);
+        }
+
+        List<RecordListResponse> data = createResponseFormRecords(Cursor.content(fetched, perPage));
+        String nextCursor = Cursor.next(fetched, perPage, record -> Cursor.of(record.getCreatedDate(), record.getId()));
+
+        return ResponseDTO.of(data, PaginationDTO.ofCursor(perPage, nextCursor));
+    }
+
+    /**
+     * 커서보다 앞선 기록을 최신순으로 조회
+     *
+     * @param cursor 마지막으로 조회한 기록의 커서 (null이면 처음부터)
+     * @param limit  가져올 개수
+     * @return 기록 List
+     */
+    private List<Record> fetchActiveRecordsBefore(Integer userId, Cursor cursor, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        if (cursor == null) {
+            return recordRepository.findAllByUserIdOrderByCreatedDateDescIdDesc(userId, pageRequest);
+        }
+        return recordRepository.findAllByUserIdBeforeCursor(userId, cursor.getDateTime(), cursor.getId(),
+                pageRequest);
+    }
+
     /**
      * 최신순 내림차순으로 기록 조회
      *
@@ -5,7 +5,6 @@ import com.example.restea.common.dto.ResponseDTO;
 import com.example.restea.share.dto.ShareListResponse;
 import com.example.restea.share.entity.ShareBoard;
 import com.example.restea.share.repository.ShareBoardRepository;
-import com.example.restea.share.repository.ShareParticipantRepository;
 import com.example.restea.user.repository.ParticipatedShareBoardRepository;
 import jakarta.transaction.Transactional;
 import java.util.ArrayList;
@@ -24,7 +23,6 @@ import org.springframework.web.server.ResponseStatusException;
 public class UserMyPageShareService {
 
     private final ShareBoardRepository shareBoardRepository;
-    private final ShareParticipantRepository shareParticipantRepository;
     private final ParticipatedShareBoardRepository participatedShareBoardRepository;
 
     /**
@@ -74,10 +72,7 @@ public class UserMyPageShareService {
      */
     private List<ShareListResponse> createResponseFormShareBoards(List<ShareBoard> shareBoards) {
         List<ShareListResponse> data = new ArrayList<>();
-        shareBoards.forEach(shareBoard -> {
-            Integer participant = shareParticipantRepository.countByShareBoard(shareBoard).intValue();
-            data.add(ShareListResponse.of(shareBoard, participant));
-        });
+        shareBoards.forEach(shareBoard -> data.add(ShareListResponse.of(shareBoard)));
         return data;
     }
 
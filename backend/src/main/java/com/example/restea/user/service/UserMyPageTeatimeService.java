@@ -1,11 +1,11 @@
 package com.example.restea.user.service;
 
+import com.example.restea.common.dto.Cursor;
 import com.example.restea.common.dto.PaginationDTO;
 import com.example.restea.common.dto.ResponseDTO;
 import com.example.restea.teatime.dto.TeatimeListResponse;
 import com.example.restea.teatime.entity.TeatimeBoard;
 import com.example.restea.teatime.repository.TeatimeBoardRepository;
-import com.example.restea.teatime.repository.TeatimeParticipantRepository;
 import com.example.restea.user.repository.ParticipatedTeatimeBoardRepository;
 import jakarta.transaction.Transactional;
 import java.time.LocalDateTime;
@@ -25,7 +25,6 @@ import org.springframework.web.server.ResponseStatusException;
 public class UserMyPageTeatimeService {
 
     private final TeatimeBoardRepository teatimeBoardRepository;
-    private final TeatimeParticipantRepository teatimeParticipantRepository;
     private final ParticipatedTeatimeBoardRepository participatedTeatimeBoardRepository;
 
     /**
@@ -76,10 +75,7 @@ public class UserMyPageTeatimeService {
      */
     private List<TeatimeListResponse> createResponseFormTeatimeBoards(List<TeatimeBoard> teatimeBoards) {
         List<TeatimeListResponse> data = new ArrayList<>();
-        teatimeBoards.forEach(teatimeBoard -> {
-            Integer participant = teatimeParticipantRepository.countByTeatimeBoard(teatimeBoard).intValue();
-            data.add(TeatimeListResponse.of(teatimeBoard, participant));
-        });
+        teatimeBoards.forEach(teatimeBoard -> data.add(TeatimeListResponse.of(teatimeBoard)));
         return data;
     }
 
@@ -94,11 +90,16 @@ public class UserMyPageTeatimeService {
 
     @Transactional
     public ResponseDTO<List<TeatimeListResponse>> getParticipatedTeatimeBoardList(Integer userId, String sort,
-                                                                                  Integer page, Integer perPage) {
+                                                                                  Integer page, Integer perPage,
+                                                                                  String cursor) {
         if (isInvalidSort(sort)) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid sort");
         }
 
+        if (cursor != null) {
+            return getParticipatedTeatimeBoardListByCursor(userId, sort, perPage, cursor);
+        }
+
         List<TeatimeBoard> teatimeBoards = fetchActiveParticipatedTeatimeBoards(userId, sort, page, perPage);
 
         // teatimeboard를 teatimelistresponse로
@@ -110,6 +111,34 @@ public class UserMyPageTeatimeService {
         return ResponseDTO.of(data, pagination);
     }
 
+    /**
+     * 커서 방식으로 참여한 티타임 글 조회. 전체 개수는 세지 않는다.
+     *
+     * @param userId  userId
+     * @param sort    정렬 정보
+     * @param perPage 넘겨줄 데이터 개수
+     * @param cursor  이전 응답의 nextCursor
+     * @return TeatimeListResponse의 List를 Data로 가지는 ResponseDTO
+     */
+    private ResponseDTO<List<TeatimeListResponse>> getParticipatedTeatimeBoardListByCursor(Integer userId,
+                                                                                           String sort,
+                                                                                           Integer perPage,
+                                                                                           String cursor) {
+        // 다음 페이지가 있는지 알기 위해 하나 더 조회
+        List<TeatimeBoard> fetched = participatedTeatimeBoardRepository.findParticipatedTeatimeBoardsByCursor(
+                userId, sort, Cursor.decode(cursor), perPage + 1, true);
+
+        if (fetched.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NO_CONTENT);
+        }
+
+        List<TeatimeListResponse> data = createResponseFormTeatimeBoards(Cursor.content(fetched, perPage));
+        String nextCursor = Cursor.next(fetched, perPage,
+                teatimeBoard -> Cursor.of(teatimeBoard.getBroadcastDate(), teatimeBoard.getId()));
+
+        return ResponseDTO.of(data, PaginationDTO.ofCursor(perPage, nextCursor));
+    }
+
     /**
      * @param userId  userId
      * @param sort    정렬 정보
@@ -169,11 +198,6 @@ public class UserMyPageTeatimeService {
      * @return 티타임 글 Response List
      */
     private List<TeatimeListResponse> createResponseFormTeatimeBoards(Page<TeatimeBoard> teatimeBoards) {
-        List<TeatimeListResponse> data = new ArrayList<>();
-        teatimeBoards.getContent().forEach(teatimeBoard -> {
-            Integer participant = teatimeParticipantRepository.countByTeatimeBoard(teatimeBoard).intValue();
-            data.add(TeatimeListResponse.of(teatimeBoard, participant));
-        });
-        return data;
+        return createResponseFormTeatimeBoards(teatimeBoards.getContent());
     }
 }
@@ -0,0 +1,84 @@
+package com.example.restea.user.service;
+
+import com.example.restea.common.util.AfterCommit;
+import com.example.restea.user.entity.User;
+import com.example.restea.user.repository.UserRepository;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저의 닉네임, 프로필 사진을 보관하는 LRU 캐시. AccessToken에 닉네임, 사진을 싣지 않아도 인증 정보를 채울 수 있도록 한다.
+ * 닉네임, 사진이 바뀌거나 탈퇴하면 invalidate 해야 한다. DB에서 불러오는 사이에 invalidate 되었다면 불러온 값이 이전 값일 수 있으므로 캐싱하지 않는다.
+ */
+@Component
+public class UserProfileCache {
+
+    private final UserRepository userRepository;
+    private final Map<Integer, UserProfile> cache;
+    private final AtomicLong generation = new AtomicLong(); // invalidate 할 때마다 증가
+
+    public UserProfileCache(UserRepository userRepository,
+                            @Value("${user.profile-cache.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        // accessOrder = true 이므로 가장 오래 쓰이지 않은 유저부터 밀려난다.
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, UserProfile> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐싱된 프로필을 반환하고, 없다면 DB에서 불러와 캐싱한다.
+     *
+     * @param userId 유저 id
+     * @return 유저의 닉네임, 사진. 유저가 없다면 null
+     */
+    public UserProfile get(Integer userId) {
+        synchronized (cache) {
+            UserProfile cached = cache.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        long loadedGeneration = generation.get();
+        UserProfile profile = userRepository.findById(userId)
+                .map(UserProfile::from)
+                .orElse(null);
+        if (profile != null) {
+            synchronized (cache) {
+                if (generation.get() == loadedGeneration) { // 불러오는 동안 invalidate 되지 않았을 때만 캐싱
+                    cache.put(userId, profile);
+                }
+            }
+        }
+        return profile;
+    }
+
+    /**
+     * 캐싱된 프로필을 지운다. 트랜잭션 안이라면 커밋된 뒤에 지워서, 커밋 전의 값이 다시 캐싱되지 않도록 한다.
+     *
+     * @param userId 유저 id
+     */
+    public void invalidate(Integer userId) {
+        AfterCommit.run(() -> remove(userId));
+    }
+
+    private void remove(Integer userId) {
+        synchronized (cache) {
+            generation.incrementAndGet();
+            cache.remove(userId);
+        }
+    }
+
+    public record UserProfile(String nickname, String picture) {
+        static UserProfile from(User user) {
+            return new UserProfile(user.getNickname(), user.getPicture());
+        }
+    }
+}
@@ -8,13 +8,16 @@ import static com.example.restea.user.enums.UserMessage.USER_NICKNAME_EXISTS;
 import static com.example.restea.user.enums.UserMessage.USER_NICKNAME_SAME;
 import static com.example.restea.user.enums.UserMessage.USER_NOT_FOUND;
 
+import com.example.restea.oauth2.entity.RefreshToken;
 import com.example.restea.oauth2.jwt.JWTUtil;
 import com.example.restea.oauth2.repository.AuthTokenRepository;
-import com.example.restea.oauth2.repository.RefreshTokenRepository;
+import com.example.restea.oauth2.service.GoogleRevocationService;
 import com.example.restea.oauth2.service.RefreshTokenService;
 import com.example.restea.oauth2.util.CookieMethods;
 import com.example.restea.record.repository.RecordRepository;
+import com.example.restea.share.repository.ShareBoardRepository;
 import com.example.restea.share.repository.ShareParticipantRepository;
+import com.example.restea.teatime.repository.TeatimeBoardRepository;
 import com.example.restea.teatime.repository.TeatimeParticipantRepository;
 import com.example.restea.user.entity.User;
 import com.example.restea.user.repository.UserRepository;
@@ -27,32 +30,31 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
-    private static final String GOOGLE_REVOKE_URL = "https://accounts.google.com/o/oauth2/revoke?token=";
-
     private final UserRepository userRepository;
     private final ShareParticipantRepository shareParticipantRepository;
     private final TeatimeParticipantRepository teatimeParticipantRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final ShareBoardRepository shareBoardRepository;
+    private final TeatimeBoardRepository teatimeBoardRepository;
     private final AuthTokenRepository authTokenRepository;
     private final RecordRepository recordRepository;
     private final JWTUtil jwtUtil;
     private final RefreshTokenService refreshTokenService;
     private final CookieMethods cookieMethods;
-    private final RestTemplate restTemplate;
+    private final GoogleRevocationService googleRevocationService;
+    private final UserProfileCache userProfileCache;
+    private final ActivatedUserResolver activatedUserResolver;
 
     @Transactional
-    public String withdrawUser(Integer userId) {
+    public void withdrawUser(Integer userId) {
         User user = findActiveUser(userId);
         String authToken = user.getAuthToken().getValue();
         performUserDeactivation(user); // 삭제, 비활성화, revoke
-
-        return authToken;
+        googleRevocationService.request(authToken); // 구글 OAuth2 해제는 GoogleRevocationJob이 비동기로 전달
     }
 
     private @NotNull User findActiveUser(Integer userId) {
@@ -73,12 +75,8 @@ public class UserService {
         revokeRefreshToken(user); // RefreshToken를 지운 후 Revoke 처리
         deleteAuthToken(user); // AuthToken을 지운 후 삭제
         user.deactivate(); // 유저 비활성화
-    }
-
-    // 구글 OAuth2 해제
-    public void revokeGoogleAuth(String value) {
-        String googleRevokeUrl = GOOGLE_REVOKE_URL + value;
-        restTemplate.getForObject(googleRevokeUrl, String.class);
+        userProfileCache.invalidate(user.getId()); // 탈퇴 전 닉네임, 사진이 재발급 토큰에 실리지 않도록 프로필 캐시 삭제
+        activatedUserResolver.invalidate(user.getId()); // 탈퇴한 유저가 캐시로 통과하지 않도록 삭제
     }
 
     /**
@@ -97,6 +95,8 @@ public class UserService {
      * @param user 유저 엔티티
      */
     private void deleteParticipants(User user) {
+        shareBoardRepository.decreaseParticipantCountByUserId(user.getId());
+        teatimeBoardRepository.decreaseParticipantCountByUserId(user.getId());
         user.clearParticipants();
         shareParticipantRepository.deleteByUserId(user.getId());
         teatimeParticipantRepository.deleteByUserId(user.getId());
@@ -109,9 +109,9 @@ public class UserService {
      */
     private void revokeRefreshToken(User user) {
         if (user.getRefreshToken() != null) {
-            Integer refreshTokenId = user.getRefreshToken().getId();
+            RefreshToken refreshToken = user.getRefreshToken();
             user.deleteRefreshToken();
-            refreshTokenRepository.revokeById(refreshTokenId);
+            refreshTokenService.revoke(refreshToken);
         }
     }
 
@@ -140,14 +140,8 @@ public class UserService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, USER_INVALID.getMessage());
         }
 
-        User user = userRepository.findById(userId) // 해당 userId를 가진 User가 없으면
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, USER_NOT_FOUND.getMessage()));
-
-        if (!user.getActivated()) { // 탈퇴된 유저라면
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, USER_ALREADY_WITHDRAWN.getMessage());
-        }
-
-        return user;
+        // 해당 userId를 가진 User가 없거나 탈퇴된 유저라면 예외
+        return activatedUserResolver.getActivatedUser(userId, HttpStatus.BAD_REQUEST, USER_ALREADY_WITHDRAWN);
     }
 
     /**
@@ -185,6 +179,7 @@ public class UserService {
     private void changeUserNickname(User user, String nickname) {
         user.changeNickname(nickname);
         userRepository.save(user);
+        userProfileCache.invalidate(user.getId());
     }
 
     /**
@@ -0,0 +1,151 @@
+package com.example.restea.common.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.restea.ResteaApplication;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.web.client.RestTemplate;
+
+// 로컬 HTTP 서버에 요청을 몰아 보내서 연결이 재사용되는지 확인한다.
+@SpringBootTest
+@ContextConfiguration(classes = ResteaApplication.class)
+public class OutboundHttpClientLoadTest {
+
+    private static final int REQUEST_COUNT = 200;
+    private static final int CONCURRENCY = 8;
+    private static final byte[] BODY = "ok".getBytes(StandardCharsets.UTF_8);
+
+    private static HttpServer stubServer;
+    private static ExecutorService stubExecutor;
+    private static final Set<Integer> REMOTE_PORTS = ConcurrentHashMap.newKeySet();
+    private static final AtomicInteger RECEIVED = new AtomicInteger();
+
+    private final RestTemplate googleRestTemplate;
+    private final OkHttpClient liveKitHttpClient;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public OutboundHttpClientLoadTest(RestTemplate googleRestTemplate, OkHttpClient liveKitHttpClient,
+                                      MeterRegistry meterRegistry) {
+        this.googleRestTemplate = googleRestTemplate;
+        this.liveKitHttpClient = liveKitHttpClient;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @BeforeAll
+    static void startStubServer() throws IOException {
+        stubExecutor = Executors.newFixedThreadPool(CONCURRENCY * 2);
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.setExecutor(stubExecutor);
+        stubServer.createContext("/", exchange -> {
+            // 클라이언트 포트가 같다면 같은 TCP 연결
+            REMOTE_PORTS.add(exchange.getRemoteAddress().getPort());
+            RECEIVED.incrementAndGet();
+            exchange.sendResponseHeaders(200, BODY.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(BODY);
+            }
+        });
+        stubServer.start();
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        stubServer.stop(0);
+        stubExecutor.shutdown();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        REMOTE_PORTS.clear();
+        RECEIVED.set(0);
+    }
+
+    @Test
+    @DisplayName("googleRestTemplate : 동시에 요청해도 연결 풀의 연결을 재사용하고 지연 시간을 기록한다")
+    public void googleRestTemplate_ReusesConnections() throws Exception {
+        // given
+        String url = stubUrl("/revoke");
+        long before = timerCount("google");
+
+        // when
+        runConcurrently(() -> googleRestTemplate.getForObject(url, String.class));
+
+        // then
+        assertThat(RECEIVED.get()).isEqualTo(REQUEST_COUNT);
+        assertThat(REMOTE_PORTS.size()).isLessThanOrEqualTo(CONCURRENCY * 2);
+        assertThat(timerCount("google") - before).isEqualTo(REQUEST_COUNT);
+    }
+
+    @Test
+    @DisplayName("liveKitHttpClient : 동시에 요청해도 연결 풀의 연결을 재사용하고 지연 시간을 기록한다")
+    public void liveKitHttpClient_ReusesConnections() throws Exception {
+        // given
+        String url = stubUrl("/twirp");
+        long before = timerCount("livekit");
+
+        // when
+        runConcurrently(() -> {
+            try (Response response = liveKitHttpClient.newCall(new Request.Builder().url(url).build()).execute()) {
+                return response.body().string();
+            }
+        });
+
+        // then
+        assertThat(RECEIVED.get()).isEqualTo(REQUEST_COUNT);
+        assertThat(REMOTE_PORTS.size()).isLessThanOrEqualTo(CONCURRENCY);
+        assertThat(timerCount("livekit") - before).isEqualTo(REQUEST_COUNT);
+    }
+
+    private void runConcurrently(Callable<String> call) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUEST_COUNT; i++) {
+                futures.add(clients.submit(call));
+            }
+            for (Future<String> future : futures) {
+                assertThat(future.get()).isEqualTo("ok");
+            }
+        } finally {
+            clients.shutdown();
+        }
+    }
+
+    private long timerCount(String target) {
+        Timer timer = meterRegistry.find(OutboundHttpMetrics.METRIC_NAME)
+                .tags("target", target, "outcome", "SUCCESS")
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private String stubUrl(String path) {
+        return "http://localhost:" + stubServer.getAddress().getPort() + path;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.restea.common.viewcount;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ViewCountBufferTest {
+
+    @Test
+    @DisplayName("flush : 반영한 게시글의 증가량은 버퍼에서 사라진다")
+    public void flush_RemovesDrainedBoards() {
+        // given
+        ViewCountBuffer viewCountBuffer = new ViewCountBuffer();
+        viewCountBuffer.increase(1);
+        viewCountBuffer.increase(1);
+        viewCountBuffer.increase(2);
+        Map<Integer, Integer> written = new HashMap<>();
+
+        // when
+        viewCountBuffer.flush((delta, boardIds) -> boardIds.forEach(boardId -> written.put(boardId, delta)));
+
+        // then
+        assertThat(written).isEqualTo(Map.of(1, 2, 2, 1));
+        assertThat(viewCountBuffer.pendingDelta()).isZero();
+        assertThat(viewCountBuffer.increase(1)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("flush : DB 반영에 실패한 증가량은 버퍼에 되돌린다")
+    public void flush_RestoresFailedDeltas() {
+        // given
+        ViewCountBuffer viewCountBuffer = new ViewCountBuffer();
+        viewCountBuffer.increase(1);
+
+        // when
+        viewCountBuffer.flush((delta, boardIds) -> {
+            throw new IllegalStateException("DB 오류");
+        });
+
+        // then
+        assertThat(viewCountBuffer.pendingDelta()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("flush : 조회와 flush가 동시에 일어나도 조회수를 잃지 않는다")
+    public void flush_Concurrent_NoLostIncrease() throws Exception {
+        // given
+        int threadCount = 8;
+        int increasePerThread = 10_000;
+        ViewCountBuffer viewCountBuffer = new ViewCountBuffer();
+        AtomicLong written = new AtomicLong();
+        ViewCountBuffer.ViewCountWriter writer = (delta, boardIds) -> written.addAndGet((long) delta * boardIds.size());
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            int boardId = i % 3;
+            executorService.submit(() -> {
+                for (int j = 0; j < increasePerThread; j++) {
+                    viewCountBuffer.increase(boardId);
+                }
+                done.countDown();
+            });
+        }
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                viewCountBuffer.flush(writer);
+            }
+        });
+        flusher.start();
+        done.await(30, TimeUnit.SECONDS);
+        running.set(false);
+        flusher.join();
+        viewCountBuffer.flush(writer);
+        executorService.shutdown();
+
+        // then
+        assertThat(written.get()).isEqualTo((long) threadCount * increasePerThread);
+        assertThat(viewCountBuffer.pendingDelta()).isZero();
+    }
+}
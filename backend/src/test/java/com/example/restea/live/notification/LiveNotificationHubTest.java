@@ -0,0 +1,168 @@
+package com.example.restea.live.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@DisplayName("Live Notification Hub")
+class LiveNotificationHubTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService sender = Executors.newSingleThreadExecutor();
+    private LiveNotificationHub hub;
+    private MockMvc mockMvc;
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("publish : 같은 티타임 게시글에 연결한 클라이언트에게만 알림을 보낸다")
+    void publish_OnlySameBoard() throws Exception {
+        // given
+        setUp(100, 16);
+        MvcResult waiting1 = subscribe(1, 1, false);
+        MvcResult waiting2 = subscribe(1, 2, false);
+        MvcResult otherBoard = subscribe(2, 3, false);
+
+        // when
+        hub.publish(LiveNotification.opened(1));
+        hub.publish(LiveNotification.kicked(1, 2));
+
+        // then
+        awaitContent(waiting1, "event:kicked");
+        awaitContent(waiting2, "event:kicked");
+        assertThat(waiting1.getResponse().getContentAsString())
+                .containsSubsequence("event:live-opened", "event:kicked")
+                .contains("\"userId\":2");
+        assertThat(otherBoard.getResponse().getContentAsString()).doesNotContain("event:");
+    }
+
+    @Test
+    @DisplayName("subscribe : 방송이 이미 열려 있다면 연결하자마자 live-opened를 받는다")
+    void subscribe_LiveAlreadyOpened() throws Exception {
+        // given
+        setUp(100, 16);
+
+        // when
+        MvcResult result = subscribe(1, 1, true);
+
+        // then
+        awaitContent(result, "event:live-opened");
+    }
+
+    @Test
+    @DisplayName("heartbeat : 알림이 없어도 주기적으로 heartbeat를 보낸다")
+    void heartbeat_Comment() throws Exception {
+        // given
+        setUp(100, 16);
+        MvcResult result = subscribe(1, 1, false);
+
+        // when
+        hub.heartbeat();
+
+        // then
+        awaitContent(result, ":heartbeat");
+    }
+
+    @Test
+    @DisplayName("publish : 버퍼가 가득 찰 만큼 느린 연결은 끊는다")
+    void publish_SlowConnectionClosed() throws Exception {
+        // given
+        setUp(100, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        sender.execute(() -> awaitQuietly(release)); // 전송 스레드가 밀려 있는 상황
+        subscribe(1, 1, false);
+
+        // when
+        hub.publish(LiveNotification.kicked(1, 2));
+        hub.publish(LiveNotification.kicked(1, 3));
+        hub.publish(LiveNotification.kicked(1, 4));
+        release.countDown();
+
+        // then
+        assertEquals(0, hub.connectionCount());
+        assertThat(meterRegistry.counter("live.notification.dropped").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("subscribe : 연결 수가 최대라면 503")
+    void subscribe_TooManyConnections() {
+        // given
+        setUp(1, 16);
+        hub.subscribe(1, 1, () -> false);
+
+        // when & then
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+                hub.subscribe(1, 2, () -> false));
+
+        assertEquals("503 SERVICE_UNAVAILABLE \"Too many live notification connections.\"", exception.getMessage());
+        assertEquals(1, hub.connectionCount());
+    }
+
+    private void setUp(int maxConnections, int bufferSize) {
+        hub = new LiveNotificationHub(meterRegistry, sender, maxConnections, bufferSize, 60_000);
+        mockMvc = MockMvcBuilders.standaloneSetup(new SubscribeController(hub)).build();
+    }
+
+    private MvcResult subscribe(int teatimeBoardId, int userId, boolean liveOpen) throws Exception {
+        return mockMvc.perform(get("/boards/{teatimeBoardId}/users/{userId}/events", teatimeBoardId, userId)
+                        .param("liveOpen", String.valueOf(liveOpen)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private void awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!result.getResponse().getContentAsString().contains(expected)) {
+            assertTrue(System.nanoTime() < deadline, "받지 못한 이벤트 : " + expected);
+            Thread.sleep(10);
+        }
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // LiveController 대신 인증 없이 바로 구독하는 컨트롤러
+    @RestController
+    static class SubscribeController {
+        private final LiveNotificationHub hub;
+
+        SubscribeController(LiveNotificationHub hub) {
+            this.hub = hub;
+        }
+
+        @GetMapping("/boards/{teatimeBoardId}/users/{userId}/events")
+        SseEmitter subscribe(@PathVariable("teatimeBoardId") int teatimeBoardId, @PathVariable("userId") int userId,
+                             @RequestParam("liveOpen") boolean liveOpen) {
+            return hub.subscribe(teatimeBoardId, userId, () -> liveOpen);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.restea.live.presence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.restea.live.repository.LiveRepository;
+import io.livekit.server.RoomServiceClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import livekit.LivekitModels.ParticipantInfo;
+import livekit.LivekitModels.Room;
+import livekit.LivekitModels.TrackInfo;
+import livekit.LivekitWebhook.WebhookEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import retrofit2.Call;
+import retrofit2.Response;
+
+@DisplayName("Live Presence Registry")
+class LivePresenceRegistryTest {
+
+    private static final String LIVE_ID = "liveId";
+
+    private final LiveRepository liveRepository = mock(LiveRepository.class);
+    private final RoomServiceClient roomServiceClient = mock(RoomServiceClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LivePresenceRegistry registry =
+            new LivePresenceRegistry(liveRepository, roomServiceClient, meterRegistry);
+
+    @Test
+    @DisplayName("onEvent : 참가자가 들어오고 나가면 참가자 목록이 갱신된다")
+    void onEvent_JoinAndLeave() {
+        // given
+        registry.onEvent(event("participant_joined", participant("1")));
+        registry.onEvent(event("participant_joined", participant("2")));
+
+        // when
+        registry.onEvent(event("participant_left", participant("1")));
+
+        // then
+        assertThat(registry.count(LIVE_ID)).isEqualTo(1);
+        assertThat(registry.roster(LIVE_ID)).extracting(LiveParticipant::identity).containsExactly("2");
+        assertThat(meterRegistry.get("live.presence.participants").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("onEvent : 트랙을 송출하고 멈추면 참가자의 트랙 목록이 갱신된다")
+    void onEvent_TrackPublishedAndUnpublished() {
+        // given
+        registry.onEvent(event("participant_joined", participant("1")));
+
+        // when
+        registry.onEvent(trackEvent("track_published", "audio"));
+        registry.onEvent(trackEvent("track_published", "video"));
+        registry.onEvent(trackEvent("track_unpublished", "audio"));
+
+        // then
+        assertThat(registry.roster(LIVE_ID).get(0).trackSids()).containsExactly("video");
+    }
+
+    @Test
+    @DisplayName("onEvent : 방이 닫히면 참가자 목록이 비워진다")
+    void onEvent_RoomFinished() {
+        // given
+        registry.onEvent(event("participant_joined", participant("1")));
+
+        // when
+        registry.onEvent(WebhookEvent.newBuilder()
+                .setEvent("room_finished")
+                .setRoom(Room.newBuilder().setName(LIVE_ID))
+                .build());
+
+        // then
+        assertThat(registry.count(LIVE_ID)).isZero();
+        assertThat(registry.roster(LIVE_ID)).isEmpty();
+        assertThat(meterRegistry.get("live.presence.rooms").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("onEvent : 모르는 방의 퇴장 이벤트는 빈 방을 만들지 않는다")
+    void onEvent_LeftFromUnknownRoom() {
+        // when
+        registry.onEvent(event("participant_left", participant("1")));
+
+        // then
+        assertThat(meterRegistry.get("live.presence.rooms").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("onEvent : 모르는 방의 트랙 이벤트는 빈 방을 만들지 않는다")
+    void onEvent_TrackFromUnknownRoom() {
+        // when
+        registry.onEvent(trackEvent("track_published", "audio"));
+        registry.onEvent(trackEvent("track_unpublished", "audio"));
+
+        // then
+        assertThat(meterRegistry.get("live.presence.rooms").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("resync : LiveKit의 참가자 목록으로 방을 다시 채운다")
+    @SuppressWarnings("unchecked")
+    void resync_Success() throws Exception {
+        // given
+        registry.onEvent(event("participant_joined", participant("stale")));
+        Call<List<ParticipantInfo>> call = mock(Call.class);
+        when(call.execute()).thenReturn(Response.success(List.of(participant("1"), participant("2"))));
+        when(roomServiceClient.listParticipants(LIVE_ID)).thenReturn(call);
+
+        // when
+        registry.resync(LIVE_ID);
+
+        // then
+        assertThat(registry.roster(LIVE_ID)).extracting(LiveParticipant::identity)
+                .containsExactlyInAnyOrder("1", "2");
+    }
+
+    private WebhookEvent event(String type, ParticipantInfo participant) {
+        return WebhookEvent.newBuilder()
+                .setEvent(type)
+                .setRoom(Room.newBuilder().setName(LIVE_ID))
+                .setParticipant(participant)
+                .build();
+    }
+
+    private WebhookEvent trackEvent(String type, String trackSid) {
+        return WebhookEvent.newBuilder()
+                .setEvent(type)
+                .setRoom(Room.newBuilder().setName(LIVE_ID))
+                .setParticipant(participant("1"))
+                .setTrack(TrackInfo.newBuilder().setSid(trackSid))
+                .build();
+    }
+
+    private ParticipantInfo participant(String identity) {
+        return ParticipantInfo.newBuilder()
+                .setIdentity(identity)
+                .setName("nickname" + identity)
+                .setJoinedAt(1L)
+                .build();
+    }
+}
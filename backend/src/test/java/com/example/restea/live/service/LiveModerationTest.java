@@ -0,0 +1,304 @@
+package com.example.restea.live.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.restea.live.dto.LiveModerationResultDTO;
+import com.example.restea.live.dto.LiveMuteRequestDTO;
+import com.example.restea.live.notification.LiveNotificationHub;
+import com.example.restea.live.repository.LiveRepository;
+import com.example.restea.teatime.entity.TeatimeBoard;
+import com.example.restea.teatime.repository.TeatimeBoardRepository;
+import com.example.restea.teatime.repository.TeatimeParticipantRepository;
+import com.example.restea.user.entity.User;
+import com.example.restea.user.service.ActivatedUserResolver;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.livekit.server.RoomServiceClient;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import livekit.LivekitModels.TrackInfo;
+import livekit.LivekitRoom.MuteRoomTrackRequest;
+import livekit.LivekitRoom.MuteRoomTrackResponse;
+import livekit.LivekitRoom.RoomParticipantIdentity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+// LiveKit 서버 대신 로컬 HTTP 서버가 Twirp RoomService 요청을 받는다.
+@DisplayName("Live Moderation")
+@ExtendWith(MockitoExtension.class)
+class LiveModerationTest {
+
+    private static final String LIVE_ID = "liveId";
+    private static final String MISSING_IDENTITY = "404";
+    private static final long STUB_LATENCY_MS = 100;
+
+    @Mock
+    private ActivatedUserResolver activatedUserResolver;
+    @Mock
+    private TeatimeBoardRepository teatimeBoardRepository;
+    @Mock
+    private TeatimeParticipantRepository teatimeParticipantRepository;
+    @Mock
+    private LiveRepository liveRepository;
+    @Mock
+    private LiveNotificationHub liveNotificationHub;
+
+    @InjectMocks
+    private LiveService liveService;
+
+    private final Queue<RoomParticipantIdentity> removeRequests = new ConcurrentLinkedQueue<>();
+    private final Queue<MuteRoomTrackRequest> muteRequests = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final ExecutorService stubExecutor = Executors.newCachedThreadPool();
+    private HttpServer stubServer;
+    private LiveModerationExecutor liveModerationExecutor;
+    private User writer;
+    private User participant;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.setExecutor(stubExecutor);
+        stubServer.createContext("/twirp/livekit.RoomService/RemoveParticipant", exchange -> handle(exchange, () -> {
+            RoomParticipantIdentity request = RoomParticipantIdentity.parseFrom(exchange.getRequestBody());
+            removeRequests.add(request);
+            if (request.getIdentity().equals(MISSING_IDENTITY)) {
+                respondError(exchange);
+                return;
+            }
+            respond(exchange, new byte[0]);
+        }));
+        stubServer.createContext("/twirp/livekit.RoomService/MutePublishedTrack", exchange -> handle(exchange, () -> {
+            MuteRoomTrackRequest request = MuteRoomTrackRequest.parseFrom(exchange.getRequestBody());
+            muteRequests.add(request);
+            respond(exchange, MuteRoomTrackResponse.newBuilder()
+                    .setTrack(TrackInfo.newBuilder().setSid(request.getTrackSid()).setMuted(request.getMuted()))
+                    .build()
+                    .toByteArray());
+        }));
+        stubServer.start();
+
+        liveModerationExecutor = new LiveModerationExecutor(4, 10, 5_000);
+        ReflectionTestUtils.setField(liveService, "roomServiceClient", RoomServiceClient.createClient(
+                "http://localhost:" + stubServer.getAddress().getPort(), "apiKey", "apiSecretApiSecretApiSecret1234"));
+        ReflectionTestUtils.setField(liveService, "liveModerationExecutor", liveModerationExecutor);
+        ReflectionTestUtils.setField(liveService, "liveStatusCache", new LiveStatusCache(0));
+
+        writer = createUser(1);
+        participant = createUser(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+        stubExecutor.shutdown();
+        liveModerationExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("liveKickAll : LiveKit 호출을 동시에 보내고, 일부가 실패해도 요청 순서대로 항목마다 결과를 반환한다")
+    void liveKickAll_PerItemResults() {
+        // given
+        givenModeratedLive(writer);
+
+        // when
+        List<LiveModerationResultDTO> results = liveService.liveKickAll(1, List.of(2, 3, 404, 5), 1);
+
+        // then
+        assertThat(results).extracting(LiveModerationResultDTO::getUserId).containsExactly(2, 3, 404, 5);
+        assertThat(results).extracting(LiveModerationResultDTO::isSuccess).containsExactly(true, true, false, true);
+        assertThat(results.get(2).getMessage()).contains("participant not found");
+        assertThat(removeRequests).extracting(RoomParticipantIdentity::getRoom).containsOnly(LIVE_ID);
+        assertThat(removeRequests).hasSize(4);
+        assertThat(maxInFlight.get()).isGreaterThan(1);
+        verify(liveNotificationHub, times(3)).publish(any());
+    }
+
+    @Test
+    @DisplayName("liveMuteAll : 모든 track을 음소거하고 항목마다 결과를 반환한다")
+    void liveMuteAll_Success() {
+        // given
+        givenModeratedLive(writer);
+        List<LiveMuteRequestDTO> requests = List.of(
+                new LiveMuteRequestDTO(2, "TR_audio2", true),
+                new LiveMuteRequestDTO(3, "TR_audio3", true));
+
+        // when
+        List<LiveModerationResultDTO> results = liveService.liveMuteAll(1, requests, 1);
+
+        // then
+        assertThat(results).extracting(LiveModerationResultDTO::getTrackSid).containsExactly("TR_audio2", "TR_audio3");
+        assertThat(results).allMatch(LiveModerationResultDTO::isSuccess);
+        assertThat(muteRequests).extracting(MuteRoomTrackRequest::getTrackSid)
+                .containsExactlyInAnyOrder("TR_audio2", "TR_audio3");
+        assertThat(muteRequests).allMatch(request -> request.getRoom().equals(LIVE_ID) && request.getMuted());
+    }
+
+    @Test
+    @DisplayName("liveMuteAll : 항목 하나에서 예상하지 못한 예외가 나도 그 항목만 실패로 반환한다")
+    void liveMuteAll_UnexpectedExceptionIsItemFailure() {
+        // given
+        givenModeratedLive(writer);
+        List<LiveMuteRequestDTO> requests = List.of(
+                new LiveMuteRequestDTO(2, "TR_audio2", true),
+                new LiveMuteRequestDTO(3, null, true)); // LiveKit 요청을 만들다가 NullPointerException
+
+        // when
+        List<LiveModerationResultDTO> results = liveService.liveMuteAll(1, requests, 1);
+
+        // then
+        assertThat(results).extracting(LiveModerationResultDTO::isSuccess).containsExactly(true, false);
+        assertThat(results.get(1).getMessage()).isEqualTo("Livekit error.");
+        assertThat(muteRequests).extracting(MuteRoomTrackRequest::getTrackSid).containsExactly("TR_audio2");
+    }
+
+    @Test
+    @DisplayName("liveKickAll : 풀이 받지 못한 항목은 기다리지 않고 실패로 반환한다")
+    void liveKickAll_RejectedIsItemFailure() {
+        // given : 서버가 종료되는 중이라 풀이 더 이상 작업을 받지 않는다.
+        givenModeratedLive(writer);
+        liveModerationExecutor.shutdown();
+
+        // when
+        List<LiveModerationResultDTO> results = liveService.liveKickAll(1, List.of(2, 3), 1);
+
+        // then
+        assertThat(results).extracting(LiveModerationResultDTO::getUserId).containsExactly(2, 3);
+        assertThat(results).noneMatch(LiveModerationResultDTO::isSuccess);
+        assertThat(results).extracting(LiveModerationResultDTO::getMessage)
+                .containsOnly("Too many live moderation requests.");
+        assertThat(removeRequests).isEmpty();
+    }
+
+    @Test
+    @DisplayName("liveKickAll : timeout 안에 끝나지 않은 항목은 실패로 반환한다")
+    void liveKickAll_TimeoutIsItemFailure() {
+        // given : LiveKit 응답 지연보다 짧은 timeout
+        givenModeratedLive(writer);
+        liveModerationExecutor.shutdown();
+        liveModerationExecutor = new LiveModerationExecutor(4, 10, STUB_LATENCY_MS / 2);
+        ReflectionTestUtils.setField(liveService, "liveModerationExecutor", liveModerationExecutor);
+
+        // when
+        List<LiveModerationResultDTO> results = liveService.liveKickAll(1, List.of(2, 3), 1);
+
+        // then
+        assertThat(results).extracting(LiveModerationResultDTO::getUserId).containsExactly(2, 3);
+        assertThat(results).extracting(LiveModerationResultDTO::getMessage)
+                .containsOnly("Live moderation timed out.");
+    }
+
+    @Test
+    @DisplayName("liveKickAll : 같은 사용자가 중복되면 LiveKit을 호출하지 않고 400")
+    void liveKickAll_Duplicated() {
+        // when & then
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+                liveService.liveKickAll(1, List.of(2, 3, 2), 1));
+
+        assertEquals("400 BAD_REQUEST \"Duplicated moderation target.\"", exception.getMessage());
+        assertThat(removeRequests).isEmpty();
+    }
+
+    @Test
+    @DisplayName("liveKickAll : 티타임 게시글 작성자가 아니라면 LiveKit을 호출하지 않고 403")
+    void liveKickAll_NotWriter() {
+        // given
+        when(activatedUserResolver.getActivatedUser(anyInt(), any(), any())).thenReturn(participant);
+        when(teatimeBoardRepository.findByIdAndActivated(1, true)).thenReturn(Optional.of(createTeatimeBoard()));
+        when(teatimeParticipantRepository.findUserIdsByTeatimeBoardId(1)).thenReturn(List.of(2));
+
+        // when & then
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+                liveService.liveKickAll(1, List.of(3), 2));
+
+        assertEquals("403 FORBIDDEN \"Not a writer.\"", exception.getMessage());
+        assertThat(removeRequests).isEmpty();
+    }
+
+    private void givenModeratedLive(User user) {
+        when(activatedUserResolver.getActivatedUser(anyInt(), any(), any())).thenReturn(user);
+        when(teatimeBoardRepository.findByIdAndActivated(1, true)).thenReturn(Optional.of(createTeatimeBoard()));
+        when(teatimeParticipantRepository.findUserIdsByTeatimeBoardId(1)).thenReturn(List.of(2, 3, 5));
+        when(liveRepository.findIdByTeatimeBoardId(1)).thenReturn(Optional.of(LIVE_ID));
+    }
+
+    private User createUser(int id) {
+        User user = User.builder().build();
+        ReflectionTestUtils.setField(user, "id", id);
+        ReflectionTestUtils.setField(user, "activated", true);
+        return user;
+    }
+
+    private TeatimeBoard createTeatimeBoard() {
+        TeatimeBoard board = TeatimeBoard.builder()
+                .broadcastDate(LocalDateTime.now())
+                .endDate(LocalDateTime.now())
+                .user(writer)
+                .build();
+        ReflectionTestUtils.setField(board, "id", 1);
+        ReflectionTestUtils.setField(board, "activated", true);
+        return board;
+    }
+
+    // 동시에 처리 중인 요청 수를 세면서 LiveKit의 응답 지연을 흉내 낸다.
+    private void handle(HttpExchange exchange, StubHandler handler) throws IOException {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(STUB_LATENCY_MS);
+            handler.handle();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private void respond(HttpExchange exchange, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/protobuf");
+        exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private void respondError(HttpExchange exchange) throws IOException {
+        byte[] body = "{\"code\":\"not_found\",\"msg\":\"participant not found\"}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(404, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @FunctionalInterface
+    private interface StubHandler {
+        void handle() throws IOException;
+    }
+}
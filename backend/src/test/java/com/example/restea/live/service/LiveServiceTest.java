@@ -6,19 +6,28 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.example.restea.live.entity.Live;
+import com.example.restea.live.notification.LiveNotificationHub;
 import com.example.restea.live.repository.LiveRepository;
+import com.example.restea.live.webhook.LiveWebhookDispatcher;
 import com.example.restea.teatime.entity.TeatimeBoard;
 import com.example.restea.teatime.entity.TeatimeParticipant;
 import com.example.restea.teatime.repository.TeatimeBoardRepository;
 import com.example.restea.teatime.repository.TeatimeParticipantRepository;
 import com.example.restea.user.entity.User;
 import com.example.restea.user.repository.UserRepository;
+import com.example.restea.user.service.LocalActivatedUserResolver;
 import io.livekit.server.AccessToken;
+import io.livekit.server.WebhookReceiver;
+import jakarta.persistence.EntityManagerFactory;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import livekit.LivekitModels.Room;
+import livekit.LivekitWebhook.WebhookEvent;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -45,6 +54,12 @@ class LiveServiceTest {
     private TeatimeParticipantRepository teatimeParticipantRepository;
     @Mock
     private LiveRepository liveRepository;
+    @Mock
+    private LiveNotificationHub liveNotificationHub;
+    @Mock
+    private WebhookReceiver webhookReceiver;
+    @Mock
+    private LiveWebhookDispatcher liveWebhookDispatcher;
 
     // 단위 테스트의 주체 -> @InjectMocks로 가짜 의존성 주입받기
     @InjectMocks
@@ -69,6 +84,11 @@ class LiveServiceTest {
 
         ReflectionTestUtils.setField(liveService, "LIVEKIT_API_KEY", "aaa");
         ReflectionTestUtils.setField(liveService, "LIVEKIT_API_SECRET", "bbb");
+        // 영속성 컨텍스트가 없으므로 캐시와 관계없이 항상 userRepository로 조회한다.
+        ReflectionTestUtils.setField(liveService, "activatedUserResolver",
+                new LocalActivatedUserResolver(userRepository, mock(EntityManagerFactory.class), 30, 10_000));
+        // 테스트마다 stub한 repository로 조회하도록 캐싱하지 않는다.
+        ReflectionTestUtils.setField(liveService, "liveStatusCache", new LiveStatusCache(0));
     }
 
     private User createUser(int id) {
@@ -108,7 +128,8 @@ class LiveServiceTest {
         // Given
         when(userRepository.findById(anyInt())).thenReturn(Optional.of(testUser));
         when(teatimeBoardRepository.findByIdAndActivated(1, true)).thenReturn(Optional.of(testTeatimeBoard));
-        when(liveRepository.existsByTeatimeBoard(testTeatimeBoard)).thenReturn(liveExists);
+        when(liveRepository.findIdByTeatimeBoardId(1)).thenReturn(
+                liveExists ? Optional.of("liveId") : Optional.empty());
 
         // When
         boolean isOpen = liveService.isLiveOpen(1, 1);
@@ -156,8 +177,7 @@ class LiveServiceTest {
         when(userRepository.findById(anyInt())).thenReturn(Optional.of(testUser2));
         when(teatimeBoardRepository.findByIdAndActivated(anyInt(), anyBoolean())).thenReturn(
                 Optional.of(testTeatimeBoard));
-        when(teatimeParticipantRepository.existsByTeatimeBoardAndUser(testTeatimeBoard, testUser2))
-                .thenReturn(false);
+        when(teatimeParticipantRepository.findUserIdsByTeatimeBoardId(anyInt())).thenReturn(List.of());
 
         // When & Then
         ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
@@ -294,7 +314,7 @@ class LiveServiceTest {
                 .build();
         when(teatimeBoardRepository.findByIdAndActivated(anyInt(), anyBoolean())).thenReturn(
                 Optional.of(testTeatimeBoard));
-        when(liveRepository.findByTeatimeBoard(any(TeatimeBoard.class))).thenReturn(Optional.of(live));
+        when(liveRepository.findIdByTeatimeBoardId(anyInt())).thenReturn(Optional.of(live.getId()));
 
         // When
 
@@ -345,8 +365,7 @@ class LiveServiceTest {
         when(userRepository.findById(anyInt())).thenReturn(Optional.of(testUser2));
         when(teatimeBoardRepository.findByIdAndActivated(anyInt(), anyBoolean())).thenReturn(
                 Optional.of(testTeatimeBoard));
-        when(teatimeParticipantRepository.existsByTeatimeBoardAndUser(testTeatimeBoard, testUser2))
-                .thenReturn(false);
+        when(teatimeParticipantRepository.findUserIdsByTeatimeBoardId(anyInt())).thenReturn(List.of());
 
         // When & Then
         ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
@@ -362,7 +381,7 @@ class LiveServiceTest {
         // Given
         when(userRepository.findById(anyInt())).thenReturn(Optional.of(testUser));
         when(teatimeBoardRepository.findByIdAndActivated(1, true)).thenReturn(Optional.of(testTeatimeBoard));
-        when(liveRepository.findByTeatimeBoard(testTeatimeBoard)).thenReturn(Optional.empty());
+        when(liveRepository.findIdByTeatimeBoardId(1)).thenReturn(Optional.empty());
 
         // When & Then
         ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
@@ -377,6 +396,39 @@ class LiveServiceTest {
     }
 
     @Test
-    void webHook() {
+    @DisplayName("웹훅 수신 테스트 - 성공")
+    void webHookSuccess() {
+
+        // Given
+        WebhookEvent event = createWebhookEvent();
+        when(webhookReceiver.receive("body", "auth")).thenReturn(event);
+        when(liveWebhookDispatcher.dispatch(event)).thenReturn(true);
+
+        // When & Then
+        liveService.webHook("auth", "body");
+    }
+
+    @Test
+    @DisplayName("웹훅 수신 테스트 - 실패 : 처리 큐가 가득 차서 이벤트를 버린 경우")
+    void webHookFailDropped() {
+
+        // Given
+        WebhookEvent event = createWebhookEvent();
+        when(webhookReceiver.receive("body", "auth")).thenReturn(event);
+        when(liveWebhookDispatcher.dispatch(event)).thenReturn(false);
+
+        // When & Then
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+                liveService.webHook("auth", "body"));
+
+        assertEquals("503 SERVICE_UNAVAILABLE \"Too many livekit webhook events.\"", exception.getMessage());
+    }
+
+    private WebhookEvent createWebhookEvent() {
+        return WebhookEvent.newBuilder()
+                .setId("eventId")
+                .setEvent("participant_joined")
+                .setRoom(Room.newBuilder().setName("liveId"))
+                .build();
     }
 }
\ No newline at end of file
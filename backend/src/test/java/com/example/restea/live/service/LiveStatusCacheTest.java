@@ -0,0 +1,127 @@
+package com.example.restea.live.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.restea.live.service.LiveStatusCache.LiveMembers;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Live Status Cache")
+class LiveStatusCacheTest {
+
+    private final LiveStatusCache cache = new LiveStatusCache(60);
+
+    @Test
+    @DisplayName("getLiveId : 동시에 캐시가 비어 있는 요청이 몰려도 한 번만 조회한다")
+    void getLiveId_LoadsOnceUnderContention() throws Exception {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(100);
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            executorService.execute(() -> {
+                try {
+                    start.await();
+                    cache.getLiveId(1, () -> {
+                        loads.incrementAndGet();
+                        return Optional.empty();
+                    });
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+
+        // then
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("evictLive : 방송이 생성되면 다음 조회에서 다시 읽는다")
+    void evictLive_Reload() {
+        // given
+        cache.getLiveId(1, Optional::empty);
+
+        // when
+        cache.evictLive(1);
+
+        // then
+        assertThat(cache.getLiveId(1, () -> Optional.of("liveId"))).contains("liveId");
+    }
+
+    @Test
+    @DisplayName("evictLiveById : 방송 id만으로 게시글의 캐시를 지운다")
+    void evictLiveById_Reload() {
+        // given
+        cache.getLiveId(1, () -> Optional.of("liveId"));
+
+        // when
+        cache.evictLiveById("liveId");
+
+        // then
+        assertThat(cache.getLiveId(1, Optional::empty)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("getMembers : 게시글 조회에 실패하면 캐싱하지 않는다")
+    void getMembers_FailureNotCached() {
+        // given
+        assertThrows(IllegalStateException.class, () -> cache.getMembers(1, () -> {
+            throw new IllegalStateException();
+        }));
+
+        // when
+        LiveMembers members = cache.getMembers(1, () -> new LiveMembers(1, Set.of(2)));
+
+        // then
+        assertThat(members.canJoin(1)).isTrue();
+        assertThat(members.canJoin(2)).isTrue();
+        assertThat(members.canJoin(3)).isFalse();
+    }
+
+    @Test
+    @DisplayName("evictMembers : 참가자가 바뀌면 다음 조회에서 다시 읽는다")
+    void evictMembers_Reload() {
+        // given
+        cache.getMembers(1, () -> new LiveMembers(1, Set.of()));
+
+        // when
+        cache.evictMembers(1);
+
+        // then
+        assertThat(cache.getMembers(1, () -> new LiveMembers(1, Set.of(2))).canJoin(2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("evictMembers : 조회하는 동안 참가자가 바뀌면 조회 결과를 캐싱하지 않는다")
+    void evictMembers_WhileLoading_NotCached() {
+        // given
+        LiveMembers stale = cache.getMembers(1, () -> {
+            cache.evictMembers(1); // 트랜잭션 밖이므로 바로 무효화된다
+            return new LiveMembers(1, Set.of());
+        });
+
+        // when
+        LiveMembers members = cache.getMembers(1, () -> new LiveMembers(1, Set.of(2)));
+
+        // then
+        assertThat(stale.canJoin(2)).isFalse();
+        assertThat(members.canJoin(2)).isTrue();
+    }
+}
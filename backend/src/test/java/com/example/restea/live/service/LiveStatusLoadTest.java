@@ -0,0 +1,185 @@
+package com.example.restea.live.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.restea.live.repository.LiveRepository;
+import com.example.restea.teatime.entity.TeatimeBoard;
+import com.example.restea.teatime.entity.TeatimeParticipant;
+import com.example.restea.teatime.repository.TeatimeBoardRepository;
+import com.example.restea.teatime.repository.TeatimeParticipantRepository;
+import com.example.restea.user.entity.User;
+import com.example.restea.user.repository.UserRepository;
+import com.example.restea.util.HibernateStatisticsTest;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 방송 시작을 기다리는 참가자 수천 명이 방송 생성 여부를 반복해서 조회하는 상황. 쿼리 수를 세는 동안 스케줄러는 돌지 않게 한다.
+@HibernateStatisticsTest
+@TestPropertySource(properties = {
+        "google-revocation.poll-interval-ms=3600000",
+        "view-count.flush-interval-ms=3600000",
+        "live.status-cache.ttl-seconds=60",
+        "user.activated-cache.ttl-seconds=60"})
+public class LiveStatusLoadTest {
+
+    private static final int WAITING_COUNT = 2_000;
+    private static final int THREAD_COUNT = 64;
+    private static final int POLL_ROUNDS = 3;
+
+    private final LiveService liveService;
+    private final LiveRepository liveRepository;
+    private final TeatimeBoardRepository teatimeBoardRepository;
+    private final TeatimeParticipantRepository teatimeParticipantRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Statistics statistics;
+
+    private TeatimeBoard teatimeBoard;
+    private List<Integer> waitingUserIds;
+
+    @Autowired
+    public LiveStatusLoadTest(LiveService liveService, LiveRepository liveRepository,
+                              TeatimeBoardRepository teatimeBoardRepository,
+                              TeatimeParticipantRepository teatimeParticipantRepository,
+                              UserRepository userRepository,
+                              PlatformTransactionManager transactionManager,
+                              EntityManagerFactory entityManagerFactory) {
+        this.liveService = liveService;
+        this.liveRepository = liveRepository;
+        this.teatimeBoardRepository = teatimeBoardRepository;
+        this.teatimeParticipantRepository = teatimeParticipantRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        deleteAll();
+
+        User writer = userRepository.save(User.builder()
+                .nickname("writer")
+                .authId("writerAuthId")
+                .build());
+        teatimeBoard = teatimeBoardRepository.save(TeatimeBoard.builder()
+                .title("TestTitle")
+                .content("TestContent")
+                .maxParticipants(WAITING_COUNT)
+                .endDate(LocalDateTime.now().plusHours(1L))
+                .broadcastDate(LocalDateTime.now())
+                .user(writer)
+                .build());
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < WAITING_COUNT; i++) {
+            users.add(User.builder()
+                    .nickname("user" + i)
+                    .authId("authId" + i)
+                    .build());
+        }
+        List<TeatimeParticipant> participants = new ArrayList<>();
+        waitingUserIds = new ArrayList<>();
+        for (User user : userRepository.saveAll(users)) {
+            waitingUserIds.add(user.getId());
+            participants.add(TeatimeParticipant.builder()
+                    .name("홍길동")
+                    .phone("01012345678")
+                    .address("경상북도 구미시 어떤7길 어떤타운 123호")
+                    .teatimeBoard(teatimeBoard)
+                    .user(user)
+                    .build());
+        }
+        teatimeParticipantRepository.saveAll(participants);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        deleteAll();
+    }
+
+    @Test
+    @DisplayName("isLiveOpen : 기다리는 참가자가 수천 명이어도 캐시가 채워진 뒤의 조회는 쿼리를 보내지 않는다")
+    public void isLiveOpen_WaitingParticipantsHitCache() throws Exception {
+        // given
+        assertThat(pollAll()).isZero();
+        statistics.clear();
+
+        // when
+        for (int round = 0; round < POLL_ROUNDS; round++) {
+            assertThat(pollAll()).isZero();
+        }
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("createLive : 방송이 생성되면 기다리던 참가자 모두가 다음 조회에서 쿼리 한 번으로 열린 방송을 본다")
+    public void createLive_WaitingParticipantsSeeOpenedLive() throws Exception {
+        // given
+        assertThat(pollAll()).isZero();
+        liveService.createLive(teatimeBoard.getId(), teatimeBoard.getUser().getId());
+        statistics.clear();
+
+        // when
+        int opened = pollAll();
+
+        // then
+        assertThat(opened).isEqualTo(WAITING_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    // 요청마다 OSIV처럼 영속성 컨텍스트를 열고 조회한다. 열린 방송을 본 참가자 수를 반환한다.
+    private int pollAll() throws InterruptedException {
+        AtomicInteger opened = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(waitingUserIds.size());
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        for (Integer userId : waitingUserIds) {
+            executorService.execute(() -> {
+                try {
+                    Boolean isOpen = transactionTemplate.execute(
+                            status -> liveService.isLiveOpen(teatimeBoard.getId(), userId));
+                    if (Boolean.TRUE.equals(isOpen)) {
+                        opened.incrementAndGet();
+                    }
+                } catch (RuntimeException e) {
+                    failed.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        assertThat(done.await(1, TimeUnit.MINUTES)).isTrue();
+        executorService.shutdown();
+
+        assertThat(failed.get()).isZero();
+        return opened.get();
+    }
+
+    private void deleteAll() {
+        liveRepository.deleteAll();
+        teatimeParticipantRepository.deleteAll();
+        teatimeBoardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+}
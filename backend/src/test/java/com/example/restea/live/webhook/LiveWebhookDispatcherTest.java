@@ -0,0 +1,123 @@
+package com.example.restea.live.webhook;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import livekit.LivekitModels.Room;
+import livekit.LivekitWebhook.WebhookEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LiveKit Webhook Dispatcher")
+class LiveWebhookDispatcherTest {
+
+    private static final int ROOM_COUNT = 20;
+    private static final int EVENTS_PER_ROOM = 500;
+    private static final int SENDER_COUNT = 4;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LiveWebhookDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("dispatch : LiveKit이 이벤트를 몰아서 중복 전송해도 방마다 한 번씩, 받은 순서대로 처리한다")
+    void dispatch_FloodKeepsRoomOrderAndDedupes() throws Exception {
+        // given
+        Map<String, List<Integer>> processed = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(ROOM_COUNT * EVENTS_PER_ROOM);
+        dispatcher = new LiveWebhookDispatcher(List.of(event -> {
+            processed.computeIfAbsent(event.getRoom().getName(), room -> new ArrayList<>())
+                    .add(Integer.parseInt(event.getId().substring(event.getId().lastIndexOf('-') + 1)));
+            done.countDown();
+        }), meterRegistry, 4, ROOM_COUNT * EVENTS_PER_ROOM, ROOM_COUNT * EVENTS_PER_ROOM);
+
+        // when : 로컬 LiveKit 역할을 하는 송신자들이 각자 맡은 방의 이벤트를 재전송까지 섞어서 보낸다.
+        ExecutorService senders = Executors.newFixedThreadPool(SENDER_COUNT);
+        for (int sender = 0; sender < SENDER_COUNT; sender++) {
+            int senderId = sender;
+            senders.execute(() -> {
+                for (int seq = 0; seq < EVENTS_PER_ROOM; seq++) {
+                    for (int room = senderId; room < ROOM_COUNT; room += SENDER_COUNT) {
+                        WebhookEvent event = event("room-" + room, seq);
+                        dispatcher.dispatch(event);
+                        dispatcher.dispatch(event); // 재전송
+                    }
+                }
+            });
+        }
+        senders.shutdown();
+
+        // then
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        assertThat(processed).hasSize(ROOM_COUNT);
+        processed.values().forEach(sequences -> {
+            assertThat(sequences).hasSize(EVENTS_PER_ROOM);
+            assertThat(sequences).isSorted();
+        });
+        assertThat(meterRegistry.counter("livekit.webhook.duplicate").count())
+                .isEqualTo(ROOM_COUNT * EVENTS_PER_ROOM);
+    }
+
+    @Test
+    @DisplayName("dispatch : 큐가 가득 차면 이벤트를 버리고, 버린 이벤트는 다시 받을 수 있다")
+    void dispatch_DropWhenQueueFull() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch secondStarted = new CountDownLatch(2);
+        CountDownLatch handled = new CountDownLatch(3);
+        dispatcher = new LiveWebhookDispatcher(List.of(event -> {
+            firstStarted.countDown();
+            secondStarted.countDown();
+            awaitQuietly(release);
+            handled.countDown();
+        }), meterRegistry, 1, 1, 100);
+
+        // when
+        assertTrue(dispatcher.dispatch(event("room", 0))); // 처리 중
+        assertTrue(firstStarted.await(10, TimeUnit.SECONDS)); // 큐에서 꺼내 처리를 시작할 때까지 기다린다
+        assertTrue(dispatcher.dispatch(event("room", 1))); // 큐에서 대기
+        boolean accepted = dispatcher.dispatch(event("room", 2)); // 큐가 가득 참
+
+        // then
+        assertFalse(accepted);
+        assertTrue(dispatcher.dispatch(event("room", 1))); // 이미 받은 이벤트의 재전송은 성공으로 응답한다
+        assertThat(meterRegistry.counter("livekit.webhook.dropped").count()).isEqualTo(1);
+
+        release.countDown();
+        assertTrue(secondStarted.await(10, TimeUnit.SECONDS)); // 대기하던 이벤트를 꺼내 큐가 빌 때까지 기다린다
+        assertTrue(dispatcher.dispatch(event("room", 2))); // LiveKit의 재전송
+        assertTrue(handled.await(10, TimeUnit.SECONDS));
+    }
+
+    private WebhookEvent event(String roomName, int seq) {
+        return WebhookEvent.newBuilder()
+                .setId(roomName + "-" + seq)
+                .setEvent("participant_joined")
+                .setRoom(Room.newBuilder().setName(roomName))
+                .build();
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
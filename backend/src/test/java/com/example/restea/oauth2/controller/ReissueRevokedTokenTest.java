@@ -0,0 +1,153 @@
+package com.example.restea.oauth2.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.restea.common.scheduler.RefreshTokenPurgeJob;
+import com.example.restea.oauth2.dto.JwtClaims;
+import com.example.restea.oauth2.jwt.JWTUtil;
+import com.example.restea.oauth2.repository.RefreshTokenRepository;
+import com.example.restea.oauth2.revocation.LocalRefreshTokenRevocationStore;
+import com.example.restea.oauth2.service.CustomOAuth2UserService;
+import com.example.restea.oauth2.service.RefreshTokenService;
+import com.example.restea.user.entity.User;
+import com.example.restea.user.repository.UserRepository;
+import com.example.restea.util.HibernateStatisticsTest;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.Cookie;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@HibernateStatisticsTest
+@AutoConfigureMockMvc
+public class ReissueRevokedTokenTest {
+
+    private final MockMvc mockMvc;
+    private final JWTUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenPurgeJob refreshTokenPurgeJob;
+    private final UserRepository userRepository;
+    private final CustomOAuth2UserService customOAuth2UserService;
+    private final Statistics statistics;
+
+    private User user;
+
+    @Autowired
+    public ReissueRevokedTokenTest(MockMvc mockMvc, JWTUtil jwtUtil, RefreshTokenService refreshTokenService,
+                                   RefreshTokenRepository refreshTokenRepository,
+                                   RefreshTokenPurgeJob refreshTokenPurgeJob, UserRepository userRepository,
+                                   CustomOAuth2UserService customOAuth2UserService,
+                                   EntityManagerFactory entityManagerFactory) {
+        this.mockMvc = mockMvc;
+        this.jwtUtil = jwtUtil;
+        this.refreshTokenService = refreshTokenService;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenPurgeJob = refreshTokenPurgeJob;
+        this.userRepository = userRepository;
+        this.customOAuth2UserService = customOAuth2UserService;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.deleteAll();
+        refreshTokenRepository.deleteAll();
+        customOAuth2UserService.handleNewUser("authId", "authToken", "picture");
+        user = userRepository.findByAuthIdAndActivated("authId", true)
+                .orElseThrow(() -> new RuntimeException("테스트를 위한 유저 생성 실패"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        userRepository.deleteAll();
+        refreshTokenRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("reissue : revoke 저장소에 없어도 DB에서 revoke 된 토큰은 purge와 저장소를 다시 불러온 뒤에도 거절한다")
+    public void reissue_RevokedAfterPurgeAndReload_Failure() throws Exception {
+        // given : 다른 서버에서 revoke 되어 이 서버의 저장소에는 없는 토큰
+        // 이 서버에서 사용 가능하다고 기억해둔 토큰이라면 usable-cache.ttl-seconds가 지난 뒤에 거절된다.
+        String refreshToken = issueRefreshToken();
+        JwtClaims claims = jwtUtil.parseClaims(refreshToken);
+        refreshTokenRepository.revokeByTokenId(claims.getTokenId());
+
+        // when
+        refreshTokenPurgeJob.purge();
+        LocalRefreshTokenRevocationStore reloadedStore = new LocalRefreshTokenRevocationStore(refreshTokenRepository,
+                30, 10_000);
+        reloadedStore.load();
+        ResultActions resultActions = reissue(refreshToken);
+
+        // then
+        resultActions.andExpect(status().isBadRequest());
+        assertThat(refreshTokenRepository.findByTokenId(claims.getTokenId())).isNotNull();
+        assertThat(reloadedStore.isRevoked(claims.getTokenId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("reissue : 서명이 올바르더라도 DB에 없는 토큰은 거절한다")
+    public void reissue_NotStored_Failure() throws Exception {
+        // given
+        String refreshToken = jwtUtil.createRefreshToken(user.getId(), user.getNickname(), "picture", "ROLE_USER");
+
+        // when
+        ResultActions resultActions = reissue(refreshToken);
+
+        // then
+        resultActions.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("isUsable : 최근에 DB에서 확인한 유효한 토큰은 DB를 다시 조회하지 않는다")
+    public void isUsable_KnownUsable_NoQuery() {
+        // given
+        String refreshToken = issueRefreshToken();
+        JwtClaims claims = jwtUtil.parseClaims(refreshToken);
+        assertThat(refreshTokenService.isUsable(claims)).isTrue();
+        statistics.clear();
+
+        // when
+        boolean usable = refreshTokenService.isUsable(claims);
+
+        // then
+        assertThat(usable).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("isUsable : 기억해둔 토큰도 revoke 하면 바로 거절한다")
+    public void isUsable_RevokedAfterKnownUsable_Failure() {
+        // given
+        String refreshToken = issueRefreshToken();
+        JwtClaims claims = jwtUtil.parseClaims(refreshToken);
+        assertThat(refreshTokenService.isUsable(claims)).isTrue();
+
+        // when
+        refreshTokenService.revoke(claims.getTokenId(), claims.getExpiredAt());
+
+        // then
+        assertThat(refreshTokenService.isUsable(claims)).isFalse();
+    }
+
+    private String issueRefreshToken() {
+        String refreshToken = jwtUtil.createRefreshToken(user.getId(), user.getNickname(), "picture", "ROLE_USER");
+        refreshTokenService.addRefreshToken(user, refreshToken);
+        return refreshToken;
+    }
+
+    private ResultActions reissue(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/api/v1/reissue")
+                .cookie(new Cookie("refresh", refreshToken)));
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.restea.oauth2.jwt;
+
+import static com.example.restea.oauth2.enums.TokenType.ACCESS;
+import static com.example.restea.oauth2.enums.TokenType.REFRESH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.restea.oauth2.dto.JwtClaims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("JWT Util")
+class JWTUtilTest {
+
+    private static final String SECRET = "testSecretKeyForJwtUtilMustBeLongEnoughForHs256";
+
+    private static final String PICTURE = "https://lh3.googleusercontent.com/a/ACg8ocJ1x2y3z4ExampleGoogleProfilePicture=s96-c";
+
+    private final JWTUtil jwtUtil = new JWTUtil(SECRET, false);
+
+    @Test
+    @DisplayName("parseClaims : 한 번의 파싱으로 모든 claim을 꺼낸다")
+    void parseClaims_Success() {
+        // given
+        String accessToken = jwtUtil.createAccessToken(1, "nickname", "picture", "ROLE_USER");
+
+        // when
+        JwtClaims claims = jwtUtil.parseClaims(accessToken);
+
+        // then
+        assertTrue(claims.isCategory(ACCESS));
+        assertFalse(claims.isCategory(REFRESH));
+        assertEquals(1, claims.getUserId());
+        assertEquals("nickname", claims.getNickname());
+        assertEquals("picture", claims.getPicture());
+        assertEquals("ROLE_USER", claims.getRole());
+        assertTrue(claims.getIssuedAt().isBefore(claims.getExpiredAt()));
+    }
+
+    @Test
+    @DisplayName("createJwt : 같은 claim으로 같은 시각에 발급해도 토큰마다 jti가 다르다")
+    void createJwt_UniqueTokenId() {
+        // given
+        String refreshToken1 = jwtUtil.createRefreshToken(1, "nickname", "picture", "ROLE_USER");
+        String refreshToken2 = jwtUtil.createRefreshToken(1, "nickname", "picture", "ROLE_USER");
+
+        // when
+        JwtClaims claims1 = jwtUtil.parseClaims(refreshToken1);
+        JwtClaims claims2 = jwtUtil.parseClaims(refreshToken2);
+
+        // then
+        assertNotNull(claims1.getTokenId());
+        assertNotEquals(claims1.getTokenId(), claims2.getTokenId());
+        assertNotEquals(refreshToken1, refreshToken2);
+    }
+
+    @Test
+    @DisplayName("createAccessToken : compact 형식이면 닉네임, 사진 없이 발급해서 헤더가 작아진다")
+    void createAccessToken_Compact() {
+        // given
+        JWTUtil compactJwtUtil = new JWTUtil(SECRET, true);
+
+        // when
+        String fullToken = jwtUtil.createAccessToken(1, "nickname", PICTURE, "ROLE_USER");
+        String compactToken = compactJwtUtil.createAccessToken(1, "nickname", PICTURE, "ROLE_USER");
+        JwtClaims claims = compactJwtUtil.parseClaims(compactToken);
+
+        // then
+        assertTrue(claims.isCategory(ACCESS));
+        assertEquals(1, claims.getUserId());
+        assertEquals("ROLE_USER", claims.getRole());
+        assertNull(claims.getNickname());
+        assertNull(claims.getPicture());
+        // 사진 URL은 base64url로 인코딩되어 4/3배가 된다.
+        assertTrue(fullToken.length() - compactToken.length() >= PICTURE.length());
+    }
+
+    @Test
+    @DisplayName("parseClaims : 만료된 토큰이라면 ExpiredJwtException")
+    void parseClaims_Expired() {
+        // given
+        SecretKey secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8),
+                Jwts.SIG.HS256.key().build().getAlgorithm());
+        String expiredToken = Jwts.builder()
+                .claim("category", ACCESS.getType())
+                .issuedAt(new Date(System.currentTimeMillis() - 2000L))
+                .expiration(new Date(System.currentTimeMillis() - 1000L))
+                .signWith(secretKey)
+                .compact();
+
+        // when & then
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.parseClaims(expiredToken));
+    }
+
+    @Test
+    @DisplayName("parseClaims : 서명이 다른 토큰이라면 JwtException")
+    void parseClaims_InvalidSignature() {
+        // given
+        JWTUtil otherJwtUtil = new JWTUtil("otherSecretKeyForJwtUtilMustBeLongEnoughForHs256", false);
+        String otherToken = otherJwtUtil.createAccessToken(1, "nickname", "picture", "ROLE_USER");
+
+        // when & then
+        assertThrows(JwtException.class, () -> jwtUtil.parseClaims(otherToken));
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.restea.oauth2.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.example.restea.oauth2.dto.OAuth2JwtMemberDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Verified Token Cache")
+class VerifiedTokenCacheTest {
+
+    private static final int MAX_SIZE = 2;
+
+    private MeterRegistry meterRegistry;
+    private VerifiedTokenCache verifiedTokenCache;
+    private OAuth2JwtMemberDTO member;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(MAX_SIZE, meterRegistry);
+        member = OAuth2JwtMemberDTO.builder()
+                .userId(1)
+                .nickname("nickname")
+                .role("ROLE_USER")
+                .build();
+    }
+
+    @Test
+    @DisplayName("get : 검증된 토큰이라면 캐싱된 유저 정보 반환")
+    void get_Hit() {
+        // given
+        verifiedTokenCache.put("token", member, LocalDateTime.now().plusMinutes(10));
+
+        // when & then
+        assertSame(member, verifiedTokenCache.get("token"));
+        assertNull(verifiedTokenCache.get("otherToken"));
+        assertEquals(1.0, meterRegistry.counter("jwt.verified_cache.hit").count());
+        assertEquals(1.0, meterRegistry.counter("jwt.verified_cache.miss").count());
+    }
+
+    @Test
+    @DisplayName("get : 만료된 토큰은 캐시에서 제거하고 다시 검증하도록 null 반환")
+    void get_Expired() {
+        // given
+        verifiedTokenCache.put("token", member, LocalDateTime.now().minusSeconds(1));
+
+        // when
+        OAuth2JwtMemberDTO result = verifiedTokenCache.get("token");
+        verifiedTokenCache.removeExpired();
+
+        // then
+        assertNull(result);
+        assertEquals(0, verifiedTokenCache.size());
+        assertEquals(1.0, meterRegistry.counter("jwt.verified_cache.eviction").count());
+    }
+
+    @Test
+    @DisplayName("put : 최대 개수를 넘으면 토큰 하나를 밀어낸다")
+    void put_EvictOneWhenFull() {
+        // given
+        LocalDateTime expiredAt = LocalDateTime.now().plusMinutes(10);
+        verifiedTokenCache.put("token1", member, expiredAt);
+        verifiedTokenCache.put("token2", member, expiredAt);
+
+        // when
+        verifiedTokenCache.put("token3", member, expiredAt);
+        verifiedTokenCache.removeExpired();
+
+        // then
+        assertEquals(MAX_SIZE, verifiedTokenCache.size());
+        assertEquals(1.0, meterRegistry.counter("jwt.verified_cache.eviction").count());
+    }
+
+    @Test
+    @DisplayName("removeExpired : 다시 요청되지 않은 만료 토큰 정리")
+    void removeExpired_Success() {
+        // given
+        verifiedTokenCache.put("expiredToken", member, LocalDateTime.now().minusSeconds(1));
+        verifiedTokenCache.put("token", member, LocalDateTime.now().plusMinutes(10));
+
+        // when
+        verifiedTokenCache.removeExpired();
+
+        // then
+        assertEquals(1, verifiedTokenCache.size());
+        assertSame(member, verifiedTokenCache.get("token"));
+    }
+
+    @Test
+    @DisplayName("get : 최대 개수가 0이면 캐싱하지 않음")
+    void get_Disabled() {
+        // given
+        VerifiedTokenCache disabledCache = new VerifiedTokenCache(0, meterRegistry);
+        disabledCache.put("token", member, LocalDateTime.now().plusMinutes(10));
+
+        // when & then
+        assertNull(disabledCache.get("token"));
+        assertEquals(0, disabledCache.size());
+    }
+}
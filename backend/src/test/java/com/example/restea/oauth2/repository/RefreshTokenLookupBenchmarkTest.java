@@ -0,0 +1,106 @@
+package com.example.restea.oauth2.repository;
+
+import static com.example.restea.util.BulkInsertTestUtil.ID_OFFSET;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.restea.ResteaApplication;
+import com.example.restea.util.BulkInsertTestUtil;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+
+// 과거 토큰이 백만 건 쌓인 refresh_token 테이블에서 재발급, 로그아웃이 하는 조회를 반복한다. ./gradlew benchmarkTest로 따로 실행한다.
+@Tag("benchmark")
+@SpringBootTest
+@ContextConfiguration(classes = ResteaApplication.class)
+public class RefreshTokenLookupBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenLookupBenchmarkTest.class);
+
+    private static final int TOKEN_COUNT = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int LOOKUP_COUNT = 10_000;
+    private static final String TOKEN_ID_INDEX = "uk_refresh_token_token_id";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public RefreshTokenLookupBenchmarkTest(RefreshTokenRepository refreshTokenRepository,
+                                           JdbcTemplate jdbcTemplate) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate.update("DELETE FROM refresh_token");
+        seedTokens();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM refresh_token");
+    }
+
+    @Test
+    @DisplayName("existsByTokenIdAndRevoked : 백만 건의 토큰 중에서도 token_id 인덱스로 한 행만 읽는다")
+    public void existsByTokenIdAndRevoked_MillionTokens() {
+        // given
+        String tokenId = tokenId(TOKEN_COUNT / 2);
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList(
+                "EXPLAIN SELECT * FROM refresh_token WHERE token_id = ? AND revoked = false", tokenId);
+
+        // when
+        long start = System.nanoTime();
+        int found = 0;
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            if (refreshTokenRepository.existsByTokenIdAndRevoked(
+                    tokenId(ThreadLocalRandom.current().nextInt(TOKEN_COUNT)), false)) {
+                found++;
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        // then
+        log.info("refresh token lookup among {} rows : {} us/lookup", TOKEN_COUNT,
+                elapsedNanos / LOOKUP_COUNT / 1_000);
+        assertThat(found).isEqualTo(LOOKUP_COUNT); // 모두 revoke 되지 않은 토큰
+        assertThat(plan.get(0).get("key")).isEqualTo(TOKEN_ID_INDEX);
+        assertThat(((Number) plan.get(0).get("rows")).longValue()).isEqualTo(1L);
+    }
+
+    private String tokenId(int i) {
+        return "historical-token-id-" + i;
+    }
+
+    private void seedTokens() {
+        String sql = "INSERT INTO refresh_token (refresh_token_id, value, token_id, issuedAt, expiredAt, revoked) "
+                + "VALUES (?, ?, ?, ?, ?, ?)";
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp issuedAt = Timestamp.valueOf(now.minusDays(1));
+        Timestamp expiredAt = Timestamp.valueOf(now.plusDays(1));
+
+        BulkInsertTestUtil.batchInsert(jdbcTemplate, sql, TOKEN_COUNT, BATCH_SIZE, (ps, i) -> {
+            ps.setInt(1, ID_OFFSET + i);
+            ps.setString(2, "historicalRefreshToken" + i);
+            ps.setString(3, tokenId(i));
+            ps.setTimestamp(4, issuedAt);
+            ps.setTimestamp(5, expiredAt);
+            ps.setBoolean(6, false);
+        });
+    }
+}
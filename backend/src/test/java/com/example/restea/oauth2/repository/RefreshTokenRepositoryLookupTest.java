@@ -0,0 +1,125 @@
+package com.example.restea.oauth2.repository;
+
+import static com.example.restea.util.BulkInsertTestUtil.ID_OFFSET;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.restea.ResteaApplication;
+import com.example.restea.common.scheduler.RefreshTokenPurgeJob;
+import com.example.restea.oauth2.entity.RefreshToken;
+import com.example.restea.user.entity.User;
+import com.example.restea.user.repository.UserRepository;
+import com.example.restea.util.BulkInsertTestUtil;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+
+@SpringBootTest
+@ContextConfiguration(classes = ResteaApplication.class)
+public class RefreshTokenRepositoryLookupTest {
+
+    private static final int TOKEN_COUNT = 100_000;
+    private static final int BATCH_SIZE = 5_000;
+    private static final String TOKEN_ID_INDEX = "uk_refresh_token_token_id";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenPurgeJob refreshTokenPurgeJob;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public RefreshTokenRepositoryLookupTest(RefreshTokenRepository refreshTokenRepository,
+                                            RefreshTokenPurgeJob refreshTokenPurgeJob,
+                                            UserRepository userRepository,
+                                            JdbcTemplate jdbcTemplate) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenPurgeJob = refreshTokenPurgeJob;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM refresh_token");
+        seedTokens();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        userRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM refresh_token");
+    }
+
+    @Test
+    @DisplayName("findByTokenId : 10만 건의 토큰 중에서도 token_id 인덱스로 한 건을 찾는다")
+    public void findByTokenId_UsesIndex() {
+        // given
+        String tokenId = tokenId(TOKEN_COUNT - 1);
+
+        // when
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenId(tokenId);
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList(
+                "EXPLAIN SELECT * FROM refresh_token WHERE token_id = ?", tokenId);
+
+        // then
+        assertThat(refreshToken.getId()).isEqualTo(ID_OFFSET + TOKEN_COUNT - 1);
+        assertThat(refreshToken.getValue()).isEqualTo(token(TOKEN_COUNT - 1));
+        assertThat(refreshTokenRepository.existsByTokenIdAndRevoked(tokenId, false)).isTrue();
+        assertThat(refreshTokenRepository.existsByTokenIdAndRevoked(tokenId(0), false)).isFalse(); // revoke 된 토큰
+        assertThat(plan.get(0).get("key")).isEqualTo(TOKEN_ID_INDEX);
+    }
+
+    @Test
+    @DisplayName("purge : 만료된 토큰 중 유저가 참조하지 않는 것만 삭제")
+    public void purge_Success() {
+        // given
+        // 짝수 번째는 revoke, 4로 나눈 나머지가 1이면 만료, 나머지는 유효한 토큰
+        User user = userRepository.save(User.builder().nickname("nickname").authId("authId").build());
+        jdbcTemplate.update("UPDATE users SET refresh_token_id = ? WHERE users_id = ?", ID_OFFSET + 1, user.getId());
+
+        // when
+        refreshTokenPurgeJob.purge();
+
+        // then
+        assertThat(refreshTokenRepository.count()).isEqualTo(TOKEN_COUNT - TOKEN_COUNT / 4 + 1);
+        assertThat(refreshTokenRepository.existsById(ID_OFFSET + 1)).isTrue(); // 유저가 참조하는 만료 토큰
+        assertThat(refreshTokenRepository.existsById(ID_OFFSET + 5)).isFalse(); // 만료된 토큰
+        assertThat(refreshTokenRepository.existsById(ID_OFFSET + 2)).isTrue(); // 만료 전까지 남겨두는 revoke 토큰
+        assertThat(refreshTokenRepository.existsById(ID_OFFSET + 3)).isTrue(); // 유효한 토큰
+    }
+
+    private String token(int i) {
+        return "historicalRefreshToken" + i;
+    }
+
+    private String tokenId(int i) {
+        return "historical-token-id-" + i;
+    }
+
+    private void seedTokens() {
+        String sql = "INSERT INTO refresh_token (refresh_token_id, value, token_id, issuedAt, expiredAt, revoked) "
+                + "VALUES (?, ?, ?, ?, ?, ?)";
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp issuedAt = Timestamp.valueOf(now.minusDays(2));
+        Timestamp expiredAt = Timestamp.valueOf(now.minusDays(1));
+        Timestamp notExpiredAt = Timestamp.valueOf(now.plusDays(1));
+
+        BulkInsertTestUtil.batchInsert(jdbcTemplate, sql, TOKEN_COUNT, BATCH_SIZE, (ps, i) -> {
+            ps.setInt(1, ID_OFFSET + i);
+            ps.setString(2, token(i));
+            ps.setString(3, tokenId(i));
+            ps.setTimestamp(4, issuedAt);
+            ps.setTimestamp(5, i % 4 == 1 ? expiredAt : notExpiredAt);
+            ps.setBoolean(6, i % 2 == 0);
+        });
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.restea.oauth2.revocation;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.example.restea.oauth2.entity.RefreshToken;
+import com.example.restea.oauth2.repository.RefreshTokenRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("Local Refresh Token Revocation Store")
+@ExtendWith(MockitoExtension.class)
+class LocalRefreshTokenRevocationStoreTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private LocalRefreshTokenRevocationStore revocationStore;
+
+    @BeforeEach
+    void setUp() {
+        revocationStore = new LocalRefreshTokenRevocationStore(refreshTokenRepository, 30, 100);
+    }
+
+    @Test
+    @DisplayName("load : DB에서 아직 만료되지 않은 revoke 토큰을 불러온다")
+    void load_Success() {
+        // given
+        RefreshToken revokedToken = RefreshToken.builder()
+                .value("revokedToken")
+                .tokenId("revokedTokenId")
+                .issuedAt(LocalDateTime.now())
+                .expiredAt(LocalDateTime.now().plusDays(1))
+                .build();
+        when(refreshTokenRepository.findAllByRevokedAndExpiredAtAfter(eq(true), any(LocalDateTime.class)))
+                .thenReturn(List.of(revokedToken));
+
+        // when
+        revocationStore.load();
+
+        // then
+        assertTrue(revocationStore.isRevoked("revokedTokenId"));
+        assertFalse(revocationStore.isRevoked("otherTokenId"));
+    }
+
+    @Test
+    @DisplayName("revoke : 이미 만료된 토큰은 서명 검증에서 걸러지므로 보관하지 않는다")
+    void revoke_Expired() {
+        // when
+        revocationStore.revoke("expiredTokenId", LocalDateTime.now().minusSeconds(1));
+        revocationStore.revoke("tokenId", LocalDateTime.now().plusDays(1));
+
+        // then
+        assertFalse(revocationStore.isRevoked("expiredTokenId"));
+        assertTrue(revocationStore.isRevoked("tokenId"));
+    }
+
+    @Test
+    @DisplayName("revoke : 사용 가능하다고 기억해둔 토큰을 revoke 하면 함께 지운다")
+    void revoke_ForgetUsable() {
+        // given
+        revocationStore.markUsable("tokenId");
+        revocationStore.markUsable("otherTokenId");
+
+        // when
+        revocationStore.revoke("tokenId", LocalDateTime.now().plusDays(1));
+
+        // then
+        assertFalse(revocationStore.isKnownUsable("tokenId"));
+        assertTrue(revocationStore.isKnownUsable("otherTokenId"));
+    }
+
+    @Test
+    @DisplayName("removeExpired : 보관 중에 만료된 토큰을 정리한다")
+    void removeExpired_Success() {
+        // given
+        revocationStore.revoke("tokenId", LocalDateTime.now().plusDays(1));
+        revocationStore.revoke("soonExpiredTokenId", LocalDateTime.now().plusNanos(1_000_000));
+        sleep();
+
+        // when
+        revocationStore.removeExpired();
+
+        // then
+        assertTrue(revocationStore.isRevoked("tokenId"));
+        assertFalse(revocationStore.isRevoked("soonExpiredTokenId"));
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
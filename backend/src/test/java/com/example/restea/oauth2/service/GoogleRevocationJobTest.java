@@ -0,0 +1,134 @@
+package com.example.restea.oauth2.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.restea.ResteaApplication;
+import com.example.restea.common.scheduler.GoogleRevocationJob;
+import com.example.restea.oauth2.entity.GoogleRevocation;
+import com.example.restea.oauth2.repository.GoogleRevocationRepository;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+// 구글 대신 로컬 HTTP 서버로 revoke 요청을 받는다.
+@SpringBootTest(properties = "google-revocation.poll-interval-ms=3600000")
+@ContextConfiguration(classes = ResteaApplication.class)
+public class GoogleRevocationJobTest {
+
+    private static final HttpServer STUB_SERVER;
+    private static final AtomicInteger STUB_STATUS = new AtomicInteger(200);
+    private static final Queue<String> RECEIVED_QUERIES = new ConcurrentLinkedQueue<>();
+
+    static {
+        try {
+            STUB_SERVER = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        STUB_SERVER.createContext("/revoke", exchange -> {
+            RECEIVED_QUERIES.add(exchange.getRequestURI().getQuery());
+            exchange.sendResponseHeaders(STUB_STATUS.get(), -1);
+            exchange.close();
+        });
+        STUB_SERVER.start();
+    }
+
+    private final GoogleRevocationService googleRevocationService;
+    private final GoogleRevocationRepository googleRevocationRepository;
+    private final GoogleRevocationJob googleRevocationJob;
+
+    @Autowired
+    public GoogleRevocationJobTest(GoogleRevocationService googleRevocationService,
+                                   GoogleRevocationRepository googleRevocationRepository,
+                                   GoogleRevocationJob googleRevocationJob) {
+        this.googleRevocationService = googleRevocationService;
+        this.googleRevocationRepository = googleRevocationRepository;
+        this.googleRevocationJob = googleRevocationJob;
+    }
+
+    @DynamicPropertySource
+    static void googleRevokeUrl(DynamicPropertyRegistry registry) {
+        registry.add("google.revoke-url",
+                () -> "http://localhost:" + STUB_SERVER.getAddress().getPort() + "/revoke");
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        STUB_SERVER.stop(0);
+    }
+
+    @BeforeEach
+    public void setUp() {
+        googleRevocationRepository.deleteAll();
+        RECEIVED_QUERIES.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        googleRevocationRepository.deleteAll();
+        STUB_STATUS.set(200);
+    }
+
+    @Test
+    @DisplayName("deliverDue : 전달에 성공한 요청은 outbox에서 삭제된다")
+    public void deliverDue_Success() {
+        // given
+        googleRevocationService.request("authToken");
+
+        // when
+        googleRevocationJob.deliverDue();
+
+        // then
+        assertThat(RECEIVED_QUERIES).containsExactly("token=authToken");
+        assertThat(googleRevocationRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("deliverDue : 이미 revoke 된 토큰이라 400이 오면 다시 보내지 않는다")
+    public void deliverDue_AlreadyRevoked() {
+        // given
+        STUB_STATUS.set(400);
+        googleRevocationService.request("authToken");
+
+        // when
+        googleRevocationJob.deliverDue();
+
+        // then
+        assertThat(RECEIVED_QUERIES).hasSize(1);
+        assertThat(googleRevocationRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("deliverDue : 전달에 실패하면 백오프 후에 다시 시도하도록 남겨둔다")
+    public void deliverDue_RetryWithBackoff() {
+        // given
+        STUB_STATUS.set(503);
+        googleRevocationService.request("authToken");
+
+        // when
+        googleRevocationJob.deliverDue();
+        googleRevocationJob.deliverDue(); // 백오프 중이므로 보내지 않는다
+
+        // then
+        assertThat(RECEIVED_QUERIES).hasSize(1);
+        List<GoogleRevocation> revocations = googleRevocationRepository.findAll();
+        assertThat(revocations).hasSize(1);
+        assertThat(revocations.get(0).getAttempts()).isEqualTo(1);
+        assertThat(revocations.get(0).getNextAttemptAt()).isAfter(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.restea.oauth2.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+@DisplayName("Request Path Table")
+class RequestPathTableTest {
+
+    private final RequestPathTable table = RequestPathTable.builder()
+            .add(HttpMethod.POST, "/api/v1/logout")
+            .add(HttpMethod.GET, "/api/v1/shares/**")
+            .add(null, "/api/v1/livekit/webhook/**")
+            .build();
+
+    @Test
+    @DisplayName("matches : 정확한 경로는 메소드까지 일치해야 한다")
+    void matches_ExactPath() {
+        assertTrue(table.matches("POST", "/api/v1/logout"));
+        assertFalse(table.matches("GET", "/api/v1/logout"));
+        assertFalse(table.matches("POST", "/api/v1/logout/other"));
+    }
+
+    @Test
+    @DisplayName("matches : /**는 자기 자신과 하위 경로에만 일치한다")
+    void matches_SubPaths() {
+        assertTrue(table.matches("GET", "/api/v1/shares"));
+        assertTrue(table.matches("GET", "/api/v1/shares/1/comments"));
+        assertFalse(table.matches("GET", "/api/v1/sharesX"));
+        assertFalse(table.matches("POST", "/api/v1/shares/1"));
+    }
+
+    @Test
+    @DisplayName("matches : 메소드를 지정하지 않으면 모든 메소드와 일치한다")
+    void matches_AnyMethod() {
+        assertTrue(table.matches("POST", "/api/v1/livekit/webhook"));
+        assertTrue(table.matches("GET", "/api/v1/livekit/webhook/room"));
+        assertFalse(table.matches("POST", "/api/v1/livekit"));
+    }
+
+    @Test
+    @DisplayName("builder : 지원하지 않는 패턴이라면 IllegalArgumentException")
+    void builder_UnsupportedPattern() {
+        RequestPathTable.Builder builder = RequestPathTable.builder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.add(HttpMethod.GET, "/api/v1/*/comments"));
+        assertThrows(IllegalArgumentException.class, () -> builder.add(HttpMethod.GET, "/api/v1/shares/{id}"));
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.restea.search.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.restea.ResteaApplication;
+import com.example.restea.oauth2.dto.CustomOAuth2User;
+import com.example.restea.oauth2.service.CustomOAuth2UserService;
+import com.example.restea.share.entity.ShareBoard;
+import com.example.restea.share.repository.ShareBoardRepository;
+import com.example.restea.teatime.entity.TeatimeBoard;
+import com.example.restea.teatime.repository.TeatimeBoardRepository;
+import com.example.restea.user.entity.User;
+import com.example.restea.user.repository.UserRepository;
+import com.example.restea.util.SecurityTestUtil;
+import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest
+@ContextConfiguration(classes = ResteaApplication.class)
+@AutoConfigureMockMvc
+public class SearchBoardsTest {
+
+    private final WebApplicationContext context;
+    private final TeatimeBoardRepository teatimeBoardRepository;
+    private final ShareBoardRepository shareBoardRepository;
+    private final UserRepository userRepository;
+    private final CustomOAuth2UserService customOAuth2UserService;
+    protected MockMvc mockMvc;
+    private CustomOAuth2User customOAuth2User;
+
+    @Autowired
+    public SearchBoardsTest(MockMvc mockMvc, WebApplicationContext context,
+                            TeatimeBoardRepository teatimeBoardRepository, ShareBoardRepository shareBoardRepository,
+                            UserRepository userRepository, CustomOAuth2UserService customOAuth2UserService) {
+        this.mockMvc = mockMvc;
+        this.context = context;
+        this.teatimeBoardRepository = teatimeBoardRepository;
+        this.shareBoardRepository = shareBoardRepository;
+        this.userRepository = userRepository;
+        this.customOAuth2UserService = customOAuth2UserService;
+    }
+
+    @Transactional
+    @BeforeEach
+    public void mockMvcSetUp() {
+        teatimeBoardRepository.deleteAll();
+        shareBoardRepository.deleteAll();
+        userRepository.deleteAll();
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @BeforeEach
+    public void OAuth2UserSetup() {
+        customOAuth2User = customOAuth2UserService.handleNewUser("authId", "authToken", "picture");
+        SecurityTestUtil.setUpSecurityContext(customOAuth2User);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        teatimeBoardRepository.deleteAll();
+        shareBoardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("searchBoards : 한글 검색어로 티타임 게시글 본문을 검색한다.")
+    public void searchBoards_Teatime_Content_Success() throws Exception {
+        // given
+        TeatimeBoard matched = saveTeatimeBoard("오늘의 티타임", "<p>제주 녹차 라떼를 마셔요</p>");
+        saveTeatimeBoard("다른 티타임", "<p>홍차 이야기</p>");
+
+        // when
+        ResultActions resultActions = search("teatime", "content", "녹차");
+
+        // then
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].boardId").value(matched.getId()))
+                .andExpect(jsonPath("$.pagination.total").value(1));
+    }
+
+    @Test
+    @DisplayName("searchBoards : 본문의 HTML 태그와 이미지 주소는 검색되지 않는다.")
+    public void searchBoards_Share_HtmlStripped() throws Exception {
+        // given
+        saveShareBoard("나눔합니다", "<p>다기 세트</p><img src=\"https://bucket.s3.amazonaws.com/teacup.png\">");
+
+        // when
+        ResultActions resultActions = search("share", "content", "teacup");
+
+        // then
+        resultActions.andExpect(status().isNoContent());
+    }
+
+    @Test
+    @DisplayName("searchBoards : 제목과 본문 모두에 검색어가 있는 글이 먼저 조회된다.")
+    public void searchBoards_Share_All_OrderedByRelevance() throws Exception {
+        // given
+        ShareBoard titleOnly = saveShareBoard("보이차 나눔", "<p>찻잎 조금</p>");
+        ShareBoard titleAndContent = saveShareBoard("보이차 나눔해요", "<p>보이차 보이차 숙성된 보이차</p>");
+
+        // when
+        ResultActions resultActions = search("share", "all", "보이차");
+
+        // then
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].boardId").value(titleAndContent.getId()))
+                .andExpect(jsonPath("$.data[1].boardId").value(titleOnly.getId()));
+    }
+
+    @Test
+    @DisplayName("searchBoards : 전체 검색은 본문에만 검색어가 있는 글도 찾는다.")
+    public void searchBoards_Teatime_All_ContentOnly() throws Exception {
+        // given
+        TeatimeBoard contentOnly = saveTeatimeBoard("오늘의 티타임", "<p>제주 녹차 라떼를 마셔요</p>");
+        saveTeatimeBoard("다른 티타임", "<p>홍차 이야기</p>");
+
+        // when
+        ResultActions resultActions = search("teatime", "all", "녹차");
+
+        // then
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].boardId").value(contentOnly.getId()));
+    }
+
+    @Test
+    @DisplayName("[BadRequest] searchBoards : 게시판 종류가 올바르지 않으면 실패한다.")
+    public void searchBoards_InvalidType_Failure() throws Exception {
+        // when
+        ResultActions resultActions = search("record", "all", "보이차");
+
+        // then
+        resultActions.andExpect(status().isBadRequest());
+    }
+
+    private ResultActions search(String type, String searchBy, String keyword) throws Exception {
+        return mockMvc.perform(get("/api/v1/search/boards")
+                .param("type", type)
+                .param("searchBy", searchBy)
+                .param("keyword", keyword)
+                .param("page", "1")
+                .param("perPage", "10")
+                .contentType(MediaType.APPLICATION_JSON));
+    }
+
+    private User getUser() {
+        return userRepository.findByAuthIdAndActivated("authId", true)
+                .orElseThrow(() -> new RuntimeException("테스트를 위한 유저 생성 실패"));
+    }
+
+    private TeatimeBoard saveTeatimeBoard(String title, String content) {
+        return teatimeBoardRepository.save(TeatimeBoard.builder()
+                .title(title)
+                .content(content)
+                .maxParticipants(10)
+                .endDate(LocalDateTime.now().plusWeeks(1L))
+                .broadcastDate(LocalDateTime.now().plusWeeks(2L))
+                .user(getUser())
+                .build());
+    }
+
+    private ShareBoard saveShareBoard(String title, String content) {
+        return shareBoardRepository.save(ShareBoard.builder()
+                .title(title)
+                .content(content)
+                .maxParticipants(10)
+                .endDate(LocalDateTime.now().plusWeeks(1L))
+                .user(getUser())
+                .build());
+    }
+}
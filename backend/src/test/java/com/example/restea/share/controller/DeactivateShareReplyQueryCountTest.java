@@ -0,0 +1,154 @@
+package com.example.restea.share.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static com.example.restea.util.BulkInsertTestUtil.ID_OFFSET;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.restea.oauth2.dto.CustomOAuth2User;
+import com.example.restea.oauth2.service.CustomOAuth2UserService;
+import com.example.restea.share.entity.ShareBoard;
+import com.example.restea.share.entity.ShareComment;
+import com.example.restea.share.entity.ShareReply;
+import com.example.restea.share.repository.ShareBoardRepository;
+import com.example.restea.share.repository.ShareCommentRepository;
+import com.example.restea.share.repository.ShareReplyRepository;
+import com.example.restea.user.entity.User;
+import com.example.restea.user.repository.UserRepository;
+import com.example.restea.util.BulkInsertTestUtil;
+import com.example.restea.util.HibernateStatisticsTest;
+import com.example.restea.util.SecurityTestUtil;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@HibernateStatisticsTest
+@AutoConfigureMockMvc
+public class DeactivateShareReplyQueryCountTest {
+
+    private static final int COMMENT_COUNT = 10_000;
+    private static final int BATCH_SIZE = 1_000;
+    // 유저, 게시글(작성자 포함), 댓글, 답글
+    private static final long MAX_LOADED_ENTITIES = 5;
+
+    private final WebApplicationContext context;
+    private final ShareBoardRepository shareBoardRepository;
+    private final ShareCommentRepository shareCommentRepository;
+    private final ShareReplyRepository shareReplyRepository;
+    private final UserRepository userRepository;
+    private final CustomOAuth2UserService customOAuth2UserService;
+    private final JdbcTemplate jdbcTemplate;
+    private final Statistics statistics;
+    protected MockMvc mockMvc;
+    private CustomOAuth2User customOAuth2User;
+
+    @Autowired
+    public DeactivateShareReplyQueryCountTest(MockMvc mockMvc, WebApplicationContext context,
+                                              ShareBoardRepository shareBoardRepository,
+                                              ShareCommentRepository shareCommentRepository,
+                                              ShareReplyRepository shareReplyRepository,
+                                              UserRepository userRepository,
+                                              CustomOAuth2UserService customOAuth2UserService,
+                                              JdbcTemplate jdbcTemplate,
+                                              EntityManagerFactory entityManagerFactory) {
+        this.mockMvc = mockMvc;
+        this.context = context;
+        this.shareBoardRepository = shareBoardRepository;
+        this.shareCommentRepository = shareCommentRepository;
+        this.shareReplyRepository = shareReplyRepository;
+        this.userRepository = userRepository;
+        this.customOAuth2UserService = customOAuth2UserService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Transactional
+    @BeforeEach
+    public void mockMvcSetUp() {
+        shareReplyRepository.deleteAll();
+        shareCommentRepository.deleteAll();
+        shareBoardRepository.deleteAll();
+        userRepository.deleteAll();
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @BeforeEach
+    public void OAuth2UserSetup() {
+        customOAuth2User = customOAuth2UserService.handleNewUser("authId", "authToken", "picture");
+        SecurityTestUtil.setUpSecurityContext(customOAuth2User);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM share_reply");
+        jdbcTemplate.update("DELETE FROM share_comment");
+        shareBoardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("deactivateShareReply : 댓글이 1만 개인 게시글에서도 댓글 컬렉션을 불러오지 않고 답글을 비활성화")
+    public void deactivateShareReply_ConstantLookup() throws Exception {
+        // given
+        User user = userRepository.findByAuthIdAndActivated("authId", true)
+                .orElseThrow(() -> new RuntimeException("테스트를 위한 유저 생성 실패"));
+        ShareBoard shareBoard = shareBoardRepository.save(ShareBoard.builder()
+                .title("Title")
+                .content("Content")
+                .maxParticipants(10)
+                .endDate(LocalDateTime.now().plusDays(1))
+                .user(user)
+                .build());
+        seedComments(shareBoard.getId(), user.getId());
+
+        ShareComment lastComment = shareCommentRepository.findById(ID_OFFSET + COMMENT_COUNT - 1)
+                .orElseThrow(() -> new RuntimeException("테스트를 위한 댓글 생성 실패"));
+        ShareReply shareReply = shareReplyRepository.save(ShareReply.builder()
+                .content("replyContent")
+                .shareComment(lastComment)
+                .user(user)
+                .build());
+        statistics.clear();
+
+        // when
+        ResultActions resultActions = mockMvc.perform(patch("/api/v1/shares/" + shareBoard.getId() + "/comments/"
+                + lastComment.getId() + "/deactivated-replies/" + shareReply.getId())
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .contentType(MediaType.APPLICATION_JSON_VALUE));
+
+        // then
+        resultActions.andExpect(status().isOk());
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(MAX_LOADED_ENTITIES);
+    }
+
+    private void seedComments(Integer shareBoardId, Integer userId) {
+        String sql = "INSERT INTO share_comment (share_comment_id, content, activated, share_board_id, users_id, "
+                + "createdDate, lastUpdated) VALUES (?, ?, true, ?, ?, ?, ?)";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        BulkInsertTestUtil.batchInsert(jdbcTemplate, sql, COMMENT_COUNT, BATCH_SIZE, (ps, i) -> {
+            ps.setInt(1, ID_OFFSET + i);
+            ps.setString(2, "Content" + i);
+            ps.setInt(3, shareBoardId);
+            ps.setInt(4, userId);
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.restea.share.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.restea.oauth2.dto.CustomOAuth2User;
+import com.example.restea.oauth2.service.CustomOAuth2UserService;
+import com.example.restea.share.entity.ShareBoard;
+import com.example.restea.share.entity.ShareParticipant;
+import com.example.restea.share.repository.ShareBoardRepository;
+import com.example.restea.share.repository.ShareParticipantRepository;
+import com.example.restea.user.entity.User;
+import com.example.restea.user.repository.UserRepository;
+import com.example.restea.util.HibernateStatisticsTest;
+import com.example.restea.util.SecurityTestUtil;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@HibernateStatisticsTest
+@AutoConfigureMockMvc
+public class GetShareBoardListQueryCountTest {
+
+    // 목록 조회 쿼리 + 전체 개수 쿼리 + 참여자 수 GROUP BY 쿼리
+    private static final long MAX_LIST_STATEMENTS = 3;
+    // 유저 검증 쿼리 + 위의 쿼리
+    private static final long MAX_MY_PAGE_STATEMENTS = 4;
+    private static final int BOARD_COUNT = 10;
+    private static final int PARTICIPANTS_PER_BOARD = 3;
+
+    private final WebApplicationContext context;
+    private final ShareBoardRepository shareBoardRepository;
+    private final ShareParticipantRepository shareParticipantRepository;
+    private final UserRepository userRepository;
+    private final CustomOAuth2UserService customOAuth2UserService;
+    private final Statistics statistics;
+    protected MockMvc mockMvc;
+    private CustomOAuth2User customOAuth2User;
+
+    @Autowired
+    public GetShareBoardListQueryCountTest(MockMvc mockMvc, WebApplicationContext context,
+                                             ShareBoardRepository shareBoardRepository,
+                                             ShareParticipantRepository shareParticipantRepository,
+                                             UserRepository userRepository,
+                                             CustomOAuth2UserService customOAuth2UserService,
+                                             EntityManagerFactory entityManagerFactory) {
+        this.mockMvc = mockMvc;
+        this.context = context;
+        this.shareBoardRepository = shareBoardRepository;
+        this.shareParticipantRepository = shareParticipantRepository;
+        this.userRepository = userRepository;
+        this.customOAuth2UserService = customOAuth2UserService;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Transactional
+    @BeforeEach
+    public void mockMvcSetUp() {
+        shareParticipantRepository.deleteAll();
+        shareBoardRepository.deleteAll();
+        userRepository.deleteAll();
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @BeforeEach
+    public void OAuth2UserSetup() {
+        customOAuth2User = customOAuth2UserService.handleNewUser("authId", "authToken", "picture");
+        SecurityTestUtil.setUpSecurityContext(customOAuth2User);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        shareParticipantRepository.deleteAll();
+        shareBoardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("getShareBoardList : 참여자가 있는 게시글 목록도 고정된 개수의 쿼리로 조회")
+    public void getShareBoardList_ConstantStatements() throws Exception {
+        // given
+        createBoardsWithParticipants();
+        statistics.clear();
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/shares")
+                .param("sort", "latest")
+                .param("perPage", String.valueOf(BOARD_COUNT))
+                .param("page", "1")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions.andExpect(status().isOk());
+        resultActions.andExpect(jsonPath("$.data.length()").value(BOARD_COUNT));
+        for (int i = 0; i < BOARD_COUNT; i++) {
+            resultActions.andExpect(jsonPath("$.data[" + i + "].participants").value(PARTICIPANTS_PER_BOARD));
+        }
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_LIST_STATEMENTS);
+    }
+
+    @Test
+    @DisplayName("getShareBoardList : 내가 작성한 나눔 목록도 고정된 개수의 쿼리로 조회")
+    public void getMyPageShareBoardList_ConstantStatements() throws Exception {
+        // given
+        createBoardsWithParticipants();
+        statistics.clear();
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                get("/api/v1/users/" + customOAuth2User.getUserId() + "/mypage/shares")
+                        .param("perPage", String.valueOf(BOARD_COUNT))
+                        .param("page", "1")
+                        .contentType(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions.andExpect(status().isOk());
+        resultActions.andExpect(jsonPath("$.data.length()").value(BOARD_COUNT));
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_MY_PAGE_STATEMENTS);
+    }
+
+    private void createBoardsWithParticipants() {
+        User writer = userRepository.findByAuthIdAndActivated("authId", true)
+                .orElseThrow(() -> new RuntimeException("테스트를 위한 유저 생성 실패"));
+
+        List<User> participants = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANTS_PER_BOARD; i++) {
+            participants.add(userRepository.save(User.builder()
+                    .nickname("otherUser" + i)
+                    .authId("otherAuthId" + i)
+                    .build()));
+        }
+
+        for (int i = 0; i < BOARD_COUNT; i++) {
+            ShareBoard shareBoard = shareBoardRepository.save(ShareBoard.builder()
+                    .title("Title" + i)
+                    .content("Content" + i)
+                    .maxParticipants(10)
+                    .endDate(LocalDateTime.now().plusWeeks(1L))
+                    .user(writer)
+                    .build());
+
+            participants.forEach(participant -> shareParticipantRepository.save(ShareParticipant.builder()
+                    .name("name")
+                    .phone("010-1234-5678")
+                    .address("address")
+                    .shareBoard(shareBoard)
+                    .user(participant)
+                    .build()));
+        }
+    }
+}
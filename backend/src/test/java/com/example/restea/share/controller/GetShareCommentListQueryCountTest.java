@@ -0,0 +1,160 @@
+package com.example.restea.share.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.restea.oauth2.dto.CustomOAuth2User;
+import com.example.restea.oauth2.service.CustomOAuth2UserService;
+import com.example.restea.share.entity.ShareBoard;
+import com.example.restea.share.entity.ShareComment;
+import com.example.restea.share.entity.ShareReply;
+import com.example.restea.share.repository.ShareBoardRepository;
+import com.example.restea.share.repository.ShareCommentRepository;
+import com.example.restea.share.repository.ShareReplyRepository;
+import com.example.restea.user.entity.User;
+import com.example.restea.user.repository.UserRepository;
+import com.example.restea.util.HibernateStatisticsTest;
+import com.example.restea.util.SecurityTestUtil;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@HibernateStatisticsTest
+@AutoConfigureMockMvc
+public class GetShareCommentListQueryCountTest {
+
+    // 게시글 조회 쿼리 + 댓글 목록 쿼리 + 전체 개수 쿼리 + 답글 수 GROUP BY 쿼리
+    private static final long MAX_LIST_STATEMENTS = 4;
+    private static final int COMMENT_COUNT = 10;
+    private static final int REPLIES_PER_COMMENT = 3;
+    private static final int WRITER_COUNT = 5;
+
+    private final WebApplicationContext context;
+    private final ShareBoardRepository shareBoardRepository;
+    private final ShareCommentRepository shareCommentRepository;
+    private final ShareReplyRepository shareReplyRepository;
+    private final UserRepository userRepository;
+    private final CustomOAuth2UserService customOAuth2UserService;
+    private final Statistics statistics;
+    protected MockMvc mockMvc;
+    private CustomOAuth2User customOAuth2User;
+
+    @Autowired
+    public GetShareCommentListQueryCountTest(MockMvc mockMvc, WebApplicationContext context,
+                                             ShareBoardRepository shareBoardRepository,
+                                             ShareCommentRepository shareCommentRepository,
+                                             ShareReplyRepository shareReplyRepository,
+                                             UserRepository userRepository,
+                                             CustomOAuth2UserService customOAuth2UserService,
+                                             EntityManagerFactory entityManagerFactory) {
+        this.mockMvc = mockMvc;
+        this.context = context;
+        this.shareBoardRepository = shareBoardRepository;
+        this.shareCommentRepository = shareCommentRepository;
+        this.shareReplyRepository = shareReplyRepository;
+        this.userRepository = userRepository;
+        this.customOAuth2UserService = customOAuth2UserService;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Transactional
+    @BeforeEach
+    public void mockMvcSetUp() {
+        shareReplyRepository.deleteAll();
+        shareCommentRepository.deleteAll();
+        shareBoardRepository.deleteAll();
+        userRepository.deleteAll();
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @BeforeEach
+    public void OAuth2UserSetup() {
+        customOAuth2User = customOAuth2UserService.handleNewUser("authId", "authToken", "picture");
+        SecurityTestUtil.setUpSecurityContext(customOAuth2User);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        shareReplyRepository.deleteAll();
+        shareCommentRepository.deleteAll();
+        shareBoardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("getShareCommentList : 답글이 달린 댓글 목록도 고정된 개수의 쿼리로 조회")
+    public void getShareCommentList_ConstantStatements() throws Exception {
+        // given
+        ShareBoard shareBoard = createCommentsWithReplies();
+        statistics.clear();
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/shares/" + shareBoard.getId() + "/comments")
+                .param("perPage", String.valueOf(COMMENT_COUNT))
+                .param("page", "1")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions.andExpect(status().isOk());
+        resultActions.andExpect(jsonPath("$.data.length()").value(COMMENT_COUNT));
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            resultActions.andExpect(jsonPath("$.data[" + i + "].replyCount").value(REPLIES_PER_COMMENT));
+        }
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_LIST_STATEMENTS);
+    }
+
+    private ShareBoard createCommentsWithReplies() {
+        User user = userRepository.findByAuthIdAndActivated("authId", true)
+                .orElseThrow(() -> new RuntimeException("테스트를 위한 유저 생성 실패"));
+
+        List<User> writers = new ArrayList<>();
+        for (int i = 0; i < WRITER_COUNT; i++) {
+            writers.add(userRepository.save(User.builder()
+                    .nickname("otherUser" + i)
+                    .authId("otherAuthId" + i)
+                    .build()));
+        }
+
+        ShareBoard shareBoard = shareBoardRepository.save(ShareBoard.builder()
+                .title("Title")
+                .content("Content")
+                .maxParticipants(10)
+                .endDate(LocalDateTime.now().plusDays(1))
+                .user(user)
+                .build());
+
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            ShareComment shareComment = shareCommentRepository.save(ShareComment.builder()
+                    .content("Content" + i)
+                    .shareBoard(shareBoard)
+                    .user(writers.get(i % WRITER_COUNT))
+                    .build());
+
+            for (int j = 0; j < REPLIES_PER_COMMENT; j++) {
+                shareReplyRepository.save(ShareReply.builder()
+                        .content("Reply" + j)
+                        .shareComment(shareComment)
+                        .user(writers.get(j % WRITER_COUNT))
+                        .build());
+            }
+        }
+        return shareBoard;
+    }
+}
@@ -1,10 +1,10 @@
 package com.example.restea.share.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-import com.example.restea.ResteaApplication;
 import com.example.restea.oauth2.dto.CustomOAuth2User;
 import com.example.restea.oauth2.service.CustomOAuth2UserService;
 import com.example.restea.share.entity.ShareBoard;
@@ -14,29 +14,30 @@ import com.example.restea.share.repository.ShareCommentRepository;
 import com.example.restea.share.repository.ShareReplyRepository;
 import com.example.restea.user.entity.User;
 import com.example.restea.user.repository.UserRepository;
+import com.example.restea.util.HibernateStatisticsTest;
 import com.example.restea.util.SecurityTestUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.transaction.Transactional;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
-import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
-import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
-@SpringBootTest
-@ContextConfiguration(classes = ResteaApplication.class)
+@HibernateStatisticsTest
 @AutoConfigureMockMvc
 public class GetShareCommentListTest {
     private final WebApplicationContext context;
@@ -45,6 +46,7 @@ public class GetShareCommentListTest {
     private final ShareCommentRepository shareCommentRepository;
     private final ShareReplyRepository shareReplyRepository;
     private final CustomOAuth2UserService custumOAuth2UserService;
+    private final Statistics statistics;
     private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd-HH:mm");
     protected MockMvc mockMvc;
     protected ObjectMapper objectMapper;
@@ -55,7 +57,8 @@ public class GetShareCommentListTest {
                                    ShareBoardRepository shareBoardRepository, UserRepository userRepository,
                                    ShareCommentRepository shareCommentRepository,
                                    ShareReplyRepository shareReplyRepository,
-                                   CustomOAuth2UserService custumOAuth2UserService) {
+                                   CustomOAuth2UserService custumOAuth2UserService,
+                                   EntityManagerFactory entityManagerFactory) {
         this.mockMvc = mockMvc;
         this.objectMapper = objectMapper;
         this.context = context;
@@ -64,6 +67,7 @@ public class GetShareCommentListTest {
         this.shareCommentRepository = shareCommentRepository;
         this.shareReplyRepository = shareReplyRepository;
         this.custumOAuth2UserService = custumOAuth2UserService;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
     }
 
     // nickname : "TestUser", authId : "authId", authToken : "authToken"
@@ -140,6 +144,47 @@ public class GetShareCommentListTest {
         }
     }
 
+    @DisplayName("getShareCommentList : 댓글 작성자가 여러 명이어도 작성자를 따로 조회하지 않는다.")
+    @Test
+    public void getShareCommentList_WriterFetchJoin() throws Exception {
+        // given
+        User user = userRepository.findByAuthIdAndActivated("authId", true)
+                .orElseThrow(() -> new RuntimeException("테스트를 위한 유저 생성 실패"));
+
+        ShareBoard shareBoard = shareBoardRepository.save(ShareBoard.builder()
+                .title("Title")
+                .content("Content")
+                .maxParticipants(10)
+                .endDate(LocalDateTime.now().plusDays(1))
+                .user(user)
+                .build());
+
+        List<User> writers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            writers.add(userRepository.save(User.builder().nickname("writer" + i).authId("writerAuthId" + i).build()));
+        }
+        for (int i = 0; i < 10; i++) {
+            shareCommentRepository.save(ShareComment.builder()
+                    .content("Content" + i)
+                    .shareBoard(shareBoard)
+                    .user(writers.get(i % writers.size()))
+                    .build());
+        }
+
+        statistics.clear();
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/shares/" + shareBoard.getId() + "/comments")
+                .param("perPage", "10")
+                .param("page", "1")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions.andExpect(status().isOk());
+        resultActions.andExpect(jsonPath("$.data.length()").value(10));
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getFetchCount()).isZero();
+    }
+
     @DisplayName("getShareCommentList : 나눔 게시판 댓글 목록 조회 성공 - perPage가 5일 때")
     @Test
     public void getShareBoardList_5_Success() throws Exception {
@@ -0,0 +1,164 @@
+package com.example.restea.share.repository;
+
+import static com.example.restea.util.BulkInsertTestUtil.ID_OFFSET;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.restea.ResteaApplication;
+import com.example.restea.search.dto.BoardSearchCondition;
+import com.example.restea.user.entity.User;
+import com.example.restea.user.repository.UserRepository;
+import com.example.restea.util.BulkInsertTestUtil;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+
+@SpringBootTest
+@ContextConfiguration(classes = ResteaApplication.class)
+public class ShareBoardSearchRepositoryCountTest {
+
+    private static final int BOARD_COUNT = 100_000;
+    private static final int BATCH_SIZE = 5_000;
+
+    private final ShareBoardSearchRepository shareBoardSearchRepository;
+    private final ShareBoardRepository shareBoardRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ShareBoardSearchRepositoryCountTest(ShareBoardSearchRepository shareBoardSearchRepository,
+                                               ShareBoardRepository shareBoardRepository,
+                                               UserRepository userRepository,
+                                               JdbcTemplate jdbcTemplate) {
+        this.shareBoardSearchRepository = shareBoardSearchRepository;
+        this.shareBoardRepository = shareBoardRepository;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @BeforeEach
+    public void setUp() {
+        shareBoardRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User countWriter = userRepository.save(User.builder().nickname("countWriter").authId("countAuthId").build());
+        User otherWriter = userRepository.save(User.builder().nickname("otherWriter").authId("otherAuthId").build());
+        seedBoards(countWriter.getId(), otherWriter.getId());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM share_board");
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("countBySearchCondition : 10만 건에서 조건별 전체 개수를 COUNT 쿼리로 정확히 센다")
+    public void countBySearchCondition_Success() {
+        // 10개 중 1개는 비활성화, 짝수 번째만 마감 전, 4의 배수만 제목에 target, 5의 배수는 countWriter가 작성
+        assertThat(shareBoardSearchRepository.countBySearchCondition(condition("latest", null, null)))
+                .isEqualTo(90_000);
+        assertThat(shareBoardSearchRepository.countBySearchCondition(condition("urgent", null, null)))
+                .isEqualTo(40_000);
+        assertThat(shareBoardSearchRepository.countBySearchCondition(condition("latest", "title", "target")))
+                .isEqualTo(20_000);
+        assertThat(shareBoardSearchRepository.countBySearchCondition(condition("urgent", "title", "target")))
+                .isEqualTo(20_000);
+        assertThat(shareBoardSearchRepository.countBySearchCondition(condition("latest", "writer", "countW")))
+                .isEqualTo(10_000);
+        assertThat(shareBoardSearchRepository.countBySearchCondition(condition("latest", "title", "nothing")))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("countBySearchCondition : 작성일 범위, 모집 중 조건을 검색어와 함께 조합한다")
+    public void countBySearchCondition_CombinedFilters() {
+        LocalDate today = LocalDate.now();
+
+        assertThat(shareBoardSearchRepository.countBySearchCondition(BoardSearchCondition.builder()
+                .sort("latest").openOnly(true).build())).isEqualTo(40_000);
+        assertThat(shareBoardSearchRepository.countBySearchCondition(BoardSearchCondition.builder()
+                .sort("latest").from(today).to(today).build())).isEqualTo(90_000);
+        assertThat(shareBoardSearchRepository.countBySearchCondition(BoardSearchCondition.builder()
+                .sort("latest").to(today.minusDays(1)).build())).isZero();
+        assertThat(shareBoardSearchRepository.countBySearchCondition(BoardSearchCondition.builder()
+                .sort("latest").searchBy("title").keyword("target").from(today).openOnly(true).build()))
+                .isEqualTo(20_000);
+    }
+
+    @Test
+    @DisplayName("getOrCount : 캐싱을 켜면 첫 페이지만 다시 세고 이후 페이지는 캐싱된 개수를 사용한다")
+    public void getOrCount_CachedTotal() {
+        // given
+        ShareBoardCountCache countCache = new ShareBoardCountCache(60);
+        AtomicInteger countQueries = new AtomicInteger();
+
+        // when
+        for (int page = 1; page <= 50; page++) {
+            long total = countCache.getOrCount(condition("latest", null, null), page, () -> {
+                countQueries.incrementAndGet();
+                return shareBoardSearchRepository.countBySearchCondition(condition("latest", null, null));
+            });
+
+            // then
+            assertThat(total).isEqualTo(90_000);
+        }
+        assertThat(countQueries.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("getOrCount : TTL이 0이면 매 페이지마다 다시 센다")
+    public void getOrCount_Disabled() {
+        // given
+        ShareBoardCountCache countCache = new ShareBoardCountCache(0);
+        AtomicInteger countQueries = new AtomicInteger();
+
+        // when
+        for (int page = 1; page <= 3; page++) {
+            countCache.getOrCount(condition("urgent", null, null), page, () -> {
+                countQueries.incrementAndGet();
+                return shareBoardSearchRepository.countBySearchCondition(condition("urgent", null, null));
+            });
+        }
+
+        // then
+        assertThat(countQueries.get()).isEqualTo(3);
+    }
+
+    private BoardSearchCondition condition(String sort, String searchBy, String keyword) {
+        return BoardSearchCondition.builder()
+                .sort(sort)
+                .searchBy(searchBy)
+                .keyword(keyword)
+                .build();
+    }
+
+    private void seedBoards(Integer countWriterId, Integer otherWriterId) {
+        String sql = "INSERT INTO share_board (share_board_id, title, content, maxParticipants, endDate, "
+                + "viewCount, participantCount, activated, users_id, createdDate, lastUpdated) "
+                + "VALUES (?, ?, ?, ?, ?, 0, 0, ?, ?, ?, ?)";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp future = Timestamp.valueOf(LocalDateTime.now().plusWeeks(1L));
+        Timestamp past = Timestamp.valueOf(LocalDateTime.now().minusWeeks(1L));
+
+        BulkInsertTestUtil.batchInsert(jdbcTemplate, sql, BOARD_COUNT, BATCH_SIZE, (ps, i) -> {
+            ps.setInt(1, ID_OFFSET + i);
+            ps.setString(2, (i % 4 == 0 ? "target" : "Title") + i);
+            ps.setString(3, "Content" + i);
+            ps.setInt(4, 10);
+            ps.setTimestamp(5, i % 2 == 0 ? future : past);
+            ps.setBoolean(6, i % 10 != 0);
+            ps.setInt(7, i % 5 == 0 ? countWriterId : otherWriterId);
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+    }
+}
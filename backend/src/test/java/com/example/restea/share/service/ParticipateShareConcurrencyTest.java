@@ -0,0 +1,131 @@
+package com.example.restea.share.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.restea.ResteaApplication;
+import com.example.restea.oauth2.service.CustomOAuth2UserService;
+import com.example.restea.share.dto.ShareJoinRequest;
+import com.example.restea.share.entity.ShareBoard;
+import com.example.restea.share.repository.ShareBoardRepository;
+import com.example.restea.share.repository.ShareParticipantRepository;
+import com.example.restea.user.entity.User;
+import com.example.restea.user.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.web.server.ResponseStatusException;
+
+@SpringBootTest
+@ContextConfiguration(classes = ResteaApplication.class)
+public class ParticipateShareConcurrencyTest {
+
+    private static final int REQUEST_COUNT = 300;
+    private static final int MAX_PARTICIPANTS = 50;
+    private static final int THREAD_COUNT = 32;
+
+    private final ShareParticipantService shareParticipantService;
+    private final ShareBoardRepository shareBoardRepository;
+    private final ShareParticipantRepository shareParticipantRepository;
+    private final UserRepository userRepository;
+    private final CustomOAuth2UserService customOAuth2UserService;
+
+    @Autowired
+    public ParticipateShareConcurrencyTest(ShareParticipantService shareParticipantService,
+                                                ShareBoardRepository shareBoardRepository,
+                                                ShareParticipantRepository shareParticipantRepository,
+                                                UserRepository userRepository,
+                                                CustomOAuth2UserService customOAuth2UserService) {
+        this.shareParticipantService = shareParticipantService;
+        this.shareBoardRepository = shareBoardRepository;
+        this.shareParticipantRepository = shareParticipantRepository;
+        this.userRepository = userRepository;
+        this.customOAuth2UserService = customOAuth2UserService;
+    }
+
+    @BeforeEach
+    public void setUp() {
+        shareParticipantRepository.deleteAll();
+        shareBoardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        shareParticipantRepository.deleteAll();
+        shareBoardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("participate : 동시에 많은 참가 신청이 들어와도 정원을 초과하지 않음")
+    public void participate_Concurrent_NotOversubscribed() throws Exception {
+        // given
+        customOAuth2UserService.handleNewUser("authId", "authToken", "picture");
+        User writer = userRepository.findByAuthIdAndActivated("authId", true)
+                .orElseThrow(() -> new RuntimeException("테스트를 위한 유저 생성 실패"));
+
+        ShareBoard shareBoard = shareBoardRepository.save(ShareBoard.builder()
+                .title("TestTitle")
+                .content("TestContent")
+                .maxParticipants(MAX_PARTICIPANTS)
+                .endDate(LocalDateTime.now().plusWeeks(1L))
+                .user(writer)
+                .build());
+
+        List<Integer> userIds = new ArrayList<>();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            userIds.add(userRepository.save(User.builder()
+                    .nickname("user" + i)
+                    .authId("authId" + i)
+                    .build()).getId());
+        }
+
+        ShareJoinRequest request = new ShareJoinRequest("홍길동", "010-1234-5678", "경상북도 구미시 어떤7길 어떤타운 123호");
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUEST_COUNT);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        // when
+        for (Integer userId : userIds) {
+            executorService.execute(() -> {
+                try {
+                    start.await();
+                    shareParticipantService.participate(shareBoard.getId(), request, userId);
+                    succeeded.incrementAndGet();
+                } catch (ResponseStatusException e) {
+                    rejected.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(1, TimeUnit.MINUTES)).isTrue();
+        executorService.shutdown();
+
+        // then
+        ShareBoard result = shareBoardRepository.findById(shareBoard.getId())
+                .orElseThrow(() -> new RuntimeException("게시글 조회 실패"));
+
+        assertThat(succeeded.get()).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(rejected.get()).isEqualTo(REQUEST_COUNT - MAX_PARTICIPANTS);
+        assertThat(result.getParticipantCount()).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(shareParticipantRepository.count()).isEqualTo(MAX_PARTICIPANTS);
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.restea.teatime.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.restea.ResteaApplication;
+import com.example.restea.oauth2.dto.CustomOAuth2User;
+import com.example.restea.oauth2.service.CustomOAuth2UserService;
+import com.example.restea.teatime.entity.TeatimeBoard;
+import com.example.restea.teatime.repository.TeatimeBoardRepository;
+import com.example.restea.user.entity.User;
+import com.example.restea.user.repository.UserRepository;
+import com.example.restea.util.SecurityTestUtil;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest
+@ContextConfiguration(classes = ResteaApplication.class)
+@AutoConfigureMockMvc
+class GetTeatimeBoardListCursorTest {
+
+    private static final int BOARD_COUNT = 25;
+    private static final int PER_PAGE = 10;
+
+    private final WebApplicationContext context;
+    private final TeatimeBoardRepository teatimeBoardRepository;
+    private final UserRepository userRepository;
+    private final CustomOAuth2UserService customOAuth2UserService;
+    protected MockMvc mockMvc;
+    private CustomOAuth2User customOAuth2User;
+
+    @Autowired
+    public GetTeatimeBoardListCursorTest(MockMvc mockMvc, WebApplicationContext context,
+                                         TeatimeBoardRepository teatimeBoardRepository, UserRepository userRepository,
+                                         CustomOAuth2UserService customOAuth2UserService) {
+        this.mockMvc = mockMvc;
+        this.context = context;
+        this.teatimeBoardRepository = teatimeBoardRepository;
+        this.userRepository = userRepository;
+        this.customOAuth2UserService = customOAuth2UserService;
+    }
+
+    @Transactional
+    @BeforeEach
+    public void mockMvcSetUp() {
+        teatimeBoardRepository.deleteAll();
+        userRepository.deleteAll();
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @BeforeEach
+    public void OAuth2UserSetup() {
+        customOAuth2User = customOAuth2UserService.handleNewUser("authId", "authToken", "picture");
+        SecurityTestUtil.setUpSecurityContext(customOAuth2User);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        teatimeBoardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @DisplayName("getTeatimeBoardList : 커서로 끝까지 넘기면 모든 게시글을 최신순으로 한 번씩 조회한다.")
+    @Test
+    public void getTeatimeBoardList_Cursor_Latest_Success() throws Exception {
+        // given
+        List<TeatimeBoard> teatimeBoards = createTeatimeBoards();
+        List<Integer> expectedIds = teatimeBoards.stream()
+                .map(TeatimeBoard::getId)
+                .sorted(Comparator.reverseOrder())
+                .toList();
+
+        // when
+        List<Integer> fetchedIds = fetchAllByCursor("latest");
+
+        // then
+        assertThat(fetchedIds).containsExactlyElementsOf(expectedIds);
+    }
+
+    @DisplayName("getTeatimeBoardList : 마감 임박순 커서 조회는 마감일이 가까운 게시글부터 한 번씩 조회한다.")
+    @Test
+    public void getTeatimeBoardList_Cursor_Urgent_Success() throws Exception {
+        // given
+        List<TeatimeBoard> teatimeBoards = createTeatimeBoards();
+        List<Integer> expectedIds = teatimeBoards.stream()
+                .sorted(Comparator.comparing(TeatimeBoard::getEndDate).thenComparing(TeatimeBoard::getId))
+                .map(TeatimeBoard::getId)
+                .toList();
+
+        // when
+        List<Integer> fetchedIds = fetchAllByCursor("urgent");
+
+        // then
+        assertThat(fetchedIds).containsExactlyElementsOf(expectedIds);
+    }
+
+    @DisplayName("[BadRequest] getTeatimeBoardList : 올바르지 않은 커서로 조회하면 실패한다.")
+    @Test
+    public void getTeatimeBoardList_Cursor_BadRequest_Failure() throws Exception {
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/teatimes")
+                .param("sort", "latest")
+                .param("perPage", String.valueOf(PER_PAGE))
+                .param("page", "1")
+                .param("cursor", "invalid-cursor")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions.andExpect(status().isBadRequest());
+    }
+
+    private List<Integer> fetchAllByCursor(String sort) throws Exception {
+        List<Integer> fetchedIds = new ArrayList<>();
+        String cursor = "";
+        int pages = 0;
+
+        while (cursor != null) {
+            String response = mockMvc.perform(get("/api/v1/teatimes")
+                            .param("sort", sort)
+                            .param("perPage", String.valueOf(PER_PAGE))
+                            .param("page", "1")
+                            .param("cursor", cursor)
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.pagination.perPage").value(PER_PAGE))
+                    .andReturn().getResponse().getContentAsString();
+
+            fetchedIds.addAll(JsonPath.read(response, "$.data[*].boardId"));
+            Map<String, Object> pagination = JsonPath.read(response, "$.pagination");
+            cursor = (String) pagination.get("nextCursor");
+            pages++;
+        }
+
+        assertThat(pages).isEqualTo((BOARD_COUNT - 1) / PER_PAGE + 1);
+        return fetchedIds;
+    }
+
+    // 같은 마감일을 가진 게시글도 섞어서 id 보조 정렬까지 확인
+    private List<TeatimeBoard> createTeatimeBoards() {
+        User user = userRepository.findByAuthIdAndActivated("authId", true)
+                .orElseThrow(() -> new RuntimeException("테스트를 위한 유저 생성 실패"));
+        LocalDateTime baseEndDate = LocalDateTime.now().plusWeeks(1L).withNano(0);
+
+        List<TeatimeBoard> teatimeBoards = new ArrayList<>();
+        for (int i = 0; i < BOARD_COUNT; i++) {
+            teatimeBoards.add(teatimeBoardRepository.save(TeatimeBoard.builder()
+                    .title("Title" + i)
+                    .content("Content" + i)
+                    .maxParticipants(10)
+                    .endDate(baseEndDate.plusDays(i % 5))
+                    .broadcastDate(baseEndDate.plusWeeks(1L))
+                    .user(user)
+                    .build()));
+        }
+        return teatimeBoards;
+    }
+}
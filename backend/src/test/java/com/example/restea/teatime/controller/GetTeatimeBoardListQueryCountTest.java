@@ -0,0 +1,169 @@
+package com.example.restea.teatime.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.restea.oauth2.dto.CustomOAuth2User;
+import com.example.restea.oauth2.service.CustomOAuth2UserService;
+import com.example.restea.teatime.entity.TeatimeBoard;
+import com.example.restea.teatime.entity.TeatimeParticipant;
+import com.example.restea.teatime.repository.TeatimeBoardRepository;
+import com.example.restea.teatime.repository.TeatimeParticipantRepository;
+import com.example.restea.user.entity.User;
+import com.example.restea.user.repository.UserRepository;
+import com.example.restea.util.HibernateStatisticsTest;
+import com.example.restea.util.SecurityTestUtil;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@HibernateStatisticsTest
+@AutoConfigureMockMvc
+public class GetTeatimeBoardListQueryCountTest {
+
+    // 목록 조회 쿼리 + 전체 개수 쿼리 + 참여자 수 GROUP BY 쿼리
+    private static final long MAX_LIST_STATEMENTS = 3;
+    // 유저 검증 쿼리 + 위의 쿼리
+    private static final long MAX_MY_PAGE_STATEMENTS = 4;
+    private static final int BOARD_COUNT = 10;
+    private static final int PARTICIPANTS_PER_BOARD = 3;
+
+    private final WebApplicationContext context;
+    private final TeatimeBoardRepository teatimeBoardRepository;
+    private final TeatimeParticipantRepository teatimeParticipantRepository;
+    private final UserRepository userRepository;
+    private final CustomOAuth2UserService customOAuth2UserService;
+    private final Statistics statistics;
+    protected MockMvc mockMvc;
+    private CustomOAuth2User customOAuth2User;
+
+    @Autowired
+    public GetTeatimeBoardListQueryCountTest(MockMvc mockMvc, WebApplicationContext context,
+                                             TeatimeBoardRepository teatimeBoardRepository,
+                                             TeatimeParticipantRepository teatimeParticipantRepository,
+                                             UserRepository userRepository,
+                                             CustomOAuth2UserService customOAuth2UserService,
+                                             EntityManagerFactory entityManagerFactory) {
+        this.mockMvc = mockMvc;
+        this.context = context;
+        this.teatimeBoardRepository = teatimeBoardRepository;
+        this.teatimeParticipantRepository = teatimeParticipantRepository;
+        this.userRepository = userRepository;
+        this.customOAuth2UserService = customOAuth2UserService;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Transactional
+    @BeforeEach
+    public void mockMvcSetUp() {
+        teatimeParticipantRepository.deleteAll();
+        teatimeBoardRepository.deleteAll();
+        userRepository.deleteAll();
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @BeforeEach
+    public void OAuth2UserSetup() {
+        customOAuth2User = customOAuth2UserService.handleNewUser("authId", "authToken", "picture");
+        SecurityTestUtil.setUpSecurityContext(customOAuth2User);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        teatimeParticipantRepository.deleteAll();
+        teatimeBoardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("getTeatimeBoardList : 참여자가 있는 게시글 목록도 고정된 개수의 쿼리로 조회")
+    public void getTeatimeBoardList_ConstantStatements() throws Exception {
+        // given
+        createBoardsWithParticipants();
+        statistics.clear();
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/teatimes")
+                .param("sort", "latest")
+                .param("perPage", String.valueOf(BOARD_COUNT))
+                .param("page", "1")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions.andExpect(status().isOk());
+        resultActions.andExpect(jsonPath("$.data.length()").value(BOARD_COUNT));
+        for (int i = 0; i < BOARD_COUNT; i++) {
+            resultActions.andExpect(jsonPath("$.data[" + i + "].participants").value(PARTICIPANTS_PER_BOARD));
+        }
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_LIST_STATEMENTS);
+    }
+
+    @Test
+    @DisplayName("getTeatimeBoardList : 내가 작성한 티타임 목록도 고정된 개수의 쿼리로 조회")
+    public void getMyPageTeatimeBoardList_ConstantStatements() throws Exception {
+        // given
+        createBoardsWithParticipants();
+        statistics.clear();
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                get("/api/v1/users/" + customOAuth2User.getUserId() + "/mypage/teatimes")
+                        .param("perPage", String.valueOf(BOARD_COUNT))
+                        .param("page", "1")
+                        .contentType(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions.andExpect(status().isOk());
+        resultActions.andExpect(jsonPath("$.data.length()").value(BOARD_COUNT));
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_MY_PAGE_STATEMENTS);
+    }
+
+    private void createBoardsWithParticipants() {
+        User writer = userRepository.findByAuthIdAndActivated("authId", true)
+                .orElseThrow(() -> new RuntimeException("테스트를 위한 유저 생성 실패"));
+
+        List<User> participants = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANTS_PER_BOARD; i++) {
+            participants.add(userRepository.save(User.builder()
+                    .nickname("otherUser" + i)
+                    .authId("otherAuthId" + i)
+                    .build()));
+        }
+
+        for (int i = 0; i < BOARD_COUNT; i++) {
+            TeatimeBoard teatimeBoard = teatimeBoardRepository.save(TeatimeBoard.builder()
+                    .title("Title" + i)
+                    .content("Content" + i)
+                    .maxParticipants(10)
+                    .endDate(LocalDateTime.now().plusWeeks(1L))
+                    .broadcastDate(LocalDateTime.now().plusWeeks(2L))
+                    .user(writer)
+                    .build());
+
+            participants.forEach(participant -> teatimeParticipantRepository.save(TeatimeParticipant.builder()
+                    .name("name")
+                    .phone("010-1234-5678")
+                    .address("address")
+                    .teatimeBoard(teatimeBoard)
+                    .user(participant)
+                    .build()));
+        }
+    }
+}
@@ -1,23 +1,27 @@
 package com.example.restea.teatime.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-import com.example.restea.ResteaApplication;
 import com.example.restea.oauth2.dto.CustomOAuth2User;
 import com.example.restea.oauth2.service.CustomOAuth2UserService;
 import com.example.restea.teatime.entity.TeatimeBoard;
 import com.example.restea.teatime.repository.TeatimeBoardRepository;
 import com.example.restea.user.entity.User;
 import com.example.restea.user.repository.UserRepository;
+import com.example.restea.util.HibernateStatisticsTest;
 import com.example.restea.util.SecurityTestUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.transaction.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,22 +31,20 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
-import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
-import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
-@SpringBootTest
-@ContextConfiguration(classes = ResteaApplication.class)
+@HibernateStatisticsTest
 @AutoConfigureMockMvc
 class GetTeatimeBoardListTest {
     private final WebApplicationContext context;
     private final TeatimeBoardRepository teatimeBoardRepository;
     private final UserRepository userRepository;
     private final CustomOAuth2UserService customOAuth2UserService;
+    private final Statistics statistics;
     protected MockMvc mockMvc;
     protected ObjectMapper objectMapper;
     private CustomOAuth2User customOAuth2User;
@@ -50,13 +52,15 @@ class GetTeatimeBoardListTest {
     @Autowired
     public GetTeatimeBoardListTest(MockMvc mockMvc, ObjectMapper objectMapper, WebApplicationContext context,
                                    TeatimeBoardRepository teatimeBoardRepository, UserRepository userRepository,
-                                   CustomOAuth2UserService customOAuth2UserService) {
+                                   CustomOAuth2UserService customOAuth2UserService,
+                                   EntityManagerFactory entityManagerFactory) {
         this.mockMvc = mockMvc;
         this.objectMapper = objectMapper;
         this.context = context;
         this.teatimeBoardRepository = teatimeBoardRepository;
         this.userRepository = userRepository;
         this.customOAuth2UserService = customOAuth2UserService;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
     }
 
     private static Stream<Arguments> keywordSearchParameters() {
@@ -265,6 +269,40 @@ class GetTeatimeBoardListTest {
         }
     }
 
+    @DisplayName("getTeatimeBoardList : 작성자가 여러 명이어도 작성자를 따로 조회하지 않는다.")
+    @Test
+    public void getTeatimeBoardList_WriterFetchJoin() throws Exception {
+        // given
+        List<User> writers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            writers.add(userRepository.save(User.builder().nickname("writer" + i).authId("writerAuthId" + i).build()));
+        }
+        for (int i = 0; i < 10; i++) {
+            teatimeBoardRepository.save(TeatimeBoard.builder()
+                    .title("Title" + i)
+                    .content("Content" + i)
+                    .maxParticipants(10)
+                    .endDate(LocalDateTime.now().plusWeeks(1L))
+                    .broadcastDate(LocalDateTime.now().plusWeeks(2L))
+                    .user(writers.get(i % writers.size()))
+                    .build());
+        }
+
+        statistics.clear();
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/teatimes")
+                .param("sort", "latest")
+                .param("perPage", "10")
+                .param("page", "1")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions.andExpect(status().isOk());
+        resultActions.andExpect(jsonPath("$.data.length()").value(10));
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getFetchCount()).isZero();
+    }
+
     @DisplayName("getTeatimeBoardList : 키워드 검색 테스트")
     @ParameterizedTest(name = "{index} => searchBy={0}, keyword={1}, page={2}, perPage={3}, expectedCount={4}")
     @MethodSource("keywordSearchParameters")
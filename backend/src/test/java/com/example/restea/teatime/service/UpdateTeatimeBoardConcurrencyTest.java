@@ -0,0 +1,143 @@
+package com.example.restea.teatime.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.restea.ResteaApplication;
+import com.example.restea.teatime.dto.TeatimeJoinRequest;
+import com.example.restea.teatime.dto.TeatimeUpdateRequest;
+import com.example.restea.teatime.entity.TeatimeBoard;
+import com.example.restea.teatime.repository.TeatimeBoardRepository;
+import com.example.restea.teatime.repository.TeatimeParticipantRepository;
+import com.example.restea.user.entity.User;
+import com.example.restea.user.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@ContextConfiguration(classes = ResteaApplication.class)
+public class UpdateTeatimeBoardConcurrencyTest {
+
+    private final TeatimeService teatimeService;
+    private final TeatimeParticipantService teatimeParticipantService;
+    private final TeatimeBoardRepository teatimeBoardRepository;
+    private final TeatimeParticipantRepository teatimeParticipantRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private User writer;
+    private User participant;
+    private TeatimeBoard teatimeBoard;
+
+    @Autowired
+    public UpdateTeatimeBoardConcurrencyTest(TeatimeService teatimeService,
+                                             TeatimeParticipantService teatimeParticipantService,
+                                             TeatimeBoardRepository teatimeBoardRepository,
+                                             TeatimeParticipantRepository teatimeParticipantRepository,
+                                             UserRepository userRepository,
+                                             PlatformTransactionManager transactionManager) {
+        this.teatimeService = teatimeService;
+        this.teatimeParticipantService = teatimeParticipantService;
+        this.teatimeBoardRepository = teatimeBoardRepository;
+        this.teatimeParticipantRepository = teatimeParticipantRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @BeforeEach
+    public void setUp() {
+        deleteAll();
+        writer = userRepository.save(User.builder().nickname("writer").authId("writerAuthId").build());
+        participant = userRepository.save(User.builder().nickname("participant").authId("participantAuthId").build());
+        teatimeBoard = teatimeBoardRepository.save(TeatimeBoard.builder()
+                .title("TestTitle")
+                .content("TestContent")
+                .maxParticipants(3)
+                .endDate(LocalDateTime.now().plusWeeks(1L))
+                .broadcastDate(LocalDateTime.now().plusWeeks(2L))
+                .user(writer)
+                .build());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        deleteAll();
+    }
+
+    @Test
+    @DisplayName("updateTeatimeBoard : 게시글을 수정하는 동안 커밋된 참여 신청의 참여자 수를 덮어쓰지 않는다")
+    public void updateTeatimeBoard_KeepsConcurrentParticipantCount() {
+        // given
+        TeatimeUpdateRequest request = new TeatimeUpdateRequest("UpdatedTitle", "UpdatedContent",
+                LocalDateTime.now().plusWeeks(1L), LocalDateTime.now().plusWeeks(2L), 3, null);
+
+        // when : 수정 트랜잭션이 게시글을 읽은 뒤, 커밋하기 전에 다른 트랜잭션의 참여 신청이 커밋된다.
+        transactionTemplate.executeWithoutResult(status -> {
+            teatimeService.getOnlyTeatimeBoard(teatimeBoard.getId());
+            CompletableFuture.runAsync(() -> teatimeParticipantService.addParticipant(teatimeBoard.getId(),
+                    new TeatimeJoinRequest("홍길동", "01012345678", "경상북도 구미시 어떤7길 어떤타운 123호"),
+                    participant.getId())).join();
+            teatimeService.updateTeatimeBoard(teatimeBoard.getId(), request, writer.getId());
+        });
+
+        // then
+        TeatimeBoard result = teatimeBoardRepository.findById(teatimeBoard.getId())
+                .orElseThrow(() -> new RuntimeException("게시글 조회 실패"));
+        assertThat(result.getTitle()).isEqualTo("UpdatedTitle");
+        assertThat(result.getParticipantCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("updateTeatimeBoard : 게시글을 수정하는 동안 반영된 조회수를 덮어쓰지 않는다")
+    public void updateTeatimeBoard_KeepsConcurrentViewCount() {
+        // given
+        TeatimeUpdateRequest request = new TeatimeUpdateRequest("UpdatedTitle", "UpdatedContent",
+                LocalDateTime.now().plusWeeks(1L), LocalDateTime.now().plusWeeks(2L), 3, null);
+
+        // when : 수정 트랜잭션이 게시글을 읽은 뒤, 커밋하기 전에 모아둔 조회수가 반영된다.
+        transactionTemplate.executeWithoutResult(status -> {
+            teatimeService.getOnlyTeatimeBoard(teatimeBoard.getId());
+            CompletableFuture.runAsync(() -> teatimeBoardRepository.addViewCount(3, List.of(teatimeBoard.getId())))
+                    .join();
+            teatimeService.updateTeatimeBoard(teatimeBoard.getId(), request, writer.getId());
+        });
+
+        // then
+        TeatimeBoard result = teatimeBoardRepository.findById(teatimeBoard.getId())
+                .orElseThrow(() -> new RuntimeException("게시글 조회 실패"));
+        assertThat(result.getTitle()).isEqualTo("UpdatedTitle");
+        assertThat(result.getViewCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("deactivateTeatimeBoard : 참여기록을 지우면서 참여자 수도 0으로 맞춘다")
+    public void deactivateTeatimeBoard_ResetParticipantCount() {
+        // given
+        teatimeParticipantService.addParticipant(teatimeBoard.getId(),
+                new TeatimeJoinRequest("홍길동", "01012345678", "경상북도 구미시 어떤7길 어떤타운 123호"), participant.getId());
+
+        // when
+        teatimeService.deactivateTeatimeBoard(teatimeBoard.getId(), writer.getId());
+
+        // then
+        TeatimeBoard result = teatimeBoardRepository.findById(teatimeBoard.getId())
+                .orElseThrow(() -> new RuntimeException("게시글 조회 실패"));
+        assertThat(result.getParticipantCount()).isZero();
+        assertThat(teatimeParticipantRepository.count()).isZero();
+    }
+
+    private void deleteAll() {
+        teatimeParticipantRepository.deleteAll();
+        teatimeBoardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+}
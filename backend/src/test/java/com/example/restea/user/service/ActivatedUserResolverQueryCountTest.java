@@ -0,0 +1,140 @@
+package com.example.restea.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.restea.oauth2.dto.CustomOAuth2User;
+import com.example.restea.oauth2.service.CustomOAuth2UserService;
+import com.example.restea.share.entity.ShareBoard;
+import com.example.restea.share.repository.ShareBoardRepository;
+import com.example.restea.user.entity.User;
+import com.example.restea.user.repository.UserRepository;
+import com.example.restea.util.HibernateStatisticsTest;
+import com.example.restea.util.SecurityTestUtil;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@HibernateStatisticsTest
+@AutoConfigureMockMvc
+public class ActivatedUserResolverQueryCountTest {
+
+    private final WebApplicationContext context;
+    private final ShareBoardRepository shareBoardRepository;
+    private final UserRepository userRepository;
+    private final CustomOAuth2UserService customOAuth2UserService;
+    private final ActivatedUserResolver activatedUserResolver;
+    private final Statistics statistics;
+    protected MockMvc mockMvc;
+    private CustomOAuth2User customOAuth2User;
+
+    @Autowired
+    public ActivatedUserResolverQueryCountTest(MockMvc mockMvc, WebApplicationContext context,
+                                               ShareBoardRepository shareBoardRepository,
+                                               UserRepository userRepository,
+                                               CustomOAuth2UserService customOAuth2UserService,
+                                               ActivatedUserResolver activatedUserResolver,
+                                               EntityManagerFactory entityManagerFactory) {
+        this.mockMvc = mockMvc;
+        this.context = context;
+        this.shareBoardRepository = shareBoardRepository;
+        this.userRepository = userRepository;
+        this.customOAuth2UserService = customOAuth2UserService;
+        this.activatedUserResolver = activatedUserResolver;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Transactional
+    @BeforeEach
+    public void mockMvcSetUp() {
+        shareBoardRepository.deleteAll();
+        userRepository.deleteAll();
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @BeforeEach
+    public void OAuth2UserSetup() {
+        customOAuth2User = customOAuth2UserService.handleNewUser("authId", "authToken", "picture");
+        SecurityTestUtil.setUpSecurityContext(customOAuth2User);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        shareBoardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("getActivatedUser : 활성화 여부가 캐싱된 유저는 다음 요청에서 users 테이블을 다시 조회하지 않는다")
+    public void getActivatedUser_CachedWithoutUserLoad() throws Exception {
+        // given
+        ShareBoard shareBoard = createShareBoardOfOtherUser();
+        String url = "/api/v1/shares/" + shareBoard.getId() + "/participants/" + customOAuth2User.getUserId();
+        performGet(url).andExpect(status().isOk());
+        statistics.clear();
+
+        // when
+        ResultActions resultActions = performGet(url);
+
+        // then
+        resultActions.andExpect(status().isOk());
+        resultActions.andExpect(jsonPath("$.data.participated").value(false));
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("getActivatedUser : 탈퇴해서 캐시가 삭제된 유저는 다음 요청에서 거부된다")
+    public void getActivatedUser_InvalidatedAfterWithdraw() throws Exception {
+        // given
+        ShareBoard shareBoard = createShareBoardOfOtherUser();
+        String url = "/api/v1/shares/" + shareBoard.getId() + "/participants/" + customOAuth2User.getUserId();
+        performGet(url).andExpect(status().isOk());
+
+        User user = userRepository.findById(customOAuth2User.getUserId())
+                .orElseThrow(() -> new RuntimeException("테스트를 위한 유저 생성 실패"));
+        user.deactivate();
+        userRepository.save(user);
+        activatedUserResolver.invalidate(user.getId());
+
+        // when
+        ResultActions resultActions = performGet(url);
+
+        // then
+        resultActions.andExpect(status().isUnauthorized());
+    }
+
+    private ResultActions performGet(String url) throws Exception {
+        return mockMvc.perform(get(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON));
+    }
+
+    private ShareBoard createShareBoardOfOtherUser() {
+        User writer = userRepository.save(User.builder()
+                .nickname("writer")
+                .authId("writerAuthId")
+                .build());
+        return shareBoardRepository.save(ShareBoard.builder()
+                .title("Title")
+                .content("Content")
+                .maxParticipants(3)
+                .endDate(LocalDateTime.now().plusWeeks(1L))
+                .user(writer)
+                .build());
+    }
+}
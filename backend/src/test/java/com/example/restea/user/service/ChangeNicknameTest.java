@@ -171,12 +171,12 @@ public class ChangeNicknameTest {
         Cookie refreshTokenCookie = result.andReturn().getResponse().getCookie(REFRESH.getType());
 
         assertThat(refreshTokenCookie).isNotNull();
-        assertEquals(jwtUtil.getNickname(refreshTokenCookie.getValue()), nickname.trim());
+        assertEquals(jwtUtil.parseClaims(refreshTokenCookie.getValue()).getNickname(), nickname.trim());
 
         String accessTokenHeader = result.andReturn().getResponse().getHeader(ACCESS.getType());
 
         assertThat(accessTokenHeader).isNotNull();
-        assertEquals(jwtUtil.getNickname(accessTokenHeader.substring(7)), nickname.trim());
+        assertEquals(jwtUtil.parseClaims(accessTokenHeader.substring(7)).getNickname(), nickname.trim());
     }
 
     @ParameterizedTest(name = "{index}: {0}")
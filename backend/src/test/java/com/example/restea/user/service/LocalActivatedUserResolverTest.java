@@ -0,0 +1,114 @@
+package com.example.restea.user.service;
+
+import static com.example.restea.user.enums.UserMessage.USER_NOT_FOUND;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.restea.user.entity.User;
+import com.example.restea.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("Local Activated User Resolver")
+@ExtendWith(MockitoExtension.class)
+class LocalActivatedUserResolverTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    private LocalActivatedUserResolver activatedUserResolver;
+
+    @BeforeEach
+    void setUp() {
+        activatedUserResolver = new LocalActivatedUserResolver(userRepository, entityManagerFactory, 30, 100);
+        // 영속성 컨텍스트가 열려 있어야 캐싱된 유저를 프록시로 반환한다.
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new Object());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+    }
+
+    @Test
+    @DisplayName("getActivatedUser : 활성화된 유저로 캐싱되면 DB를 조회하지 않고 프록시를 반환한다")
+    void getActivatedUser_Cached() {
+        // given
+        User user = activatedUser();
+        User proxy = activatedUser();
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(userRepository.getReferenceById(1)).thenReturn(proxy);
+
+        // when
+        User first = getActivatedUser(1);
+        User second = getActivatedUser(1);
+
+        // then
+        assertSame(user, first);
+        assertSame(proxy, second);
+        verify(userRepository, times(1)).findById(1);
+    }
+
+    @Test
+    @DisplayName("getActivatedUser : DB에서 불러오는 동안 invalidate 되었다면 캐싱하지 않는다")
+    void getActivatedUser_InvalidatedWhileLoading_NotCached() {
+        // given : 활성화 상태를 읽은 직후 탈퇴가 커밋되어 invalidate 된다.
+        User user = activatedUser();
+        when(userRepository.findById(1))
+                .thenAnswer(invocation -> {
+                    activatedUserResolver.invalidate(1);
+                    return Optional.of(user);
+                })
+                .thenReturn(Optional.of(user));
+
+        // when
+        getActivatedUser(1);
+        getActivatedUser(1);
+
+        // then
+        verify(userRepository, times(2)).findById(1);
+    }
+
+    @Test
+    @DisplayName("invalidate : 캐싱된 유저를 지워서 다시 DB로 확인한다")
+    void invalidate_Reload() {
+        // given
+        User user = activatedUser();
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        getActivatedUser(1);
+
+        // when
+        activatedUserResolver.invalidate(1);
+        getActivatedUser(1);
+
+        // then
+        verify(userRepository, times(2)).findById(1);
+    }
+
+    private User getActivatedUser(Integer userId) {
+        return activatedUserResolver.getActivatedUser(userId, HttpStatus.NOT_FOUND, USER_NOT_FOUND);
+    }
+
+    private User activatedUser() {
+        User user = User.builder()
+                .nickname("nickname")
+                .authId("authId")
+                .build();
+        ReflectionTestUtils.setField(user, "activated", true);
+        return user;
+    }
+}
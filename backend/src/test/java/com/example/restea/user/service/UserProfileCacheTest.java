@@ -0,0 +1,128 @@
+package com.example.restea.user.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.restea.user.entity.User;
+import com.example.restea.user.repository.UserRepository;
+import com.example.restea.user.service.UserProfileCache.UserProfile;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("User Profile Cache")
+@ExtendWith(MockitoExtension.class)
+class UserProfileCacheTest {
+
+    private static final int MAX_SIZE = 2;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserProfileCache userProfileCache;
+
+    @BeforeEach
+    void setUp() {
+        userProfileCache = new UserProfileCache(userRepository, MAX_SIZE);
+    }
+
+    @Test
+    @DisplayName("get : 한 번 불러온 프로필은 DB를 다시 조회하지 않는다")
+    void get_Cached() {
+        // given
+        when(userRepository.findById(1)).thenReturn(Optional.of(user("nickname")));
+
+        // when
+        UserProfile first = userProfileCache.get(1);
+        UserProfile second = userProfileCache.get(1);
+
+        // then
+        assertEquals("nickname", first.nickname());
+        assertEquals(first, second);
+        verify(userRepository, times(1)).findById(1);
+    }
+
+    @Test
+    @DisplayName("invalidate : 닉네임이 바뀌면 다시 불러온다")
+    void invalidate_Reload() {
+        // given
+        when(userRepository.findById(1))
+                .thenReturn(Optional.of(user("nickname")))
+                .thenReturn(Optional.of(user("newNickname")));
+        userProfileCache.get(1);
+
+        // when
+        userProfileCache.invalidate(1);
+
+        // then
+        assertEquals("newNickname", userProfileCache.get(1).nickname());
+        verify(userRepository, times(2)).findById(1);
+    }
+
+    @Test
+    @DisplayName("get : DB에서 불러오는 동안 invalidate 되었다면 불러온 값을 캐싱하지 않는다")
+    void get_InvalidatedWhileLoading_NotCached() {
+        // given : 이전 닉네임을 읽은 직후 닉네임 변경이 커밋되어 invalidate 된다.
+        when(userRepository.findById(1))
+                .thenAnswer(invocation -> {
+                    User stale = user("nickname");
+                    userProfileCache.invalidate(1);
+                    return Optional.of(stale);
+                })
+                .thenReturn(Optional.of(user("newNickname")));
+
+        // when
+        UserProfile loading = userProfileCache.get(1);
+        UserProfile reloaded = userProfileCache.get(1);
+
+        // then
+        assertEquals("nickname", loading.nickname());
+        assertEquals("newNickname", reloaded.nickname());
+        verify(userRepository, times(2)).findById(1);
+    }
+
+    @Test
+    @DisplayName("get : 최대 개수를 넘으면 가장 오래 쓰이지 않은 유저부터 제거")
+    void get_EvictLeastRecentlyUsed() {
+        // given
+        when(userRepository.findById(1)).thenReturn(Optional.of(user("nickname1")));
+        when(userRepository.findById(2)).thenReturn(Optional.of(user("nickname2")));
+        when(userRepository.findById(3)).thenReturn(Optional.of(user("nickname3")));
+        userProfileCache.get(1);
+        userProfileCache.get(2);
+        userProfileCache.get(1); // 2가 가장 오래 쓰이지 않은 유저가 된다.
+
+        // when
+        userProfileCache.get(3);
+        userProfileCache.get(2);
+
+        // then
+        verify(userRepository, times(1)).findById(1);
+        verify(userRepository, times(2)).findById(2);
+    }
+
+    @Test
+    @DisplayName("get : 없는 유저라면 null 반환")
+    void get_NotFound() {
+        // given
+        when(userRepository.findById(1)).thenReturn(Optional.empty());
+
+        // when & then
+        assertNull(userProfileCache.get(1));
+    }
+
+    private User user(String nickname) {
+        return User.builder()
+                .nickname(nickname)
+                .authId("authId")
+                .picture("picture")
+                .build();
+    }
+}
@@ -11,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.example.restea.oauth2.entity.AuthToken;
 import com.example.restea.oauth2.entity.RefreshToken;
 import com.example.restea.oauth2.repository.AuthTokenRepository;
+import com.example.restea.oauth2.repository.GoogleRevocationRepository;
 import com.example.restea.oauth2.repository.RefreshTokenRepository;
 import com.example.restea.record.entity.Record;
 import com.example.restea.record.repository.RecordRepository;
@@ -57,6 +58,7 @@ class UserServiceTest {
     private final TeatimeBoardRepository teatimeBoardRepository;
     private final TeatimeCommentRepository teatimeCommentRepository;
     private final TeatimeReplyRepository teatimeReplyRepository;
+    private final GoogleRevocationRepository googleRevocationRepository;
     private final UserService userService;
 
     @Autowired
@@ -73,7 +75,8 @@ class UserServiceTest {
                            ShareCommentRepository shareCommentRepository, ShareReplyRepository shareReplyRepository,
                            TeatimeBoardRepository teatimeBoardRepository,
                            TeatimeCommentRepository teatimeCommentRepository,
-                           TeatimeReplyRepository teatimeReplyRepository, UserService userService) {
+                           TeatimeReplyRepository teatimeReplyRepository,
+                           GoogleRevocationRepository googleRevocationRepository, UserService userService) {
         this.userRepository = userRepository;
         this.shareParticipantRepository = shareParticipantRepository;
         this.teatimeParticipantRepository = teatimeParticipantRepository;
@@ -86,6 +89,7 @@ class UserServiceTest {
         this.teatimeBoardRepository = teatimeBoardRepository;
         this.teatimeCommentRepository = teatimeCommentRepository;
         this.teatimeReplyRepository = teatimeReplyRepository;
+        this.googleRevocationRepository = googleRevocationRepository;
         this.userService = userService;
     }
 
@@ -124,6 +128,10 @@ class UserServiceTest {
         assertNull(deletedUser.getRefreshToken());
         assertTrue(refreshTokenRepository.findAll().get(0).getRevoked());
 
+        // 구글 OAuth2 해제 요청이 outbox에 저장되었는지 확인
+        assertTrue(googleRevocationRepository.findAll().stream()
+                .anyMatch(revocation -> revocation.getToken().equals("testAuthToken")));
+
         // Record 제거 확인
         assertTrue(recordRepository.findAll().isEmpty());
 
@@ -0,0 +1,48 @@
+package com.example.restea.util;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 대량의 행이 있는 상황을 재현하는 테스트에서 JPA를 거치지 않고 JDBC 배치로 행을 넣는 유틸.
+ */
+public class BulkInsertTestUtil {
+
+    // 테스트 중 JPA로 저장하는 행과 id가 겹치지 않도록 대량으로 넣는 행은 이 값부터 id를 붙인다.
+    public static final int ID_OFFSET = 10_000_000;
+
+    /**
+     * sql을 count번 실행하도록 batchSize 단위로 나눠서 배치 INSERT 한다.
+     *
+     * @param jdbcTemplate JdbcTemplate
+     * @param sql          INSERT 문
+     * @param count        넣을 행 수
+     * @param batchSize    한 번의 배치로 보낼 행 수
+     * @param rowSetter    i번째 행의 값을 채우는 함수
+     */
+    public static void batchInsert(JdbcTemplate jdbcTemplate, String sql, int count, int batchSize,
+                                   RowSetter rowSetter) {
+        for (int start = 0; start < count; start += batchSize) {
+            int batchStart = start;
+            int size = Math.min(batchSize, count - start);
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int index) throws SQLException {
+                    rowSetter.setValues(ps, batchStart + index);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+        }
+    }
+
+    @FunctionalInterface
+    public interface RowSetter {
+        void setValues(PreparedStatement ps, int i) throws SQLException;
+    }
+}
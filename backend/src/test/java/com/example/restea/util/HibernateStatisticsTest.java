@@ -0,0 +1,20 @@
+package com.example.restea.util;
+
+import com.example.restea.ResteaApplication;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * 쿼리 수를 세는 테스트용 @SpringBootTest. Hibernate 통계를 켠 설정을 한 곳에 두어 이 어노테이션을 쓰는 테스트끼리 같은 컨텍스트를 재사용한다. 다른 설정이 더 필요하면
+ * {@code @TestPropertySource}로 덧붙인다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ContextConfiguration(classes = ResteaApplication.class)
+public @interface HibernateStatisticsTest {
+}